@@ -16,6 +16,7 @@
 
 package org.vividus.bdd.report.allure;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.EnumMap;
@@ -27,6 +28,8 @@ import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -43,6 +46,8 @@ import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
 import org.jbehave.core.steps.StepCollector.Stage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.vividus.bdd.ChainedStoryReporter;
 import org.vividus.bdd.JBehaveFailureUnwrapper;
 import org.vividus.bdd.batch.BatchStorage;
@@ -77,6 +82,9 @@ import io.qameta.allure.util.ResultsUtils;
 public class AllureStoryReporter extends ChainedStoryReporter implements IAllureStepReporter
 {
     private static final String CURRENT_STEP_KEY = "allureCurrentLinkedStep";
+    private static final String PENDING_ATTACHMENTS_KEY = "allurePendingAttachments";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AllureStoryReporter.class);
 
     private final AllureLifecycle lifecycle = Allure.getLifecycle();
     private IAllureReportGenerator allureReportGenerator;
@@ -333,6 +341,14 @@ public class AllureStoryReporter extends ChainedStoryReporter implements IAllure
             allureRunContext.resetCurrentStoryLabels(givenStory);
             allureRunContext.resetExecutionStages();
         }
+        if (!givenStory)
+        {
+            Set<CompletableFuture<Void>> pendingAttachments = testContext.get(PENDING_ATTACHMENTS_KEY);
+            if (pendingAttachments != null)
+            {
+                CompletableFuture.allOf(pendingAttachments.toArray(CompletableFuture[]::new)).join();
+            }
+        }
     }
 
     public void addLogStep(String logLevel, String logEntry)
@@ -414,7 +430,25 @@ public class AllureStoryReporter extends ChainedStoryReporter implements IAllure
     public void onAttachmentPublish(AttachmentPublishEvent event)
     {
         Attachment attachment = event.getAttachment();
-        lifecycle.addAttachment(attachment.getTitle(), attachment.getContentType(), null, attachment.getContent());
+        if (attachment.isContentAvailable())
+        {
+            lifecycle.addAttachment(attachment.getTitle(), attachment.getContentType(), null,
+                    attachment.getContent());
+            return;
+        }
+        String source = lifecycle.prepareAttachment(attachment.getTitle(), attachment.getContentType(), null);
+        CompletableFuture<Void> write = attachment.getAsyncContent()
+                .thenAccept(content -> lifecycle.writeAttachment(source, new ByteArrayInputStream(content)))
+                .exceptionally(e ->
+                {
+                    LOGGER.error("Unable to write attachment '{}'", attachment.getTitle(), e);
+                    return null;
+                });
+        // The attachments are published by the story thread, so only the story ones are awaited at its end
+        Set<CompletableFuture<Void>> pendingAttachments = testContext.get(PENDING_ATTACHMENTS_KEY,
+                ConcurrentHashMap::newKeySet);
+        pendingAttachments.add(write);
+        write.thenRun(() -> pendingAttachments.remove(write));
     }
 
     private void startBddStep(String stepTitle)
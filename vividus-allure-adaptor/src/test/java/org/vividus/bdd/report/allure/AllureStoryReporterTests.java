@@ -17,9 +17,11 @@
 package org.vividus.bdd.report.allure;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -35,6 +37,10 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -44,6 +50,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -86,10 +93,13 @@ import org.vividus.bdd.report.allure.adapter.IVerificationErrorAdapter;
 import org.vividus.bdd.report.allure.model.ScenarioExecutionStage;
 import org.vividus.bdd.report.allure.model.StatusPriority;
 import org.vividus.bdd.report.allure.model.StoryExecutionStage;
+import org.vividus.reporter.event.AttachmentPublishEvent;
+import org.vividus.reporter.model.Attachment;
 import org.vividus.softassert.exception.VerificationError;
 import org.vividus.softassert.model.KnownIssue;
 import org.vividus.testcontext.SimpleTestContext;
 import org.vividus.testcontext.TestContext;
+import org.vividus.testcontext.ThreadedTestContext;
 
 import io.qameta.allure.AllureLifecycle;
 import io.qameta.allure.entity.LabelName;
@@ -129,6 +139,10 @@ class AllureStoryReporterTests
     private static final String TMS_LINK_PREFIX = "https://tms/";
 
     private static final String LIFECYCLE_BEFORE_STORY = "Lifecycle: Before story";
+    private static final String ATTACHMENT_TITLE = "screenshot";
+    private static final String ATTACHMENT_FILE = ATTACHMENT_TITLE + ".png";
+    private static final String ATTACHMENT_TYPE = "image/png";
+    private static final String ATTACHMENT_CONTENT = "content";
     private static final String LIFECYCLE_AFTER_STORY = "Lifecycle: After story";
 
     private static final String TEST_CASE_ID = "testCaseId";
@@ -1135,6 +1149,45 @@ class AllureStoryReporterTests
         return runningScenario;
     }
 
+    @Test
+    void shouldAddAttachmentWithAvailableContent()
+    {
+        byte[] content = ATTACHMENT_CONTENT.getBytes(StandardCharsets.UTF_8);
+        allureStoryReporter.onAttachmentPublish(new AttachmentPublishEvent(new Attachment(content, ATTACHMENT_FILE)));
+        verify(allureLifecycle).addAttachment(ATTACHMENT_TITLE, ATTACHMENT_TYPE, null, content);
+    }
+
+    @Test
+    void shouldWriteDeferredAttachmentOnceContentIsAvailable() throws IOException
+    {
+        allureStoryReporter.setTestContext(new ThreadedTestContext());
+        CompletableFuture<byte[]> content = new CompletableFuture<>();
+        String source = "source";
+        when(allureLifecycle.prepareAttachment(ATTACHMENT_TITLE, ATTACHMENT_TYPE, null)).thenReturn(source);
+        allureStoryReporter.onAttachmentPublish(new AttachmentPublishEvent(new Attachment(content, ATTACHMENT_FILE)));
+        verify(allureLifecycle, never()).writeAttachment(eq(source), any(InputStream.class));
+        byte[] data = ATTACHMENT_CONTENT.getBytes(StandardCharsets.UTF_8);
+        content.complete(data);
+        mockRunningStory(false);
+        allureStoryReporter.afterStory(false);
+        ArgumentCaptor<InputStream> streamCaptor = ArgumentCaptor.forClass(InputStream.class);
+        verify(allureLifecycle).writeAttachment(eq(source), streamCaptor.capture());
+        assertArrayEquals(data, streamCaptor.getValue().readAllBytes());
+    }
+
+    @Test
+    void shouldNotAwaitAttachmentsOfOtherStories()
+    {
+        allureStoryReporter.setTestContext(new ThreadedTestContext());
+        CompletableFuture<byte[]> content = new CompletableFuture<>();
+        when(allureLifecycle.prepareAttachment(ATTACHMENT_TITLE, ATTACHMENT_TYPE, null)).thenReturn("source");
+        CompletableFuture.runAsync(() -> allureStoryReporter.onAttachmentPublish(
+                new AttachmentPublishEvent(new Attachment(content, ATTACHMENT_FILE)))).join();
+        mockRunningStory(false);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> allureStoryReporter.afterStory(false));
+        verify(allureLifecycle, never()).writeAttachment(any(), any(InputStream.class));
+    }
+
     private void mockRunningStory(boolean allowed)
     {
         RunningStory runningStory = new RunningStory();
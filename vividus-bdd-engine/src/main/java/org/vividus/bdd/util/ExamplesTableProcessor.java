@@ -17,6 +17,7 @@
 package org.vividus.bdd.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -31,6 +32,8 @@ public final class ExamplesTableProcessor
 {
     private static final String VALUE_SEPARATOR_KEY = "valueSeparator";
     private static final String DEFAULT_SEPARATOR_VALUE = "|";
+    private static final String NO_SEPARATOR_ERROR =
+            "There are not alternative value separators applicable for examples table";
 
     private ExamplesTableProcessor()
     {
@@ -91,6 +94,48 @@ public final class ExamplesTableProcessor
     {
         String valueSeparator = checkForValueSeparator ? determineValueSeparator(data, properties)
                 : properties.getValueSeparator();
+        return buildExamplesTable(header, data, properties, valueSeparator, appendTableProperties);
+    }
+
+    /**
+     * Build a table using input <b>headers</b> and <b>rows</b> consumed one by one: each row is appended to the table
+     * as soon as it's consumed, while the value separator not used in the table cells is determined along the way and
+     * inserted at the remembered positions once all rows are consumed
+     *
+     * @param header table headers
+     * @param rows iterator over table rows
+     * @param properties table properties
+     * @return examples table as string
+     */
+    public static String buildExamplesTable(Collection<String> header, Iterator<List<String>> rows,
+            TableProperties properties)
+    {
+        ValueSeparatorDetector valueSeparatorDetector = new ValueSeparatorDetector(properties);
+        String rowSeparator = properties.getRowSeparator();
+        StringBuilder rowsBuilder = new StringBuilder();
+        SeparatorPositions separatorPositions = new SeparatorPositions();
+        while (rows.hasNext())
+        {
+            List<String> row = rows.next();
+            valueSeparatorDetector.accept(row);
+            rowsBuilder.append(rowSeparator);
+            for (String cell : row)
+            {
+                separatorPositions.add(rowsBuilder.length());
+                rowsBuilder.append(cell);
+            }
+            separatorPositions.add(rowsBuilder.length());
+        }
+        String valueSeparator = valueSeparatorDetector.getValueSeparator();
+        StringBuilder examplesTableBuilder = new StringBuilder();
+        appendRow(examplesTableBuilder, header, properties.getHeaderSeparator());
+        separatorPositions.insert(examplesTableBuilder, rowsBuilder, valueSeparator);
+        return examplesTableBuilder.toString();
+    }
+
+    private static String buildExamplesTable(Collection<String> header, List<List<String>> data,
+            TableProperties properties, String valueSeparator, boolean appendTableProperties)
+    {
         StringBuilder examplesTableBuilder = new StringBuilder();
         String rowSeparator = properties.getRowSeparator();
         if (appendTableProperties)
@@ -136,17 +181,9 @@ public final class ExamplesTableProcessor
 
     private static String determineValueSeparator(List<List<String>> data, TableProperties properties)
     {
-        List<String> valueSeparators = List.of(properties.getValueSeparator(), DEFAULT_SEPARATOR_VALUE,
-                "!", "?", "$", "#", "%", "*");
-        for (String separator: valueSeparators)
-        {
-            if (data.stream().flatMap(List::stream).noneMatch(s -> s.contains(separator)))
-            {
-                properties.getProperties().setProperty(VALUE_SEPARATOR_KEY, separator);
-                return separator;
-            }
-        }
-        throw new IllegalArgumentException("There are not alternative value separators applicable for examples table");
+        ValueSeparatorDetector valueSeparatorDetector = new ValueSeparatorDetector(properties);
+        data.forEach(valueSeparatorDetector::accept);
+        return valueSeparatorDetector.getValueSeparator();
     }
 
     private static List<List<String>> transpose(Collection<List<String>> columnsData)
@@ -160,4 +197,82 @@ public final class ExamplesTableProcessor
     {
         return columnsData.stream().map(l -> l.get(rowIndex)).collect(Collectors.toList());
     }
+
+    private static final class SeparatorPositions
+    {
+        private static final int INITIAL_CAPACITY = 64;
+
+        private int[] positions = new int[INITIAL_CAPACITY];
+        private int size;
+
+        private void add(int position)
+        {
+            if (size == positions.length)
+            {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        private void insert(StringBuilder target, CharSequence source, String separator)
+        {
+            int start = 0;
+            for (int i = 0; i < size; i++)
+            {
+                target.append(source, start, positions[i]).append(separator);
+                start = positions[i];
+            }
+            target.append(source, start, source.length());
+        }
+    }
+
+    private static final class ValueSeparatorDetector
+    {
+        private final TableProperties properties;
+        private final List<String> valueSeparators;
+        private final boolean[] usedSeparators;
+        private int usedSeparatorsCount;
+
+        private ValueSeparatorDetector(TableProperties properties)
+        {
+            this.properties = properties;
+            this.valueSeparators = List.of(properties.getValueSeparator(), DEFAULT_SEPARATOR_VALUE, "!", "?", "$",
+                    "#", "%", "*");
+            this.usedSeparators = new boolean[valueSeparators.size()];
+        }
+
+        private void accept(List<String> row)
+        {
+            int separatorsCount = usedSeparators.length;
+            for (String cell : row)
+            {
+                for (int i = 0; i < separatorsCount; i++)
+                {
+                    if (!usedSeparators[i] && cell.contains(valueSeparators.get(i)))
+                    {
+                        usedSeparators[i] = true;
+                        usedSeparatorsCount++;
+                    }
+                }
+                if (usedSeparatorsCount == separatorsCount)
+                {
+                    throw new IllegalArgumentException(NO_SEPARATOR_ERROR);
+                }
+            }
+        }
+
+        private String getValueSeparator()
+        {
+            for (int i = 0; i < usedSeparators.length; i++)
+            {
+                if (!usedSeparators[i])
+                {
+                    String separator = valueSeparators.get(i);
+                    properties.getProperties().setProperty(VALUE_SEPARATOR_KEY, separator);
+                    return separator;
+                }
+            }
+            throw new IllegalArgumentException(NO_SEPARATOR_ERROR);
+        }
+    }
 }
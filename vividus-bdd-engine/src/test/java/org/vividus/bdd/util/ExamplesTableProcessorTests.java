@@ -52,6 +52,14 @@ class ExamplesTableProcessorTests
             Arguments.of("|key1|key2|\n#11|#12!#\n#13?#14$#", List.of(List.of("11|", "12!"), List.of("13?", "14$"))));
     }
 
+    @ParameterizedTest
+    @MethodSource("tableToBuildSource")
+    void testBuildTableFromRowsIterator(String expectedTable, List<List<String>> rows)
+    {
+        assertEquals(expectedTable,
+                ExamplesTableProcessor.buildExamplesTable(KEYS, rows.iterator(), createProperties()));
+    }
+
     @Test
     void testBuildExamplesTableException()
     {
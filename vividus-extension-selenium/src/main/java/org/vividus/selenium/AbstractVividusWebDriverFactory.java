@@ -44,24 +44,30 @@ public abstract class AbstractVividusWebDriverFactory implements IVividusWebDriv
     @Override
     public VividusWebDriver create()
     {
-        VividusWebDriver vividusWebDriver = createVividusWebDriver(bddRunContext.getRunningStory());
-        configureVividusWebDriver(vividusWebDriver);
-        return vividusWebDriver;
+        return create(getDesiredCapabilities());
     }
 
-    protected abstract void configureVividusWebDriver(VividusWebDriver vividusWebDriver);
+    @Override
+    public DesiredCapabilities getDesiredCapabilities()
+    {
+        DesiredCapabilities desiredCapabilities = new DesiredCapabilities();
+        setBaseDesiredCapabilities(desiredCapabilities, bddRunContext.getRunningStory());
+        return desiredCapabilities;
+    }
 
-    private VividusWebDriver createVividusWebDriver(RunningStory runningStory)
+    @Override
+    public VividusWebDriver create(DesiredCapabilities desiredCapabilities)
     {
         VividusWebDriver vividusWebDriver = new VividusWebDriver();
-        setBaseDesiredCapabilities(vividusWebDriver, runningStory);
-
+        vividusWebDriver.setDesiredCapabilities(desiredCapabilities);
+        configureVividusWebDriver(vividusWebDriver);
         return vividusWebDriver;
     }
 
-    private void setBaseDesiredCapabilities(VividusWebDriver vividusWebDriver, RunningStory runningStory)
+    protected abstract void configureVividusWebDriver(VividusWebDriver vividusWebDriver);
+
+    private void setBaseDesiredCapabilities(DesiredCapabilities desiredCapabilities, RunningStory runningStory)
     {
-        DesiredCapabilities desiredCapabilities = vividusWebDriver.getDesiredCapabilities();
         desiredCapabilities.merge(webDriverManagerContext.getParameter(
                 WebDriverManagerParameter.DESIRED_CAPABILITIES));
         webDriverManagerContext.reset(WebDriverManagerParameter.DESIRED_CAPABILITIES);
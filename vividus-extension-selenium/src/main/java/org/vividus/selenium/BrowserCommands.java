@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.selenium;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.ErrorHandler;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.http.HttpMethod;
+
+/**
+ * Browser-specific WebDriver commands which are not the part of W3C WebDriver protocol, the commands are available
+ * only for drivers created with the command executor knowing them (see {@link HttpCommandExecutor}).
+ */
+public final class BrowserCommands
+{
+    /**
+     * Executes Chrome DevTools Protocol command, supported by ChromeDriver
+     */
+    public static final String EXECUTE_CDP_COMMAND = "executeCdpCommand";
+
+    /**
+     * Takes screenshot of the whole page, supported by GeckoDriver
+     */
+    public static final String FULL_PAGE_SCREENSHOT = "fullPageScreenshot";
+
+    private static final Map<String, CommandInfo> COMMANDS = Map.of(
+            EXECUTE_CDP_COMMAND, new CommandInfo("/session/:sessionId/goog/cdp/execute", HttpMethod.POST),
+            FULL_PAGE_SCREENSHOT, new CommandInfo("/session/:sessionId/moz/screenshot/full", HttpMethod.GET));
+
+    private BrowserCommands()
+    {
+    }
+
+    public static Map<String, CommandInfo> getCommands()
+    {
+        return COMMANDS;
+    }
+
+    /**
+     * Executes the command using command executor of the driver
+     * @param webDriver driver to execute the command
+     * @param command command name
+     * @param parameters command parameters
+     * @return value of the command response
+     * @throws IOException if unable to send the command
+     * @throws org.openqa.selenium.UnsupportedCommandException if the command is not known by the driver
+     * @throws org.openqa.selenium.WebDriverException if the command failed
+     */
+    public static Object execute(RemoteWebDriver webDriver, String command, Map<String, ?> parameters)
+            throws IOException
+    {
+        Response response = webDriver.getCommandExecutor().execute(
+                new Command(webDriver.getSessionId(), command, parameters));
+        new ErrorHandler(true).throwIfResponseFailed(response, 0);
+        return response.getValue();
+    }
+}
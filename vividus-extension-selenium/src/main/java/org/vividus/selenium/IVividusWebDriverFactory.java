@@ -16,7 +16,23 @@
 
 package org.vividus.selenium;
 
+import org.openqa.selenium.remote.DesiredCapabilities;
+
 public interface IVividusWebDriverFactory
 {
     VividusWebDriver create();
+
+    /**
+     * Resolves the desired capabilities of the driver for the current story and scenario
+     * @return desired capabilities
+     */
+    DesiredCapabilities getDesiredCapabilities();
+
+    /**
+     * Creates the driver using the resolved desired capabilities, the method doesn't depend on the current story,
+     * so it can be invoked outside of the test thread
+     * @param desiredCapabilities resolved desired capabilities
+     * @return created driver
+     */
+    VividusWebDriver create(DesiredCapabilities desiredCapabilities);
 }
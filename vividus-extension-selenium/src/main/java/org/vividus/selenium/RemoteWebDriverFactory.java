@@ -19,6 +19,7 @@ package org.vividus.selenium;
 import java.net.URL;
 
 import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.remote.HttpCommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.vividus.selenium.manager.GenericWebDriverManager;
 
@@ -38,6 +39,6 @@ public class RemoteWebDriverFactory implements IRemoteWebDriverFactory
         {
             return new AndroidDriver<>(url, capabilities);
         }
-        return new RemoteWebDriver(url, capabilities);
+        return new RemoteWebDriver(new HttpCommandExecutor(BrowserCommands.getCommands(), url), capabilities);
     }
 }
@@ -16,23 +16,35 @@
 
 package org.vividus.selenium;
 
+import java.util.Optional;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.inject.Inject;
 
 import com.google.common.eventbus.EventBus;
 
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Scenario;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.CapabilityType;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.vividus.bdd.context.IBddRunContext;
+import org.vividus.bdd.model.RunningScenario;
+import org.vividus.bdd.model.RunningStory;
 import org.vividus.selenium.event.WebDriverCreateEvent;
 import org.vividus.selenium.event.WebDriverQuitEvent;
 import org.vividus.testcontext.TestContext;
 
 public class WebDriverProvider implements IWebDriverProvider
 {
+    private static final String BROWSER_WINDOW_SIZE_META = "browserWindowSize";
+
     private IVividusWebDriverFactory vividusWebDriverFactory;
     private final ConcurrentLinkedQueue<WebDriver> webDrivers = new ConcurrentLinkedQueue<>();
     @Inject private EventBus eventBus;
     private TestContext testContext;
+    private WebDriverSessionPool sessionPool;
+    private IBddRunContext bddRunContext;
 
     @Override
     public boolean isRemoteExecution()
@@ -51,7 +63,7 @@ public class WebDriverProvider implements IWebDriverProvider
         VividusWebDriver vividusWebDriver = testContext.get(VividusWebDriver.class);
         if (vividusWebDriver == null)
         {
-            vividusWebDriver = vividusWebDriverFactory.create();
+            vividusWebDriver = isSessionPoolApplicable() ? acquireOrCreate() : vividusWebDriverFactory.create();
             testContext.put(VividusWebDriver.class, vividusWebDriver);
             WebDriver driver = vividusWebDriver.getWrappedDriver();
             webDrivers.add(driver);
@@ -71,10 +83,14 @@ public class WebDriverProvider implements IWebDriverProvider
     {
         if (isWebDriverInitialized())
         {
-            WebDriver webDriver = getVividusWebDriver().getWrappedDriver();
+            VividusWebDriver vividusWebDriver = getVividusWebDriver();
+            WebDriver webDriver = vividusWebDriver.getWrappedDriver();
             try
             {
-                webDriver.quit();
+                if (!sessionPool.release(vividusWebDriver))
+                {
+                    webDriver.quit();
+                }
             }
             finally
             {
@@ -88,6 +104,41 @@ public class WebDriverProvider implements IWebDriverProvider
         }
     }
 
+    private VividusWebDriver acquireOrCreate()
+    {
+        DesiredCapabilities desiredCapabilities = vividusWebDriverFactory.getDesiredCapabilities();
+        // The proxy is restarted for each story on the new port, so the sessions using it can't be reused
+        return desiredCapabilities.getCapability(CapabilityType.PROXY) == null
+                ? sessionPool.acquire(desiredCapabilities)
+                : vividusWebDriverFactory.create(desiredCapabilities);
+    }
+
+    /**
+     * The pooled sessions are not used for the stories and the scenarios with the controlling meta tags or the
+     * browser window size meta tag, since the pooled sessions are started outside of the story and so they are
+     * configured using the defaults
+     */
+    private boolean isSessionPoolApplicable()
+    {
+        if (!sessionPool.isEnabled())
+        {
+            return false;
+        }
+        RunningStory runningStory = bddRunContext.getRunningStory();
+        if (runningStory == null)
+        {
+            return true;
+        }
+        Meta scenarioMeta = Optional.ofNullable(runningStory.getRunningScenario())
+                .map(RunningScenario::getScenario)
+                .map(Scenario::getMeta)
+                .orElse(Meta.EMPTY);
+        Meta storyMeta = runningStory.getStory().getMeta();
+        return !ControllingMetaTag.isAnyContainedIn(storyMeta) && !ControllingMetaTag.isAnyContainedIn(scenarioMeta)
+                && !storyMeta.hasProperty(BROWSER_WINDOW_SIZE_META)
+                && !scenarioMeta.hasProperty(BROWSER_WINDOW_SIZE_META);
+    }
+
     private void reset()
     {
         testContext.remove(VividusWebDriver.class);
@@ -114,4 +165,14 @@ public class WebDriverProvider implements IWebDriverProvider
     {
         this.testContext = testContext;
     }
+
+    public void setSessionPool(WebDriverSessionPool sessionPool)
+    {
+        this.sessionPool = sessionPool;
+    }
+
+    public void setBddRunContext(IBddRunContext bddRunContext)
+    {
+        this.bddRunContext = bddRunContext;
+    }
 }
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.selenium;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of started WebDriver sessions keyed by the set of desired capabilities. Up to <b>maxIdleSessions</b> sessions
+ * per capability set are kept started: the released sessions are reset (the extra windows are closed, the cookies
+ * and the web storages are cleared and the blank page is opened) and returned to the pool, while the missing
+ * sessions are started in the background as soon as the sessions with the same capabilities are requested.
+ * The pool is disabled if <b>maxIdleSessions</b> is 0. The desired capabilities are resolved on the test thread, the
+ * pool is not used for the sessions going through the proxy (it's restarted for each story) and for the stories and
+ * the scenarios with the browser window size meta tag.
+ */
+public class WebDriverSessionPool
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverSessionPool.class);
+
+    private static final String BLANK_PAGE = "about:blank";
+    private static final String CLEAR_WEB_STORAGES_SCRIPT = "window.localStorage.clear();"
+            + "window.sessionStorage.clear();";
+
+    private final IVividusWebDriverFactory vividusWebDriverFactory;
+    private final int maxIdleSessions;
+    private final Map<Map<String, Object>, Deque<VividusWebDriver>> idleSessions = new HashMap<>();
+    private final Map<Map<String, Object>, Integer> startingSessions = new HashMap<>();
+    private final Map<VividusWebDriver, Map<String, Object>> leasedSessions = new ConcurrentHashMap<>();
+    private final ExecutorService warmUpExecutor;
+    private boolean destroyed;
+
+    private final LongAdder starts = new LongAdder();
+    private final LongAdder reuses = new LongAdder();
+
+    public WebDriverSessionPool(IVividusWebDriverFactory vividusWebDriverFactory, int maxIdleSessions)
+    {
+        this(vividusWebDriverFactory, maxIdleSessions, Executors.newCachedThreadPool(new BasicThreadFactory.Builder()
+                .namingPattern("webdriver-warm-up-%d")
+                .daemon(true)
+                .build()));
+    }
+
+    WebDriverSessionPool(IVividusWebDriverFactory vividusWebDriverFactory, int maxIdleSessions,
+            ExecutorService warmUpExecutor)
+    {
+        this.vividusWebDriverFactory = vividusWebDriverFactory;
+        this.maxIdleSessions = maxIdleSessions;
+        this.warmUpExecutor = warmUpExecutor;
+    }
+
+    public boolean isEnabled()
+    {
+        return maxIdleSessions > 0;
+    }
+
+    /**
+     * Leases the started session with the given desired capabilities from the pool or starts the new one if there
+     * are no idle sessions. The session must be returned to the pool using {@link #release(VividusWebDriver)}.
+     * @param desiredCapabilities resolved desired capabilities
+     * @return started session
+     */
+    public VividusWebDriver acquire(DesiredCapabilities desiredCapabilities)
+    {
+        Map<String, Object> key = createKey(desiredCapabilities);
+        VividusWebDriver vividusWebDriver = pollIdleSession(key);
+        if (vividusWebDriver == null)
+        {
+            vividusWebDriver = start(desiredCapabilities);
+        }
+        else
+        {
+            reuses.increment();
+        }
+        leasedSessions.put(vividusWebDriver, key);
+        warmUp(key, desiredCapabilities);
+        return vividusWebDriver;
+    }
+
+    /**
+     * Resets the state of the leased session and returns it to the pool, if the state can't be reset or the pool is
+     * full, the session is quit
+     * @param vividusWebDriver session to release
+     * @return <code>true</code> if the session was leased from this pool, otherwise <code>false</code>
+     */
+    public boolean release(VividusWebDriver vividusWebDriver)
+    {
+        Map<String, Object> key = leasedSessions.remove(vividusWebDriver);
+        if (key == null)
+        {
+            return false;
+        }
+        if (!resetState(vividusWebDriver.getWrappedDriver()) || !offerIdleSession(key, vividusWebDriver))
+        {
+            quit(vividusWebDriver);
+        }
+        return true;
+    }
+
+    private VividusWebDriver pollIdleSession(Map<String, Object> key)
+    {
+        while (true)
+        {
+            VividusWebDriver vividusWebDriver;
+            synchronized (this)
+            {
+                Deque<VividusWebDriver> sessions = idleSessions.get(key);
+                vividusWebDriver = sessions != null ? sessions.pollFirst() : null;
+            }
+            if (vividusWebDriver == null || isAlive(vividusWebDriver.getWrappedDriver()))
+            {
+                return vividusWebDriver;
+            }
+            quit(vividusWebDriver);
+        }
+    }
+
+    private synchronized boolean offerIdleSession(Map<String, Object> key, VividusWebDriver vividusWebDriver)
+    {
+        Deque<VividusWebDriver> sessions = idleSessions.computeIfAbsent(key, k -> new ArrayDeque<>());
+        if (destroyed || sessions.size() >= maxIdleSessions)
+        {
+            return false;
+        }
+        sessions.addLast(vividusWebDriver);
+        return true;
+    }
+
+    private void warmUp(Map<String, Object> key, DesiredCapabilities desiredCapabilities)
+    {
+        synchronized (this)
+        {
+            Deque<VividusWebDriver> sessions = idleSessions.get(key);
+            int idle = sessions != null ? sessions.size() : 0;
+            int starting = startingSessions.getOrDefault(key, 0);
+            if (destroyed || idle + starting >= maxIdleSessions)
+            {
+                return;
+            }
+            startingSessions.put(key, starting + 1);
+        }
+        warmUpExecutor.execute(() ->
+        {
+            try
+            {
+                VividusWebDriver vividusWebDriver = start(desiredCapabilities);
+                if (!offerIdleSession(key, vividusWebDriver))
+                {
+                    quit(vividusWebDriver);
+                }
+            }
+            catch (WebDriverException e)
+            {
+                LOGGER.warn("Unable to start WebDriver session in background", e);
+            }
+            finally
+            {
+                synchronized (this)
+                {
+                    startingSessions.merge(key, -1, Integer::sum);
+                }
+            }
+        });
+    }
+
+    private VividusWebDriver start(DesiredCapabilities desiredCapabilities)
+    {
+        VividusWebDriver vividusWebDriver = vividusWebDriverFactory.create(
+                new DesiredCapabilities(desiredCapabilities));
+        starts.increment();
+        return vividusWebDriver;
+    }
+
+    private static Map<String, Object> createKey(DesiredCapabilities desiredCapabilities)
+    {
+        Map<String, Object> key = new HashMap<>(desiredCapabilities.asMap());
+        // Session name is unique per story and doesn't affect the session itself
+        key.remove(SauceLabsCapabilityType.NAME);
+        return key;
+    }
+
+    private static boolean isAlive(WebDriver webDriver)
+    {
+        try
+        {
+            webDriver.getWindowHandle();
+            return true;
+        }
+        catch (WebDriverException e)
+        {
+            return false;
+        }
+    }
+
+    private static boolean resetState(WebDriver webDriver)
+    {
+        try
+        {
+            List<String> windowHandles = new ArrayList<>(webDriver.getWindowHandles());
+            String mainWindowHandle = windowHandles.get(0);
+            for (String windowHandle : windowHandles.subList(1, windowHandles.size()))
+            {
+                webDriver.switchTo().window(windowHandle).close();
+            }
+            webDriver.switchTo().window(mainWindowHandle);
+            webDriver.manage().deleteAllCookies();
+            if (webDriver instanceof JavascriptExecutor)
+            {
+                clearWebStorages((JavascriptExecutor) webDriver);
+            }
+            webDriver.navigate().to(BLANK_PAGE);
+            return true;
+        }
+        catch (WebDriverException e)
+        {
+            LOGGER.warn("Unable to reset WebDriver session state, the session is quit", e);
+            return false;
+        }
+    }
+
+    private static void clearWebStorages(JavascriptExecutor javascriptExecutor)
+    {
+        try
+        {
+            javascriptExecutor.executeScript(CLEAR_WEB_STORAGES_SCRIPT);
+        }
+        catch (WebDriverException e)
+        {
+            // Web storages are not accessible for the opened page, e.g. for the blank page
+            LOGGER.debug("Unable to clear web storages", e);
+        }
+    }
+
+    private static void quit(VividusWebDriver vividusWebDriver)
+    {
+        try
+        {
+            vividusWebDriver.getWrappedDriver().quit();
+        }
+        catch (WebDriverException e)
+        {
+            LOGGER.warn("Unable to quit WebDriver session", e);
+        }
+    }
+
+    public long getStarts()
+    {
+        return starts.sum();
+    }
+
+    public long getReuses()
+    {
+        return reuses.sum();
+    }
+
+    public void destroy()
+    {
+        warmUpExecutor.shutdownNow();
+        List<VividusWebDriver> sessions = new ArrayList<>();
+        synchronized (this)
+        {
+            destroyed = true;
+            idleSessions.values().forEach(sessions::addAll);
+            idleSessions.clear();
+        }
+        sessions.forEach(WebDriverSessionPool::quit);
+        if (isEnabled())
+        {
+            LOGGER.info("WebDriver session pool statistics: starts={}, reuses={}", getStarts(), getReuses());
+        }
+    }
+}
@@ -23,13 +23,19 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Properties;
+
 import com.google.common.eventbus.EventBus;
 
+import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -39,9 +45,11 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.CapabilityType;
 import org.openqa.selenium.remote.DesiredCapabilities;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.vividus.bdd.context.IBddRunContext;
@@ -74,6 +82,12 @@ class WebDriverProviderTests
     @Mock
     private EventBus mockedEventBus;
 
+    @Mock
+    private WebDriverSessionPool sessionPool;
+
+    @Mock
+    private IBddRunContext bddRunContext;
+
     @InjectMocks
     private WebDriverProvider webDriverProvider;
 
@@ -87,6 +101,70 @@ class WebDriverProviderTests
         verify(mockedEventBus).post(any(WebDriverQuitEvent.class));
     }
 
+    @Test
+    void shouldReleasePooledWebDriverOnEnd()
+    {
+        testContext.put(VividusWebDriver.class, vividusWebDriver);
+        when(vividusWebDriver.getWrappedDriver()).thenReturn(wrapsDriver);
+        when(sessionPool.release(vividusWebDriver)).thenReturn(true);
+        webDriverProvider.end();
+        verify(wrapsDriver, never()).quit();
+        verify(mockedEventBus).post(any(WebDriverQuitEvent.class));
+    }
+
+    @Test
+    void shouldAcquireWebDriverFromSessionPool()
+    {
+        DesiredCapabilities desiredCapabilities = new DesiredCapabilities();
+        when(sessionPool.isEnabled()).thenReturn(true);
+        mockRunningStory(new Meta());
+        when(vividusDriverFactory.getDesiredCapabilities()).thenReturn(desiredCapabilities);
+        when(sessionPool.acquire(desiredCapabilities)).thenReturn(vividusWebDriver);
+        when(vividusWebDriver.getWrappedDriver()).thenReturn(driver);
+        assertEquals(driver, webDriverProvider.get());
+        verify(mockedEventBus).post(any(WebDriverCreateEvent.class));
+    }
+
+    @Test
+    void shouldCreateFreshWebDriverForControllingMeta()
+    {
+        when(sessionPool.isEnabled()).thenReturn(true);
+        Properties properties = new Properties();
+        properties.setProperty(CapabilityType.BROWSER_NAME, "firefox");
+        mockRunningStory(new Meta(properties));
+        when(vividusDriverFactory.create()).thenReturn(vividusWebDriver);
+        when(vividusWebDriver.getWrappedDriver()).thenReturn(driver);
+        assertEquals(driver, webDriverProvider.get());
+        verify(sessionPool, never()).acquire(any());
+    }
+
+    @Test
+    void shouldCreateFreshWebDriverForProxy()
+    {
+        DesiredCapabilities desiredCapabilities = new DesiredCapabilities();
+        desiredCapabilities.setCapability(CapabilityType.PROXY, new Proxy());
+        when(sessionPool.isEnabled()).thenReturn(true);
+        mockRunningStory(new Meta());
+        when(vividusDriverFactory.getDesiredCapabilities()).thenReturn(desiredCapabilities);
+        when(vividusDriverFactory.create(desiredCapabilities)).thenReturn(vividusWebDriver);
+        when(vividusWebDriver.getWrappedDriver()).thenReturn(driver);
+        assertEquals(driver, webDriverProvider.get());
+        verify(sessionPool, never()).acquire(any());
+    }
+
+    @Test
+    void shouldCreateFreshWebDriverForBrowserWindowSizeMeta()
+    {
+        when(sessionPool.isEnabled()).thenReturn(true);
+        Properties properties = new Properties();
+        properties.setProperty("browserWindowSize", "800x600");
+        mockRunningStory(new Meta(properties));
+        when(vividusDriverFactory.create()).thenReturn(vividusWebDriver);
+        when(vividusWebDriver.getWrappedDriver()).thenReturn(driver);
+        assertEquals(driver, webDriverProvider.get());
+        verify(sessionPool, never()).acquire(any());
+    }
+
     @Test
     void testEndWebDriveException()
     {
@@ -140,6 +218,15 @@ class WebDriverProviderTests
         assertThat(webDriverProvider.getUnwrapped(WrapsDriver.class), instanceOf(WrapsDriver.class));
     }
 
+    private void mockRunningStory(Meta storyMeta)
+    {
+        RunningStory runningStory = mock(RunningStory.class);
+        Story story = mock(Story.class);
+        when(bddRunContext.getRunningStory()).thenReturn(runningStory);
+        when(runningStory.getStory()).thenReturn(story);
+        when(story.getMeta()).thenReturn(storyMeta);
+    }
+
     private static class TestVividusDriverFactory extends AbstractVividusWebDriverFactory
     {
         TestVividusDriverFactory(IBddRunContext bddRunContext, IWebDriverManagerContext webDriverManagerContext)
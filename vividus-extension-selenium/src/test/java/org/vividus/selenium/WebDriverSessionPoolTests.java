@@ -0,0 +1,179 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.selenium;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriver.Navigation;
+import org.openqa.selenium.WebDriver.Options;
+import org.openqa.selenium.WebDriver.TargetLocator;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+@ExtendWith(MockitoExtension.class)
+class WebDriverSessionPoolTests
+{
+    private static final String MAIN_WINDOW = "main";
+    private static final String POPUP_WINDOW = "popup";
+
+    @Mock
+    private IVividusWebDriverFactory vividusWebDriverFactory;
+
+    private WebDriverSessionPool createPool(int maxIdleSessions)
+    {
+        return new WebDriverSessionPool(vividusWebDriverFactory, maxIdleSessions,
+                MoreExecutors.newDirectExecutorService());
+    }
+
+    @Test
+    void shouldBeDisabledByDefault()
+    {
+        assertFalse(createPool(0).isEnabled());
+        assertTrue(createPool(1).isEnabled());
+    }
+
+    @Test
+    void shouldReuseWarmedUpSessionIgnoringSessionName()
+    {
+        List<VividusWebDriver> sessions = mockSessions(3);
+        WebDriverSessionPool pool = createPool(1);
+        assertSame(sessions.get(0), pool.acquire(createCapabilities("story-1")));
+        assertSame(sessions.get(1), pool.acquire(createCapabilities("story-2")));
+        assertEquals(3, pool.getStarts());
+        assertEquals(1, pool.getReuses());
+    }
+
+    @Test
+    void shouldResetStateOfReleasedSession()
+    {
+        List<VividusWebDriver> sessions = mockSessions(2);
+        WebDriverSessionPool pool = createPool(2);
+        VividusWebDriver vividusWebDriver = pool.acquire(createCapabilities("story"));
+        WebDriver webDriver = vividusWebDriver.getWrappedDriver();
+        when(webDriver.getWindowHandles()).thenReturn(new LinkedHashSet<>(List.of(MAIN_WINDOW, POPUP_WINDOW)));
+        TargetLocator targetLocator = mock(TargetLocator.class);
+        when(webDriver.switchTo()).thenReturn(targetLocator);
+        when(targetLocator.window(POPUP_WINDOW)).thenReturn(webDriver);
+        Options options = mock(Options.class);
+        when(webDriver.manage()).thenReturn(options);
+        Navigation navigation = mock(Navigation.class);
+        when(webDriver.navigate()).thenReturn(navigation);
+        assertTrue(pool.release(vividusWebDriver));
+        InOrder ordered = inOrder(webDriver, targetLocator, options, navigation);
+        ordered.verify(targetLocator).window(POPUP_WINDOW);
+        ordered.verify(webDriver).close();
+        ordered.verify(targetLocator).window(MAIN_WINDOW);
+        ordered.verify(options).deleteAllCookies();
+        ordered.verify(((JavascriptExecutor) webDriver)).executeScript(
+                "window.localStorage.clear();window.sessionStorage.clear();");
+        ordered.verify(navigation).to("about:blank");
+        verify(webDriver, never()).quit();
+        pool.destroy();
+        verify(webDriver).quit();
+        verify(sessions.get(1).getWrappedDriver()).quit();
+    }
+
+    @Test
+    void shouldQuitReleasedSessionIfPoolIsFull()
+    {
+        List<VividusWebDriver> sessions = mockSessions(2);
+        WebDriverSessionPool pool = createPool(1);
+        VividusWebDriver vividusWebDriver = pool.acquire(createCapabilities("story"));
+        WebDriver webDriver = vividusWebDriver.getWrappedDriver();
+        when(webDriver.getWindowHandles()).thenReturn(new LinkedHashSet<>(List.of(MAIN_WINDOW)));
+        when(webDriver.switchTo()).thenReturn(mock(TargetLocator.class));
+        when(webDriver.manage()).thenReturn(mock(Options.class));
+        when(webDriver.navigate()).thenReturn(mock(Navigation.class));
+        assertTrue(pool.release(vividusWebDriver));
+        verify(webDriver).quit();
+        verify(sessions.get(1).getWrappedDriver(), never()).quit();
+    }
+
+    @Test
+    void shouldQuitSessionIfStateCannotBeReset()
+    {
+        mockSessions(2);
+        WebDriverSessionPool pool = createPool(2);
+        VividusWebDriver vividusWebDriver = pool.acquire(createCapabilities("story"));
+        WebDriver webDriver = vividusWebDriver.getWrappedDriver();
+        when(webDriver.getWindowHandles()).thenThrow(new WebDriverException("Session is gone"));
+        assertTrue(pool.release(vividusWebDriver));
+        verify(webDriver).quit();
+    }
+
+    @Test
+    void shouldStartNewSessionIfIdleSessionIsDead()
+    {
+        List<VividusWebDriver> sessions = mockSessions(4);
+        WebDriverSessionPool pool = createPool(1);
+        pool.acquire(createCapabilities("story-1"));
+        WebDriver deadWebDriver = sessions.get(1).getWrappedDriver();
+        doThrow(new WebDriverException("Session is gone")).when(deadWebDriver).getWindowHandle();
+        assertSame(sessions.get(2), pool.acquire(createCapabilities("story-2")));
+        verify(deadWebDriver).quit();
+    }
+
+    @Test
+    void shouldNotReleaseSessionNotLeasedFromPool()
+    {
+        assertFalse(createPool(1).release(new VividusWebDriver()));
+    }
+
+    private List<VividusWebDriver> mockSessions(int number)
+    {
+        VividusWebDriver[] sessions = new VividusWebDriver[number];
+        for (int i = 0; i < number; i++)
+        {
+            sessions[i] = new VividusWebDriver();
+            sessions[i].setWebDriver(mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class)));
+        }
+        when(vividusWebDriverFactory.create(any(DesiredCapabilities.class))).thenReturn(sessions[0],
+                List.of(sessions).subList(1, number).toArray(new VividusWebDriver[0]));
+        return List.of(sessions);
+    }
+
+    private static DesiredCapabilities createCapabilities(String name)
+    {
+        DesiredCapabilities desiredCapabilities = new DesiredCapabilities();
+        desiredCapabilities.setBrowserName("chrome");
+        desiredCapabilities.setCapability(SauceLabsCapabilityType.NAME, name);
+        return desiredCapabilities;
+    }
+}
@@ -16,13 +16,15 @@
 
 package org.vividus.visual.model;
 
+import java.util.function.Supplier;
+
 public class VisualCheckResult
 {
     private final String baselineName;
     private final VisualActionType actionType;
-    private String baseline;
-    private String checkpoint;
-    private String diff;
+    private Supplier<String> baseline;
+    private Supplier<String> checkpoint;
+    private Supplier<String> diff;
     private boolean passed;
 
     public VisualCheckResult(VisualCheck visualCheck)
@@ -31,32 +33,66 @@ public class VisualCheckResult
         this.actionType = visualCheck.getAction();
     }
 
+    public boolean hasBaseline()
+    {
+        return baseline != null;
+    }
+
     public String getBaseline()
     {
-        return baseline;
+        return get(baseline);
     }
 
     public void setBaseline(String baseline)
+    {
+        this.baseline = baseline != null ? () -> baseline : null;
+    }
+
+    /**
+     * Sets the supplier of the base64 encoded baseline image. The supplier is not invoked until the image is
+     * requested (e.g. at report generation) and is invoked on each request, so it is expected to refer to the
+     * image stored outside of the heap (e.g. in a file) rather than to hold the decoded or encoded image.
+     * @param baseline supplier of the base64 encoded image
+     */
+    public void setBaseline(Supplier<String> baseline)
     {
         this.baseline = baseline;
     }
 
     public String getCheckpoint()
     {
-        return checkpoint;
+        return get(checkpoint);
     }
 
     public void setCheckpoint(String checkpoint)
+    {
+        this.checkpoint = checkpoint != null ? () -> checkpoint : null;
+    }
+
+    /**
+     * Sets the supplier of the base64 encoded checkpoint image, see {@link #setBaseline(Supplier)} for details.
+     * @param checkpoint supplier of the base64 encoded image
+     */
+    public void setCheckpoint(Supplier<String> checkpoint)
     {
         this.checkpoint = checkpoint;
     }
 
     public String getDiff()
     {
-        return diff;
+        return get(diff);
     }
 
     public void setDiff(String diff)
+    {
+        this.diff = diff != null ? () -> diff : null;
+    }
+
+    /**
+     * Sets the supplier of the base64 encoded diff image, see {@link #setBaseline(Supplier)} for details.
+     * @param diff supplier of the base64 encoded image
+     */
+    public void setDiff(Supplier<String> diff)
     {
         this.diff = diff;
     }
@@ -80,4 +116,9 @@ public class VisualCheckResult
     {
         return actionType;
     }
+
+    private static String get(Supplier<String> image)
+    {
+        return image != null ? image.get() : null;
+    }
 }
@@ -18,7 +18,16 @@ package org.vividus.visual.model;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,4 +48,33 @@ class VisualCheckResultTests
             () -> assertNull(visualCheckResult.getCheckpoint()),
             () -> assertNull(visualCheckResult.getDiff()));
     }
+
+    @Test
+    void shouldReportBaselinePresence()
+    {
+        VisualCheckResult visualCheckResult = new VisualCheckResult(
+                new VisualCheck("baseline", VisualActionType.COMPARE_AGAINST));
+        assertFalse(visualCheckResult.hasBaseline());
+        visualCheckResult.setBaseline("image");
+        assertTrue(visualCheckResult.hasBaseline());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRequestImageOnlyOnAccess()
+    {
+        VisualCheckResult visualCheckResult = new VisualCheckResult(
+                new VisualCheck("baseline", VisualActionType.COMPARE_AGAINST));
+        Supplier<String> image = mock(Supplier.class);
+        when(image.get()).thenReturn("image");
+        visualCheckResult.setBaseline(image);
+        visualCheckResult.setDiff(image);
+        assertTrue(visualCheckResult.hasBaseline());
+        verifyNoInteractions(image);
+        assertAll(
+            () -> assertEquals("image", visualCheckResult.getBaseline()),
+            () -> assertEquals("image", visualCheckResult.getDiff()),
+            () -> assertNull(visualCheckResult.getCheckpoint()));
+        verify(image, times(2)).get();
+    }
 }
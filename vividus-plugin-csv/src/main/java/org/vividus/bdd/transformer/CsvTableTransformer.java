@@ -16,16 +16,18 @@
 
 package org.vividus.bdd.transformer;
 
-import static java.util.stream.Collectors.toList;
 import static org.vividus.util.ResourceUtils.findResource;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.StreamSupport;
 
 import javax.inject.Named;
 
+import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.jbehave.core.model.ExamplesTable.TableProperties;
 import org.jbehave.core.model.TableParsers;
@@ -47,11 +49,13 @@ public class CsvTableTransformer implements ExtendedTableTransformer
     {
         checkTableEmptiness(tableAsString);
         String csvPath = ExtendedTableTransformer.getMandatoryNonBlankProperty(properties, "csvPath");
-        try
+        try (CSVParser parser = csvReader.parseCsvFile(findResource(getClass(), csvPath)))
         {
-            List<CSVRecord> result = csvReader.readCsvFile(findResource(getClass(), csvPath));
-            return ExamplesTableProcessor.buildExamplesTable(result.get(0).toMap().keySet(), extractValues(result),
-                    properties, true);
+            List<String> header = parser.getHeaderNames();
+            Iterator<List<String>> rows = StreamSupport.stream(parser.spliterator(), false)
+                    .map(record -> toRow(record, header.size()))
+                    .iterator();
+            return ExamplesTableProcessor.buildExamplesTable(header, rows, properties);
         }
         catch (IOException e)
         {
@@ -59,10 +63,14 @@ public class CsvTableTransformer implements ExtendedTableTransformer
         }
     }
 
-    private List<List<String>> extractValues(List<CSVRecord> data)
+    private static List<String> toRow(CSVRecord record, int headerSize)
     {
-        return data.stream()
-                .map(record -> new ArrayList<>(record.toMap().values()))
-                .collect(toList());
+        int size = Math.min(record.size(), headerSize);
+        List<String> row = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+        {
+            row.add(record.get(i));
+        }
+        return row;
     }
 }
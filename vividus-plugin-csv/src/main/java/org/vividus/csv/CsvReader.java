@@ -16,6 +16,7 @@
 
 package org.vividus.csv;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -31,10 +32,13 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 
 public class CsvReader
 {
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
     private final CSVFormat csvFormat;
 
     public CsvReader()
@@ -77,6 +81,30 @@ public class CsvReader
         }
     }
 
+    /**
+     * Opens the CSV resource for lazy record-by-record reading. The header is read from the first line of the
+     * resource, if it is not provided. The returned parser must be closed by the caller.
+     * @param resourceUrl URL of the CSV resource
+     * @param header header of the CSV data
+     * @return CSV parser iterating over the records of the resource
+     * @throws IOException If an I/O error occurs
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    public CSVParser parseCsvFile(URL resourceUrl, String... header) throws IOException
+    {
+        Reader reader = new BufferedReader(new InputStreamReader(resourceUrl.openStream(), StandardCharsets.UTF_8),
+                READ_BUFFER_SIZE);
+        try
+        {
+            return csvFormat.withHeader(header).parse(reader);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            reader.close();
+            throw e;
+        }
+    }
+
     private List<Map<String, String>> collectCsv(Reader reader, String... header) throws IOException
     {
         return readCsvFile(reader, header).map(CSVRecord::toMap).collect(Collectors.toList());
@@ -55,6 +55,18 @@ class CsvTableTransformerTests
                 csvTableTransformer.transform(EMPTY_EXAMPLES_TABLE, null, new TableProperties(properties)));
     }
 
+    @Test
+    void testTransformIgnoresCellsOutsideHeader()
+    {
+        String expectedValue = "|Country|ID|\n"
+                + "|Belarus|1|\n"
+                + "|USA|";
+        Properties properties = new Properties();
+        properties.setProperty(CSV_PATH_PROPERTY_NAME, "extra-cells.csv");
+        assertEquals(expectedValue,
+                csvTableTransformer.transform(EMPTY_EXAMPLES_TABLE, null, new TableProperties(properties)));
+    }
+
     @Test
     void testNoFilePathProvided()
     {
@@ -82,7 +94,7 @@ class CsvTableTransformerTests
         properties.setProperty(CSV_PATH_PROPERTY_NAME, CSV_FILE_NAME);
         CsvReader csvReader = mock(CsvReader.class);
         CsvTableTransformer csvTableTransformer = new CsvTableTransformer(csvReader);
-        when(csvReader.readCsvFile(csvResource)).thenThrow(new IOException());
+        when(csvReader.parseCsvFile(csvResource)).thenThrow(new IOException());
         Throwable exception = assertThrows(UncheckedIOException.class, () ->
             csvTableTransformer.transform(EMPTY_EXAMPLES_TABLE, null, new TableProperties(properties)));
         assertEquals("Problem during CSV file reading", exception.getMessage());
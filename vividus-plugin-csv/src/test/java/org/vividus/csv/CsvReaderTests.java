@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.junit.jupiter.api.Test;
 
@@ -81,6 +82,17 @@ class CsvReaderTests
         assertEquals(CSV_RECORDS, result.stream().map(CSVRecord::toMap).collect(Collectors.toList()));
     }
 
+    @Test
+    void testParseCsvFromUrl() throws Exception
+    {
+        try (CSVParser parser = csvReader.parseCsvFile(getCsvResource(), FIRST_HEADER, SECOND_HEADER))
+        {
+            assertEquals(List.of(FIRST_HEADER, SECOND_HEADER), parser.getHeaderNames());
+            List<CSVRecord> records = parser.getRecords();
+            assertEquals(CSV_RECORDS, records.stream().map(CSVRecord::toMap).collect(Collectors.toList()));
+        }
+    }
+
     private URL getCsvResource()
     {
         return getCsvResource("unittest.csv");
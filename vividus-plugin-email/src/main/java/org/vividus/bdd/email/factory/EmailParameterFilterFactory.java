@@ -16,12 +16,16 @@
 
 package org.vividus.bdd.email.factory;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -30,11 +34,22 @@ import javax.mail.Address;
 import javax.mail.Message;
 import javax.mail.Message.RecipientType;
 import javax.mail.MessagingException;
+import javax.mail.internet.AddressException;
+import javax.mail.internet.InternetAddress;
+import javax.mail.search.AndTerm;
+import javax.mail.search.ComparisonTerm;
+import javax.mail.search.FromStringTerm;
+import javax.mail.search.ReceivedDateTerm;
+import javax.mail.search.RecipientStringTerm;
+import javax.mail.search.SearchTerm;
+import javax.mail.search.SentDateTerm;
+import javax.mail.search.SubjectTerm;
 
 import org.apache.commons.lang3.EnumUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.function.FailableFunction;
 import org.apache.commons.lang3.function.FailablePredicate;
+import org.vividus.bdd.email.model.MessageFilter;
 import org.vividus.bdd.steps.ComparisonRule;
 import org.vividus.bdd.steps.IComparisonRule;
 import org.vividus.bdd.steps.StringComparisonRule;
@@ -44,69 +59,131 @@ public enum EmailParameterFilterFactory
     SUBJECT
     {
         @Override
-        public FailablePredicate<Message, MessagingException> createFilter(String rule, String variable)
+        FailablePredicate<Message, MessagingException> createPredicate(String rule, String variable)
         {
             return m -> apply(m.getSubject(), rule, variable);
         }
+
+        @Override
+        Optional<SearchTerm> createSearchTerm(String rule, String variable)
+        {
+            return isSubstringRule(rule) ? Optional.of(new SubjectTerm(variable)) : Optional.empty();
+        }
     },
     SENT_DATE
     {
         @Override
-        public FailablePredicate<Message, MessagingException> createFilter(String rule, String variable)
+        FailablePredicate<Message, MessagingException> createPredicate(String rule, String variable)
         {
             return checkDates(rule, variable, Message::getSentDate);
         }
+
+        @Override
+        Optional<SearchTerm> createSearchTerm(String rule, String variable)
+        {
+            return searchByDate(rule, variable, SentDateTerm::new);
+        }
     },
     RECEIVED_DATE
     {
         @Override
-        public FailablePredicate<Message, MessagingException> createFilter(String rule, String variable)
+        FailablePredicate<Message, MessagingException> createPredicate(String rule, String variable)
         {
             return checkDates(rule, variable, Message::getReceivedDate);
         }
+
+        @Override
+        Optional<SearchTerm> createSearchTerm(String rule, String variable)
+        {
+            return searchByDate(rule, variable, ReceivedDateTerm::new);
+        }
     },
     FROM
     {
         @Override
-        public FailablePredicate<Message, MessagingException> createFilter(String rule, String variable)
+        FailablePredicate<Message, MessagingException> createPredicate(String rule, String variable)
         {
             return checkAddressees(rule, variable, Message::getFrom);
         }
+
+        @Override
+        Optional<SearchTerm> createSearchTerm(String rule, String variable)
+        {
+            return searchByAddresses(rule, variable, FromStringTerm::new);
+        }
     },
     CC_RECIPIENTS
     {
         @Override
-        public FailablePredicate<Message, MessagingException> createFilter(String rule, String variable)
+        FailablePredicate<Message, MessagingException> createPredicate(String rule, String variable)
         {
             return checkRecipients(rule, variable, RecipientType.CC);
         }
+
+        @Override
+        Optional<SearchTerm> createSearchTerm(String rule, String variable)
+        {
+            return searchByAddresses(rule, variable, a -> new RecipientStringTerm(RecipientType.CC, a));
+        }
     },
     BCC_RECIPIENTS
     {
         @Override
-        public FailablePredicate<Message, MessagingException> createFilter(String rule, String variable)
+        FailablePredicate<Message, MessagingException> createPredicate(String rule, String variable)
         {
             return checkRecipients(rule, variable, RecipientType.BCC);
         }
+
+        @Override
+        Optional<SearchTerm> createSearchTerm(String rule, String variable)
+        {
+            return searchByAddresses(rule, variable, a -> new RecipientStringTerm(RecipientType.BCC, a));
+        }
     },
     TO_RECIPIENTS
     {
         @Override
-        public FailablePredicate<Message, MessagingException> createFilter(String rule, String variable)
+        FailablePredicate<Message, MessagingException> createPredicate(String rule, String variable)
         {
             return checkRecipients(rule, variable, RecipientType.TO);
         }
+
+        @Override
+        Optional<SearchTerm> createSearchTerm(String rule, String variable)
+        {
+            return searchByAddresses(rule, variable, a -> new RecipientStringTerm(RecipientType.TO, a));
+        }
     },
     REPLY_TO
     {
         @Override
-        public FailablePredicate<Message, MessagingException> createFilter(String rule, String variable)
+        FailablePredicate<Message, MessagingException> createPredicate(String rule, String variable)
         {
             return checkAddressees(rule, variable, Message::getReplyTo);
         }
     };
 
-    public abstract FailablePredicate<Message, MessagingException> createFilter(String rule, String variable);
+    private static final Duration DATE_SEARCH_TOLERANCE = Duration.ofDays(2);
+
+    public MessageFilter createFilter(String rule, String variable)
+    {
+        return new MessageFilter(createPredicate(rule, variable), createSearchTerm(rule, variable).orElse(null));
+    }
+
+    abstract FailablePredicate<Message, MessagingException> createPredicate(String rule, String variable);
+
+    /**
+     * Creates the term to be executed by IMAP server to pre-select candidate messages. IMAP SEARCH is
+     * case-insensitive, performs substring matching and compares dates with a day precision, so the created term
+     * is always wider than the filter and the filter itself must be applied to the search results.
+     * @param rule comparison rule
+     * @param variable expected value
+     * @return search term or empty if the rule can't be translated into IMAP SEARCH criteria
+     */
+    Optional<SearchTerm> createSearchTerm(String rule, String variable)
+    {
+        return Optional.empty();
+    }
 
     FailablePredicate<Message, MessagingException> checkDates(String rule, String inputDate,
             FailableFunction<Message, Date, MessagingException> getter)
@@ -133,6 +210,72 @@ public enum EmailParameterFilterFactory
         };
     }
 
+    private static boolean isSubstringRule(String rule)
+    {
+        return isEqualityRule(rule) || StringComparisonRule.CONTAINS.name().equalsIgnoreCase(rule);
+    }
+
+    private static boolean isEqualityRule(String rule)
+    {
+        return ComparisonRule.EQUAL_TO.name().equalsIgnoreCase(rule)
+                || StringComparisonRule.IS_EQUAL_TO.name().equalsIgnoreCase(rule);
+    }
+
+    private static Optional<SearchTerm> searchByDate(String rule, String inputDate,
+            BiFunction<Integer, Date, SearchTerm> termFactory)
+    {
+        ComparisonRule comparisonRule = EnumUtils.getEnumIgnoreCase(ComparisonRule.class, rule);
+        if (comparisonRule == null || comparisonRule == ComparisonRule.NOT_EQUAL_TO)
+        {
+            return Optional.empty();
+        }
+        Instant date;
+        try
+        {
+            date = Instant.parse(inputDate);
+        }
+        catch (DateTimeParseException e)
+        {
+            return Optional.empty();
+        }
+        SearchTerm notBefore = termFactory.apply(ComparisonTerm.GE, Date.from(date.minus(DATE_SEARCH_TOLERANCE)));
+        SearchTerm notAfter = termFactory.apply(ComparisonTerm.LE, Date.from(date.plus(DATE_SEARCH_TOLERANCE)));
+        switch (comparisonRule)
+        {
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL_TO:
+                return Optional.of(notAfter);
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL_TO:
+                return Optional.of(notBefore);
+            default:
+                return Optional.of(new AndTerm(notBefore, notAfter));
+        }
+    }
+
+    private static Optional<SearchTerm> searchByAddresses(String rule, String addressesAsString,
+            Function<String, SearchTerm> termFactory)
+    {
+        if (!isEqualityRule(rule))
+        {
+            return Optional.empty();
+        }
+        List<String> addresses = split(addressesAsString);
+        SearchTerm[] terms = new SearchTerm[addresses.size()];
+        for (int index = 0; index < terms.length; index++)
+        {
+            try
+            {
+                terms[index] = termFactory.apply(new InternetAddress(addresses.get(index)).getAddress());
+            }
+            catch (AddressException e)
+            {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(terms.length == 1 ? terms[0] : new AndTerm(terms));
+    }
+
     private static List<String> split(String value)
     {
         return Stream.of(value.split(",")).map(String::strip).collect(Collectors.toList());
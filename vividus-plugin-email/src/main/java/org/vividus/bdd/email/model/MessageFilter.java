@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.email.model;
+
+import java.util.Optional;
+
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.search.SearchTerm;
+
+import org.apache.commons.lang3.function.FailablePredicate;
+
+public final class MessageFilter implements FailablePredicate<Message, MessagingException>
+{
+    private final FailablePredicate<Message, MessagingException> predicate;
+    private final SearchTerm searchTerm;
+
+    public MessageFilter(FailablePredicate<Message, MessagingException> predicate, SearchTerm searchTerm)
+    {
+        this.predicate = predicate;
+        this.searchTerm = searchTerm;
+    }
+
+    @Override
+    public boolean test(Message message) throws MessagingException
+    {
+        return predicate.test(message);
+    }
+
+    /**
+     * Returns the search term to be executed by the mail server in order to narrow down the set of the messages
+     * to check. The term may match more messages than the filter itself, so the filter must still be applied to
+     * the search results.
+     * @return the server-side search term or empty if the filter can't be translated
+     */
+    public Optional<SearchTerm> getSearchTerm()
+    {
+        return Optional.ofNullable(searchTerm);
+    }
+}
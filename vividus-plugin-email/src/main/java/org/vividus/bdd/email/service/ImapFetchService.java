@@ -18,17 +18,15 @@ package org.vividus.bdd.email.service;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.stream.Stream;
 
 import javax.mail.Authenticator;
 import javax.mail.FetchProfile;
@@ -37,22 +35,21 @@ import javax.mail.Folder;
 import javax.mail.Message;
 import javax.mail.MessageRemovedException;
 import javax.mail.MessagingException;
+import javax.mail.NoSuchProviderException;
 import javax.mail.PasswordAuthentication;
 import javax.mail.Session;
 import javax.mail.Store;
-import javax.mail.event.MessageCountEvent;
-import javax.mail.event.MessageCountListener;
+import javax.mail.UIDFolder;
+import javax.mail.search.AndTerm;
 import javax.mail.search.SearchTerm;
 
 import org.apache.commons.lang3.function.FailablePredicate;
-import org.apache.commons.lang3.function.FailableSupplier;
 import org.vividus.bdd.email.factory.EmailMessageFactory;
 import org.vividus.bdd.email.factory.EmailMessageFactory.EmailMessageCreationException;
 import org.vividus.bdd.email.model.EmailMessage;
 import org.vividus.bdd.email.model.EmailServerConfiguration;
-import org.vividus.util.Sleeper;
+import org.vividus.bdd.email.model.MessageFilter;
 import org.vividus.util.wait.WaitMode;
-import org.vividus.util.wait.Waiter;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -60,14 +57,13 @@ public class ImapFetchService implements EmailFetchService
 {
     private static final String PROTOCOL = "imaps";
 
-    private static final float EVENT_ARRIVAL_FACTOR = 0.8f;
     private static final long POLL_LOWER_BOUND = 5;
 
     private final WaitMode waitMode;
     private final String folder;
-    private final long messageEventWaitInMillis;
 
     private final EmailMessageFactory emailMessageFactory;
+    private final Map<EmailServerConfiguration, ImapMailbox> mailboxes = new HashMap<>();
 
     public ImapFetchService(Duration duration, int retryTimes, String folder, EmailMessageFactory emailMessageFactory)
     {
@@ -79,8 +75,6 @@ public class ImapFetchService implements EmailFetchService
                     String.format("Polling timeout must be not less than %d seconds, but got %d milliseconds",
                             POLL_LOWER_BOUND, waitMode.calculatePollingTimeout(TimeUnit.MILLISECONDS)));
         }
-        this.messageEventWaitInMillis = (long) (waitMode.calculatePollingTimeout(TimeUnit.MILLISECONDS)
-                * EVENT_ARRIVAL_FACTOR);
         this.folder = folder;
         this.emailMessageFactory = emailMessageFactory;
     }
@@ -89,36 +83,22 @@ public class ImapFetchService implements EmailFetchService
     public List<EmailMessage> fetch(List<FailablePredicate<Message, MessagingException>> messageFilters,
             EmailServerConfiguration configuration) throws EmailFetchServiceException
     {
-        Authenticator authenticator = new PasswordAuthenticator(configuration.getUsername(),
-                configuration.getPassword());
-
-        Properties properties = new Properties();
-        properties.putAll(asImapsProperties(configuration.getProperties()));
-
-        Session session = Session.getInstance(properties, authenticator);
-
-        try (Store store = session.getStore(PROTOCOL); Folder mailFolder = getFolder(store))
+        try
         {
-            SearchTerm searchTerm = new PredicateSearchTerm(messageFilters);
-            PollingMessageListener listener = new PollingMessageListener(mailFolder::isOpen, searchTerm);
-
-            mailFolder.addMessageCountListener(listener);
-            mailFolder.open(Folder.READ_ONLY);
-
-            Message[] messages = fetchMessages(mailFolder, Set.of(Item.ENVELOPE));
-            Message[] filtered = mailFolder.search(searchTerm, messages);
-
-            if (filtered.length > 0)
-            {
-                fetchMessages(mailFolder, filtered, Set.of(Item.CONTENT_INFO));
-                return asMailMessages(List.of(filtered));
-            }
-            else
+            ImapMailbox mailbox = getMailbox(configuration);
+            IncrementalSearch search = new IncrementalSearch(mailbox.getFolder(), messageFilters);
+
+            long arrivals = mailbox.getArrivals();
+            List<Message> messages = search.searchExisting();
+            long endTime = System.currentTimeMillis() + waitMode.getDuration().toMillis();
+            long timeLeft = waitMode.getDuration().toMillis();
+            while (messages.isEmpty() && timeLeft > 0)
             {
-                Waiter waiter = new Waiter(waitMode);
-                List<Message> output = interruptible(() -> waiter.wait(listener::getMessages, msgs -> !msgs.isEmpty()));
-                return asMailMessages(output);
+                arrivals = awaitArrivals(mailbox, arrivals, timeLeft);
+                messages = search.searchNew();
+                timeLeft = endTime - System.currentTimeMillis();
             }
+            return asMailMessages(messages);
         }
         catch (MessagingException | EmailMessageCreationException | InternalEmailFetchServiceException e)
         {
@@ -136,37 +116,52 @@ public class ImapFetchService implements EmailFetchService
         return emailMessages;
     }
 
-    private Folder getFolder(Store store) throws MessagingException
+    private ImapMailbox getMailbox(EmailServerConfiguration configuration) throws MessagingException
     {
-        store.connect();
-        return store.getFolder(this.folder);
+        synchronized (mailboxes)
+        {
+            ImapMailbox mailbox = mailboxes.get(configuration);
+            if (mailbox == null || !mailbox.isOpen())
+            {
+                if (mailbox != null)
+                {
+                    mailbox.close();
+                }
+                mailbox = new ImapMailbox(createStore(configuration), folder,
+                        Duration.ofMillis(waitMode.calculatePollingTimeout(TimeUnit.MILLISECONDS)));
+                try
+                {
+                    mailbox.open();
+                }
+                catch (MessagingException e)
+                {
+                    mailbox.close();
+                    mailboxes.remove(configuration);
+                    throw e;
+                }
+                mailboxes.put(configuration, mailbox);
+            }
+            return mailbox;
+        }
     }
 
-    private Message[] fetchMessages(Folder folder, Set<Item> fetchSettings) throws MessagingException
+    Store createStore(EmailServerConfiguration configuration) throws NoSuchProviderException
     {
-        return fetchMessages(folder, folder.getMessages(), fetchSettings);
-    }
+        Authenticator authenticator = new PasswordAuthenticator(configuration.getUsername(),
+                configuration.getPassword());
 
-    private Message[] fetchMessages(Folder folder, Message[] messages, Set<Item> fetchSettings)
-            throws MessagingException
-    {
-        FetchProfile profile = new FetchProfile();
-        fetchSettings.forEach(profile::add);
-        folder.fetch(messages, profile);
-        return messages;
-    }
+        Properties properties = new Properties();
+        properties.putAll(asImapsProperties(configuration.getProperties()));
 
-    private Map<String, String> asImapsProperties(Map<String, String> properties)
-    {
-        return properties.entrySet().stream()
-                .collect(Collectors.toMap(e -> "mail." + PROTOCOL + "." + e.getKey(), Map.Entry::getValue));
+        return Session.getInstance(properties, authenticator).getStore(PROTOCOL);
     }
 
-    private <T> T interruptible(FailableSupplier<T, InterruptedException> supplier)
+    private static long awaitArrivals(ImapMailbox mailbox, long arrivals, long timeoutMillis)
+            throws MessagingException
     {
         try
         {
-            return supplier.get();
+            return mailbox.awaitArrivals(arrivals, Duration.ofMillis(timeoutMillis));
         }
         catch (InterruptedException e)
         {
@@ -175,6 +170,29 @@ public class ImapFetchService implements EmailFetchService
         }
     }
 
+    public void close()
+    {
+        synchronized (mailboxes)
+        {
+            mailboxes.values().forEach(ImapMailbox::close);
+            mailboxes.clear();
+        }
+    }
+
+    private static void fetchMessages(Folder folder, Message[] messages, Set<Item> fetchSettings)
+            throws MessagingException
+    {
+        FetchProfile profile = new FetchProfile();
+        fetchSettings.forEach(profile::add);
+        folder.fetch(messages, profile);
+    }
+
+    private Map<String, String> asImapsProperties(Map<String, String> properties)
+    {
+        return properties.entrySet().stream()
+                .collect(Collectors.toMap(e -> "mail." + PROTOCOL + "." + e.getKey(), Map.Entry::getValue));
+    }
+
     private static final class PredicateSearchTerm extends SearchTerm
     {
         private static final long serialVersionUID = 1163386376061414046L;
@@ -230,107 +248,84 @@ public class ImapFetchService implements EmailFetchService
         }
     }
 
-    private final class PollingMessageListener implements MessageCountListener
+    /**
+     * Searches messages matching the filters: the messages already present in the folder are looked up once
+     * using IMAP SEARCH for the translatable filters, then only the messages with UIDs greater than the last
+     * seen one are checked on every subsequent poll.
+     */
+    private static final class IncrementalSearch
     {
-        private final Runnable refresh;
-        private final SearchTerm searchTerm;
-        private final List<Message> messages;
+        private final Folder folder;
+        private final UIDFolder uidFolder;
+        private final SearchTerm serverSearchTerm;
+        private final SearchTerm clientSearchTerm;
+        private long lastSeenUid;
 
-        private final ReentrantLock lock = new ReentrantLock();
-        private final Condition messageArrivedCondition = lock.newCondition();
-        private final Condition messageHandleCondition = lock.newCondition();
-        private final AtomicBoolean handleFlag = new AtomicBoolean(true);
+        private IncrementalSearch(Folder folder, List<FailablePredicate<Message, MessagingException>> messageFilters)
+        {
+            this.folder = folder;
+            this.uidFolder = (UIDFolder) folder;
+            this.serverSearchTerm = createServerSearchTerm(messageFilters);
+            this.clientSearchTerm = new PredicateSearchTerm(messageFilters);
+        }
 
-        private PollingMessageListener(Runnable refresh, SearchTerm searchTerm)
+        private static SearchTerm createServerSearchTerm(
+                List<FailablePredicate<Message, MessagingException>> messageFilters)
         {
-            this.refresh = refresh;
-            this.searchTerm = searchTerm;
-            this.messages = new CopyOnWriteArrayList<>();
+            SearchTerm[] terms = messageFilters.stream()
+                    .filter(MessageFilter.class::isInstance)
+                    .map(MessageFilter.class::cast)
+                    .map(MessageFilter::getSearchTerm)
+                    .flatMap(Optional::stream)
+                    .toArray(SearchTerm[]::new);
+            if (terms.length == 0)
+            {
+                return null;
+            }
+            return terms.length == 1 ? terms[0] : new AndTerm(terms);
         }
 
-        @Override
-        public void messagesAdded(MessageCountEvent event)
+        private List<Message> searchExisting() throws MessagingException
         {
-            try
+            int messageCount = folder.getMessageCount();
+            if (messageCount == 0)
             {
-                lock.lock();
-                messageArrivedCondition.signal();
-                interruptible(() ->
-                {
-                    while (handleFlag.get())
-                    {
-                        messageHandleCondition.await();
-                    }
-                    return null;
-                });
-                for (Message message : event.getMessages())
-                {
-                    if (searchTerm.match(message))
-                    {
-                        messages.add(message);
-                    }
-                }
+                return List.of();
             }
-            finally
+            lastSeenUid = uidFolder.getUID(folder.getMessage(messageCount));
+            return filter(serverSearchTerm == null ? folder.getMessages() : folder.search(serverSearchTerm));
+        }
+
+        private List<Message> searchNew() throws MessagingException
+        {
+            Message[] newMessages = Stream.of(uidFolder.getMessagesByUID(lastSeenUid + 1, UIDFolder.LASTUID))
+                    .filter(m -> getUid(m) > lastSeenUid)
+                    .toArray(Message[]::new);
+            if (newMessages.length == 0)
             {
-                try
-                {
-                    handleFlag.set(true);
-                    messageHandleCondition.signal();
-                }
-                finally
-                {
-                    lock.unlock();
-                }
+                return List.of();
             }
+            lastSeenUid = getUid(newMessages[newMessages.length - 1]);
+            return filter(serverSearchTerm == null ? newMessages : folder.search(serverSearchTerm, newMessages));
         }
 
-        @Override
-        public void messagesRemoved(MessageCountEvent event)
+        private List<Message> filter(Message[] candidates) throws MessagingException
         {
-            // empty
+            fetchMessages(folder, candidates, Set.of(Item.ENVELOPE));
+            Message[] filtered = Stream.of(candidates).filter(clientSearchTerm::match).toArray(Message[]::new);
+            fetchMessages(folder, filtered, Set.of(Item.CONTENT_INFO));
+            return List.of(filtered);
         }
 
-        public List<Message> getMessages() throws InterruptedException
+        private long getUid(Message message)
         {
-            while (lock.isLocked())
-            {
-                Sleeper.sleep(Duration.ofSeconds(1));
-            }
             try
             {
-                lock.lock();
-                refresh.run();
-                boolean arrived = false;
-                while (true)
-                {
-                    arrived = messageArrivedCondition.await(messageEventWaitInMillis, TimeUnit.MILLISECONDS);
-                    break;
-                }
-
-                if (arrived)
-                {
-                    handleFlag.set(false);
-                    messageHandleCondition.signal();
-                    while (!handleFlag.get())
-                    {
-                        messageHandleCondition.await();
-                    }
-                }
-                return StreamSupport.stream(this.messages.spliterator(), false)
-                                    .collect(Collectors.toList());
+                return uidFolder.getUID(message);
             }
-            finally
+            catch (MessagingException e)
             {
-                try
-                {
-                    handleFlag.set(true);
-                    messageHandleCondition.signal();
-                }
-                finally
-                {
-                    lock.unlock();
-                }
+                throw new InternalEmailFetchServiceException(e);
             }
         }
     }
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.email.service;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.mail.Folder;
+import javax.mail.FolderClosedException;
+import javax.mail.MessagingException;
+import javax.mail.Store;
+import javax.mail.event.MessageCountAdapter;
+import javax.mail.event.MessageCountEvent;
+
+import com.sun.mail.imap.IMAPFolder;
+import com.sun.mail.imap.IMAPStore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vividus.util.Sleeper;
+
+/**
+ * Long-lived connection to IMAP folder shared by all fetches performed against the same server. New messages are
+ * detected using IMAP IDLE (or periodic NOOP if the server doesn't support IDLE) on a dedicated thread, the threads
+ * waiting for messages are woken up as soon as the server reports new messages.
+ */
+final class ImapMailbox
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImapMailbox.class);
+
+    private static final String IDLE_CAPABILITY = "IDLE";
+
+    private final Store store;
+    private final String folderName;
+    private final Duration pollingTimeout;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition messagesArrived = lock.newCondition();
+    private long arrivals;
+
+    private IMAPFolder folder;
+    private volatile boolean running;
+
+    ImapMailbox(Store store, String folderName, Duration pollingTimeout)
+    {
+        this.store = store;
+        this.folderName = folderName;
+        this.pollingTimeout = pollingTimeout;
+    }
+
+    void open() throws MessagingException
+    {
+        store.connect();
+        folder = (IMAPFolder) store.getFolder(folderName);
+        folder.addMessageCountListener(new MessageCountAdapter()
+        {
+            @Override
+            public void messagesAdded(MessageCountEvent event)
+            {
+                signalArrivals(event.getMessages().length);
+            }
+        });
+        folder.open(Folder.READ_ONLY);
+        running = true;
+
+        boolean idleSupported = ((IMAPStore) store).hasCapability(IDLE_CAPABILITY);
+        Thread listener = new Thread(() -> listen(idleSupported), "imap-idle-" + folderName);
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    Folder getFolder()
+    {
+        return folder;
+    }
+
+    boolean isOpen()
+    {
+        return running && folder.isOpen();
+    }
+
+    long getArrivals()
+    {
+        lock.lock();
+        try
+        {
+            return arrivals;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until new messages are reported by the server.
+     * @param seenArrivals the number of arrivals observed by the caller
+     * @param timeout the maximum time to wait
+     * @return the current number of arrivals, it's equal to <b>seenArrivals</b> if the waiting time elapsed
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws MessagingException if the connection to the folder is lost
+     */
+    long awaitArrivals(long seenArrivals, Duration timeout) throws InterruptedException, MessagingException
+    {
+        lock.lock();
+        try
+        {
+            long nanos = timeout.toNanos();
+            while (arrivals == seenArrivals && nanos > 0 && running)
+            {
+                nanos = messagesArrived.awaitNanos(nanos);
+            }
+            if (!running)
+            {
+                throw new FolderClosedException(folder, "Connection to IMAP folder " + folderName + " is lost");
+            }
+            return arrivals;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private void signalArrivals(int count)
+    {
+        lock.lock();
+        try
+        {
+            arrivals += count;
+            messagesArrived.signalAll();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private void listen(boolean idleSupported)
+    {
+        while (isOpen())
+        {
+            try
+            {
+                if (idleSupported)
+                {
+                    folder.idle();
+                }
+                else
+                {
+                    folder.getMessageCount();
+                    Sleeper.sleep(pollingTimeout);
+                }
+            }
+            catch (MessagingException | IllegalStateException e)
+            {
+                if (running)
+                {
+                    LOGGER.warn("Stopped listening to new messages in IMAP folder {}", folderName, e);
+                }
+                break;
+            }
+        }
+        running = false;
+        signalArrivals(0);
+    }
+
+    void close()
+    {
+        running = false;
+        try
+        {
+            if (folder != null && folder.isOpen())
+            {
+                folder.close(false);
+            }
+            store.close();
+        }
+        catch (MessagingException e)
+        {
+            LOGGER.warn("Unable to close connection to IMAP folder {}", folderName, e);
+        }
+    }
+}
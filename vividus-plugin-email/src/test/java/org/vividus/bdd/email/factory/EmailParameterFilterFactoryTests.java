@@ -26,6 +26,7 @@ import static org.mockito.Mockito.when;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import javax.mail.Address;
@@ -34,6 +35,14 @@ import javax.mail.Message.RecipientType;
 import javax.mail.MessagingException;
 import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
+import javax.mail.search.AndTerm;
+import javax.mail.search.ComparisonTerm;
+import javax.mail.search.FromStringTerm;
+import javax.mail.search.ReceivedDateTerm;
+import javax.mail.search.RecipientStringTerm;
+import javax.mail.search.SearchTerm;
+import javax.mail.search.SentDateTerm;
+import javax.mail.search.SubjectTerm;
 
 import org.apache.commons.lang3.function.FailablePredicate;
 import org.junit.jupiter.api.Test;
@@ -47,6 +56,8 @@ import org.vividus.bdd.steps.StringComparisonRule;
 
 class EmailParameterFilterFactoryTests
 {
+    private static final String TEXT = "Registration code";
+
     @ParameterizedTest
     @CsvSource({
         "Test message, EQUAL_TO, Test message, true ",
@@ -207,6 +218,66 @@ class EmailParameterFilterFactoryTests
             "Please use ISO 8601 zone date time format like '\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}.\\d{3}Z'"));
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "EQUAL_TO,         true",
+        "is_equal_to,      true",
+        "CONTAINS,         true",
+        "MATCHES,          false",
+        "DOES_NOT_CONTAIN, false",
+        "NOT_EQUAL_TO,     false"
+    })
+    void testSubjectSearchTerm(String rule, boolean translatable)
+    {
+        Optional<SearchTerm> searchTerm = EmailParameterFilterFactory.SUBJECT.createFilter(rule, TEXT).getSearchTerm();
+        assertEquals(translatable, searchTerm.isPresent());
+        searchTerm.ifPresent(term -> assertEquals(new SubjectTerm(TEXT), term));
+    }
+
+    @Test
+    void testSentDateSearchTerms()
+    {
+        String date = "2020-06-14T11:47:11.521Z";
+        Date notBefore = Date.from(Instant.parse("2020-06-12T11:47:11.521Z"));
+        Date notAfter = Date.from(Instant.parse("2020-06-16T11:47:11.521Z"));
+        EmailParameterFilterFactory factory = EmailParameterFilterFactory.SENT_DATE;
+        assertEquals(Optional.of(new SentDateTerm(ComparisonTerm.GE, notBefore)),
+                factory.createFilter(ComparisonRule.GREATER_THAN.name(), date).getSearchTerm());
+        assertEquals(Optional.of(new SentDateTerm(ComparisonTerm.LE, notAfter)),
+                factory.createFilter(ComparisonRule.LESS_THAN_OR_EQUAL_TO.name(), date).getSearchTerm());
+        assertEquals(Optional.of(new AndTerm(new SentDateTerm(ComparisonTerm.GE, notBefore),
+                new SentDateTerm(ComparisonTerm.LE, notAfter))),
+                factory.createFilter(ComparisonRule.EQUAL_TO.name(), date).getSearchTerm());
+        assertEquals(Optional.empty(), factory.createFilter(ComparisonRule.NOT_EQUAL_TO.name(), date).getSearchTerm());
+        assertEquals(Optional.empty(), factory.createFilter(ComparisonRule.EQUAL_TO.name(), "11:11").getSearchTerm());
+    }
+
+    @Test
+    void testReceivedDateSearchTerm()
+    {
+        assertEquals(Optional.of(new ReceivedDateTerm(ComparisonTerm.GE,
+                Date.from(Instant.parse("2020-06-12T11:47:11.521Z")))),
+                EmailParameterFilterFactory.RECEIVED_DATE.createFilter(
+                        ComparisonRule.GREATER_THAN_OR_EQUAL_TO.name(), "2020-06-14T11:47:11.521Z").getSearchTerm());
+    }
+
+    @Test
+    void testAddressesSearchTerms()
+    {
+        String addresses = "me <me@company.com>, boss@company.com";
+        assertEquals(Optional.of(new AndTerm(new FromStringTerm("me@company.com"),
+                new FromStringTerm("boss@company.com"))),
+                EmailParameterFilterFactory.FROM.createFilter(ComparisonRule.EQUAL_TO.name(), addresses)
+                        .getSearchTerm());
+        assertEquals(Optional.of(new RecipientStringTerm(RecipientType.CC, "me@company.com")),
+                EmailParameterFilterFactory.CC_RECIPIENTS.createFilter(StringComparisonRule.IS_EQUAL_TO.name(),
+                        "me@company.com").getSearchTerm());
+        assertEquals(Optional.empty(), EmailParameterFilterFactory.TO_RECIPIENTS
+                .createFilter(StringComparisonRule.CONTAINS.name(), addresses).getSearchTerm());
+        assertEquals(Optional.empty(), EmailParameterFilterFactory.REPLY_TO
+                .createFilter(ComparisonRule.EQUAL_TO.name(), addresses).getSearchTerm());
+    }
+
     private static Date asDate(ZonedDateTime dateTime)
     {
         return Date.from(dateTime.toInstant());
@@ -20,6 +20,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -27,7 +30,10 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.mail.Message;
 import javax.mail.MessagingException;
@@ -53,7 +59,9 @@ import org.vividus.bdd.email.factory.EmailMessageFactory;
 import org.vividus.bdd.email.factory.EmailParameterFilterFactory;
 import org.vividus.bdd.email.model.EmailMessage;
 import org.vividus.bdd.email.model.EmailServerConfiguration;
+import org.vividus.bdd.email.service.ImapFetchService.EmailFetchServiceException;
 import org.vividus.bdd.steps.ComparisonRule;
+import org.vividus.bdd.steps.StringComparisonRule;
 import org.vividus.util.Sleeper;
 
 class ImapFetchServiceSystemTests
@@ -66,8 +74,8 @@ class ImapFetchServiceSystemTests
     private static GreenMail mailServer;
     private static GreenMailUser mailUser;
 
-    private final EmailFetchService service = new ImapFetchService(Duration.ofSeconds(30), 6, "INBOX",
-            new EmailMessageFactory());
+    private final ImapFetchService service = spy(new ImapFetchService(Duration.ofSeconds(30), 6, "INBOX",
+            new EmailMessageFactory()));
 
     @BeforeAll
     static void initServer()
@@ -92,6 +100,7 @@ class ImapFetchServiceSystemTests
     @AfterEach
     void cleanUp() throws FolderException
     {
+        service.close();
         mailServer.purgeEmailFromAllMailboxes();
     }
 
@@ -142,6 +151,61 @@ class ImapFetchServiceSystemTests
         assertThat(receivedMessages, hasSize(0));
     }
 
+    @Test
+    void testFetchUsingServerSideSearch() throws MessagingException
+    {
+        String subject = GreenMailUtil.random();
+        IntStream.range(0, 20).forEach(i -> scheduleSendEmail(0, GreenMailUtil.random()));
+        scheduleSendEmail(0, subject);
+
+        List<FailablePredicate<Message, MessagingException>> predicates = List.of(
+                EmailParameterFilterFactory.SUBJECT.createFilter(StringComparisonRule.IS_EQUAL_TO.name(), subject),
+                EmailParameterFilterFactory.FROM.createFilter(ComparisonRule.EQUAL_TO.name(), SENDER),
+                EmailParameterFilterFactory.SENT_DATE.createFilter(ComparisonRule.GREATER_THAN.name(),
+                        Instant.now().minus(1, ChronoUnit.HOURS).toString()));
+
+        List<EmailMessage> receivedMessages = new ArrayList<>();
+        assertTimeout(Duration.ofSeconds(7),
+            () -> receivedMessages.addAll(service.fetch(predicates, getConfig())));
+
+        assertThat(receivedMessages, hasSize(1));
+        assertEquals(subject, receivedMessages.get(0).getSubject());
+    }
+
+    @Test
+    void testParallelFetchesShareConnection() throws Exception
+    {
+        EmailServerConfiguration config = getConfig();
+        List<String> subjects = List.of(GreenMailUtil.random(), GreenMailUtil.random(), GreenMailUtil.random());
+        List<CompletableFuture<List<EmailMessage>>> fetches = subjects.stream()
+                .map(subject -> EmailParameterFilterFactory.SUBJECT.createFilter(ComparisonRule.EQUAL_TO.name(),
+                        subject))
+                .map(filter -> CompletableFuture.supplyAsync(() -> fetch(List.of(filter), config)))
+                .collect(Collectors.toList());
+        subjects.forEach(subject -> scheduleSendEmail(2, subject));
+
+        for (int index = 0; index < subjects.size(); index++)
+        {
+            List<EmailMessage> messages = fetches.get(index).get(15, TimeUnit.SECONDS);
+            assertThat(messages, hasSize(1));
+            assertEquals(subjects.get(index), messages.get(0).getSubject());
+        }
+        verify(service, times(1)).createStore(config);
+    }
+
+    private List<EmailMessage> fetch(List<FailablePredicate<Message, MessagingException>> predicates,
+            EmailServerConfiguration config)
+    {
+        try
+        {
+            return service.fetch(predicates, config);
+        }
+        catch (EmailFetchServiceException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private static EmailServerConfiguration getConfig()
     {
         return new EmailServerConfiguration(USER_LOGIN, USER_PASS, Map.of(
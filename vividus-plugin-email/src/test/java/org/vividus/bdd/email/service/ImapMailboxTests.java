@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.email.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import javax.mail.Folder;
+import javax.mail.FolderClosedException;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.event.MessageCountEvent;
+import javax.mail.event.MessageCountListener;
+
+import com.sun.mail.imap.IMAPFolder;
+import com.sun.mail.imap.IMAPStore;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImapMailboxTests
+{
+    private static final String INBOX = "INBOX";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Mock private IMAPStore store;
+    @Mock private IMAPFolder folder;
+
+    private ImapMailbox mailbox;
+
+    @BeforeEach
+    void beforeEach()
+    {
+        mailbox = new ImapMailbox(store, INBOX, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void afterEach()
+    {
+        mailbox.close();
+    }
+
+    @Test
+    void shouldWakeUpWaitingThreadsWhenMessagesArrive() throws Exception
+    {
+        MessageCountListener listener = open();
+        assertSame(folder, mailbox.getFolder());
+        assertTrue(mailbox.isOpen());
+
+        CompletableFuture<Long> arrivals = CompletableFuture.supplyAsync(() -> await(0, TIMEOUT));
+        listener.messagesAdded(new MessageCountEvent(folder, MessageCountEvent.ADDED, false,
+                new Message[] { mock(Message.class), mock(Message.class) }));
+
+        assertEquals(2, arrivals.get());
+        assertEquals(2, mailbox.getArrivals());
+    }
+
+    @Test
+    void shouldReturnSameArrivalsOnTimeout() throws Exception
+    {
+        open();
+        assertEquals(0, mailbox.awaitArrivals(0, Duration.ofMillis(10)));
+    }
+
+    @Test
+    void shouldFailWaitingWhenMailboxIsClosed() throws Exception
+    {
+        open();
+        mailbox.close();
+        verify(folder).close(false);
+        verify(store).close();
+        assertFalse(mailbox.isOpen());
+        assertThrows(FolderClosedException.class, () -> mailbox.awaitArrivals(0, TIMEOUT));
+    }
+
+    private MessageCountListener open() throws MessagingException
+    {
+        when(store.getFolder(INBOX)).thenReturn(folder);
+        lenient().when(folder.isOpen()).thenReturn(true);
+        mailbox.open();
+        verify(store).connect();
+        verify(folder).open(Folder.READ_ONLY);
+        ArgumentCaptor<MessageCountListener> listenerCaptor = ArgumentCaptor.forClass(MessageCountListener.class);
+        verify(folder).addMessageCountListener(listenerCaptor.capture());
+        verify(store).hasCapability(any());
+        return listenerCaptor.getValue();
+    }
+
+    private long await(long seenArrivals, Duration timeout)
+    {
+        try
+        {
+            return mailbox.awaitArrivals(seenArrivals, timeout);
+        }
+        catch (InterruptedException | MessagingException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import static java.util.Map.entry;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -37,8 +38,9 @@ import org.vividus.bdd.model.CellRecord;
 import org.vividus.bdd.model.CellValue;
 import org.vividus.excel.ExcelSheetParser;
 import org.vividus.excel.ExcelSheetsExtractor;
-import org.vividus.excel.IExcelSheetParser;
+import org.vividus.excel.IExcelCellsProvider;
 import org.vividus.excel.IExcelSheetsExtractor;
+import org.vividus.excel.StreamingExcelSheetReader;
 import org.vividus.excel.WorkbookParsingException;
 import org.vividus.http.HttpTestContext;
 import org.vividus.softassert.ISoftAssert;
@@ -47,6 +49,7 @@ public class ExcelResponseValidationSteps
 {
     private final HttpTestContext httpTestContext;
     private final ISoftAssert softAssert;
+    private boolean streamingMode;
 
     public ExcelResponseValidationSteps(HttpTestContext httpTestContext, ISoftAssert softAssert)
     {
@@ -74,7 +77,7 @@ public class ExcelResponseValidationSteps
     @Then("response contains excel sheet with index `$index` and records:$records")
     public void excelSheetWithIndexHasRecords(int index, List<CellRecord> records)
     {
-        checkRecords(records, e -> e.getSheet(index), "index " + index);
+        checkRecords(records, e -> e.getSheet(index), (i, n) -> i == index, "index " + index);
     }
 
     /**
@@ -97,15 +100,14 @@ public class ExcelResponseValidationSteps
     @Then("response contains excel sheet with name `$name` and records:$records")
     public void excelSheetWithNameHasRecords(String name, List<CellRecord> records)
     {
-        checkRecords(records, e -> e.getSheet(name), "name " + name);
+        checkRecords(records, e -> e.getSheet(name), (i, n) -> name.equals(n), "name " + name);
     }
 
     private void checkRecords(List<CellRecord> records, Function<IExcelSheetsExtractor, Optional<Sheet>> sheetMapper,
-            String errorKey)
+            BiPredicate<Integer, String> sheetMatcher, String errorKey)
     {
-        sheetMapper.apply(getExtractor()).ifPresentOrElse(s ->
+        getCellsProvider(records, sheetMapper, sheetMatcher).ifPresentOrElse(parser ->
         {
-            IExcelSheetParser parser = new ExcelSheetParser(s);
             records.stream()
                 .flatMap(r -> parser.getDataFromRange(r.getCellsRange())
                         .stream()
@@ -136,11 +138,19 @@ public class ExcelResponseValidationSteps
         });
     }
 
-    private IExcelSheetsExtractor getExtractor()
+    private Optional<IExcelCellsProvider> getCellsProvider(List<CellRecord> records,
+            Function<IExcelSheetsExtractor, Optional<Sheet>> sheetMapper, BiPredicate<Integer, String> sheetMatcher)
     {
+        byte[] responseBody = httpTestContext.getResponse().getResponseBody();
         try
         {
-            return new ExcelSheetsExtractor(httpTestContext.getResponse().getResponseBody());
+            if (streamingMode)
+            {
+                List<String> ranges = records.stream().map(CellRecord::getCellsRange).collect(Collectors.toList());
+                return StreamingExcelSheetReader.readCells(responseBody, sheetMatcher, ranges);
+            }
+            return sheetMapper.apply(new ExcelSheetsExtractor(responseBody)).<IExcelCellsProvider>map(
+                    ExcelSheetParser::new);
         }
         catch (WorkbookParsingException e)
         {
@@ -148,6 +158,16 @@ public class ExcelResponseValidationSteps
         }
     }
 
+    /**
+     * Enables streaming mode: only XLSX documents are supported, the sheet is read row by row and only the cells
+     * from the checked ranges are kept in memory.
+     * @param streamingMode <code>true</code> to read documents in streaming mode
+     */
+    public void setStreamingMode(boolean streamingMode)
+    {
+        this.streamingMode = streamingMode;
+    }
+
     private static Predicate<Entry<CellValue, Optional<Pattern>>> filterMatched()
     {
         return e ->
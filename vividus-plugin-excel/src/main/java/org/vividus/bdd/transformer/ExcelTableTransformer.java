@@ -32,14 +32,26 @@ import org.jbehave.core.model.TableParsers;
 import org.vividus.bdd.model.CellValue;
 import org.vividus.bdd.util.ExamplesTableProcessor;
 import org.vividus.excel.ExcelSheetParser;
-import org.vividus.excel.ExcelSheetsExtractor;
-import org.vividus.excel.IExcelSheetParser;
+import org.vividus.excel.IExcelCellsProvider;
 import org.vividus.excel.IExcelSheetsExtractor;
+import org.vividus.excel.StreamingExcelSheetReader;
+import org.vividus.excel.WorkbookCache;
 import org.vividus.excel.WorkbookParsingException;
 
 @Named("FROM_EXCEL")
 public class ExcelTableTransformer implements ExtendedTableTransformer
 {
+    private static final String RANGE = "range";
+    private static final String ADDRESSES = "addresses";
+    private static final String ADDRESSES_SEPARATOR = ";";
+
+    private final WorkbookCache workbookCache;
+
+    public ExcelTableTransformer(WorkbookCache workbookCache)
+    {
+        this.workbookCache = workbookCache;
+    }
+
     @Override
     public String transform(String tableAsString, TableParsers tableParsers, TableProperties properties)
     {
@@ -49,17 +61,24 @@ public class ExcelTableTransformer implements ExtendedTableTransformer
         List<String> result;
         try
         {
-            IExcelSheetsExtractor excelSheetsExtractor = new ExcelSheetsExtractor(path);
-            Optional<Sheet> sheet = excelSheetsExtractor.getSheet(sheetName);
-            if (sheet.isEmpty())
+            List<String> data;
+            if (Boolean.parseBoolean(properties.getProperties().getProperty("streaming")))
             {
-                throw new IllegalArgumentException("Sheet with name '" + sheetName + "' does not exist");
+                data = extractData(readCells(path, sheetName, properties), properties);
+            }
+            else
+            {
+                IExcelSheetsExtractor excelSheetsExtractor = workbookCache.getExtractor(path);
+                // The cached workbook may be shared with the parallel stories, while POI workbooks are not thread-safe
+                synchronized (excelSheetsExtractor)
+                {
+                    data = extractData(createSheetParser(excelSheetsExtractor, sheetName), properties);
+                }
             }
-            IExcelSheetParser excelSheetParser = new ExcelSheetParser(sheet.get());
             String lineBreakReplacementPropertyValue = properties.getProperties().getProperty("lineBreakReplacement");
             String lineBreakReplacement = lineBreakReplacementPropertyValue == null ? ""
                 : lineBreakReplacementPropertyValue;
-            result = extractData(excelSheetParser, properties)
+            result = data
                     .stream()
                     .map(e -> e.replace("\n", lineBreakReplacement))
                     .collect(Collectors.toList());
@@ -71,17 +90,38 @@ public class ExcelTableTransformer implements ExtendedTableTransformer
         return build(result, properties);
     }
 
-    private List<String> extractData(IExcelSheetParser sheetParser, TableProperties properties)
+    private IExcelCellsProvider createSheetParser(IExcelSheetsExtractor excelSheetsExtractor, String sheetName)
+    {
+        Optional<Sheet> sheet = excelSheetsExtractor.getSheet(sheetName);
+        return new ExcelSheetParser(sheet.orElseThrow(() -> sheetDoesNotExist(sheetName)));
+    }
+
+    private IExcelCellsProvider readCells(String path, String sheetName, TableProperties properties)
+            throws WorkbookParsingException
+    {
+        List<String> ranges = processCompetingMandatoryProperties(properties,
+                entry(RANGE, range -> List.of(range)),
+                entry(ADDRESSES, addresses -> List.of(addresses.split(ADDRESSES_SEPARATOR))));
+        return StreamingExcelSheetReader.readCells(path, (index, name) -> sheetName.equals(name), ranges)
+                .orElseThrow(() -> sheetDoesNotExist(sheetName));
+    }
+
+    private static IllegalArgumentException sheetDoesNotExist(String sheetName)
+    {
+        return new IllegalArgumentException("Sheet with name '" + sheetName + "' does not exist");
+    }
+
+    private List<String> extractData(IExcelCellsProvider cellsProvider, TableProperties properties)
     {
         return processCompetingMandatoryProperties(properties,
-                entry("range", range -> extractDataFromRage(sheetParser, properties, range)),
-                entry("addresses", addresses -> extractDataFromAddresses(sheetParser, addresses)));
+                entry(RANGE, range -> extractDataFromRage(cellsProvider, properties, range)),
+                entry(ADDRESSES, addresses -> extractDataFromAddresses(cellsProvider, addresses)));
     }
 
-    private List<String> extractDataFromRage(IExcelSheetParser sheetParser, TableProperties properties,
+    private List<String> extractDataFromRage(IExcelCellsProvider cellsProvider, TableProperties properties,
             String range)
     {
-        List<String> data = sheetParser.getDataFromRange(range).stream().map(CellValue::getValue)
+        List<String> data = cellsProvider.getDataFromRange(range).stream().map(CellValue::getValue)
                 .collect(Collectors.toList());
         String incrementAsString = properties.getProperties().getProperty("increment");
         if (incrementAsString != null)
@@ -94,9 +134,10 @@ public class ExcelTableTransformer implements ExtendedTableTransformer
         return data;
     }
 
-    private List<String> extractDataFromAddresses(IExcelSheetParser sheetParser, String addresses)
+    private List<String> extractDataFromAddresses(IExcelCellsProvider cellsProvider, String addresses)
     {
-        return Stream.of(addresses.split(";")).map(sheetParser::getDataFromCell).collect(Collectors.toList());
+        return Stream.of(addresses.split(ADDRESSES_SEPARATOR)).map(cellsProvider::getDataFromCell)
+                .collect(Collectors.toList());
     }
 
     private String build(List<String> data, TableProperties properties)
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.excel;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.vividus.bdd.model.CellValue;
+
+/**
+ * Keeps only the cells within the requested ranges out of the streamed sheet rows. The cells outside the requested
+ * ranges are treated as missing.
+ */
+class ExcelSheetCellsCollector implements IExcelCellsProvider
+{
+    private final List<CellRangeAddress> ranges;
+    private final Set<Integer> existingRows = new HashSet<>();
+    private final Map<CellAddress, String> cells = new HashMap<>();
+
+    ExcelSheetCellsCollector(Collection<String> ranges)
+    {
+        this.ranges = ranges.stream().map(CellRangeAddress::valueOf).collect(Collectors.toList());
+    }
+
+    void collectRow(int rowIndex, Map<Integer, String> rowCells)
+    {
+        for (CellRangeAddress range : ranges)
+        {
+            if (rowIndex >= range.getFirstRow() && rowIndex <= range.getLastRow())
+            {
+                existingRows.add(rowIndex);
+                rowCells.forEach((columnIndex, value) -> {
+                    if (range.containsColumn(columnIndex))
+                    {
+                        cells.put(new CellAddress(rowIndex, columnIndex), value);
+                    }
+                });
+            }
+        }
+    }
+
+    @Override
+    public List<CellValue> getDataFromRange(String range)
+    {
+        return StreamSupport.stream(CellRangeAddress.valueOf(range).spliterator(), false)
+                .map(CellAddress::formatAsString)
+                .map(addr -> new CellValue(getDataFromCell(addr), addr))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public String getDataFromCell(String address)
+    {
+        CellReference cellReference = new CellReference(address);
+        int rowIndex = cellReference.getRow();
+        if (!existingRows.contains(rowIndex))
+        {
+            throw new IllegalArgumentException(String.format("Row at address '%s' doesn't exist", address));
+        }
+        return cells.get(new CellAddress(rowIndex, cellReference.getCol()));
+    }
+}
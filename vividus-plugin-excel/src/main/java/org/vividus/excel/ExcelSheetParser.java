@@ -16,13 +16,12 @@
 
 package org.vividus.excel;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
@@ -132,8 +131,8 @@ public class ExcelSheetParser implements IExcelSheetParser
                         .mapToObj(row::getCell)
                         .filter(Objects::nonNull)
                         .map(this::getCellValueAndTrimIfNeeded)
-                        .collect(toLinkedList()))
-                .collect(toLinkedList());
+                        .collect(Collectors.toList()))
+                .collect(Collectors.toList());
     }
 
     private int getCellsCount(int lastCellIndex)
@@ -141,11 +140,6 @@ public class ExcelSheetParser implements IExcelSheetParser
         return Math.min(lastCellIndex + 1, columnsToParseCount);
     }
 
-    private static <T> Collector<T, ?, LinkedList<T>> toLinkedList()
-    {
-        return Collectors.toCollection(LinkedList::new);
-    }
-
     @Override
     public List<Map<String, String>> getDataWithTitle(int titleRowNumber)
     {
@@ -157,7 +151,7 @@ public class ExcelSheetParser implements IExcelSheetParser
     {
         int to = rowsToParseCount - skipBottomRows;
         Row titleRow = sheet.getRow(titleRowNumber);
-        List<Map<String, String>> resultData = new LinkedList<>();
+        List<Map<String, String>> resultData = new ArrayList<>();
         for (int rowIndex = titleRowNumber + 1; rowIndex < to; rowIndex++)
         {
             Row dataRow = sheet.getRow(rowIndex);
@@ -20,9 +20,8 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.poi.ss.usermodel.Sheet;
-import org.vividus.bdd.model.CellValue;
 
-public interface IExcelSheetParser
+public interface IExcelSheetParser extends IExcelCellsProvider
 {
     List<String> getRow(int rowNumber);
 
@@ -37,8 +36,4 @@ public interface IExcelSheetParser
     List<Map<String, String>> getDataWithTitle(int titleRowNumber, int skipBottomRows);
 
     Sheet getSheet();
-
-    List<CellValue> getDataFromRange(String range);
-
-    String getDataFromCell(String cellAddress);
 }
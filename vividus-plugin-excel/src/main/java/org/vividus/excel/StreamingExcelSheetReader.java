@@ -0,0 +1,279 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.excel;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.UnsupportedFileFormatException;
+import org.apache.poi.ooxml.util.SAXHelper;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.vividus.util.ResourceUtils;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Reads XLSX sheets in a streaming manner: the sheet XML is parsed with SAX and the rows are passed to the consumer
+ * one by one as soon as they are read, so neither the workbook nor the sheet is ever loaded into memory as a whole.
+ * The cell values are formatted the same way as {@link CellUtils#getCellValueAsString} does.
+ */
+public final class StreamingExcelSheetReader
+{
+    private StreamingExcelSheetReader()
+    {
+    }
+
+    /**
+     * Reads the first sheet matching the given condition from the XLSX document
+     * @param bytes XLSX document
+     * @param sheetMatcher condition accepting 0-based sheet index and sheet name
+     * @param rowConsumer consumer accepting 0-based row index and the row cells: 0-based column index to cell value
+     * @return <code>true</code> if the sheet is found, otherwise <code>false</code>
+     * @throws WorkbookParsingException if the document can't be parsed
+     */
+    public static boolean readSheet(byte[] bytes, BiPredicate<Integer, String> sheetMatcher,
+            BiConsumer<Integer, Map<Integer, String>> rowConsumer) throws WorkbookParsingException
+    {
+        try
+        {
+            return readSheet(OPCPackage.open(new ByteArrayInputStream(bytes)), sheetMatcher, rowConsumer);
+        }
+        catch (IOException | OpenXML4JException | UnsupportedFileFormatException e)
+        {
+            throw new WorkbookParsingException(e);
+        }
+    }
+
+    /**
+     * Reads the first sheet matching the given condition from the XLSX document
+     * @param path path to XLSX resource
+     * @param sheetMatcher condition accepting 0-based sheet index and sheet name
+     * @param rowConsumer consumer accepting 0-based row index and the row cells: 0-based column index to cell value
+     * @return <code>true</code> if the sheet is found, otherwise <code>false</code>
+     * @throws WorkbookParsingException if the document can't be parsed
+     */
+    public static boolean readSheet(String path, BiPredicate<Integer, String> sheetMatcher,
+            BiConsumer<Integer, Map<Integer, String>> rowConsumer) throws WorkbookParsingException
+    {
+        File file = ResourceUtils.loadFile(StreamingExcelSheetReader.class, StringUtils.prependIfMissing(path, "/"));
+        try
+        {
+            return readSheet(OPCPackage.open(file, PackageAccess.READ), sheetMatcher, rowConsumer);
+        }
+        catch (OpenXML4JException | UnsupportedFileFormatException e)
+        {
+            throw new WorkbookParsingException(e);
+        }
+    }
+
+    /**
+     * Collects values of the cells within the given ranges from the first sheet matching the given condition
+     * @param bytes XLSX document
+     * @param sheetMatcher condition accepting 0-based sheet index and sheet name
+     * @param ranges ranges of cells to collect (e.g. "B1:D8", "A1", "C1:C5")
+     * @return provider of the collected cells or empty optional if the sheet is not found
+     * @throws WorkbookParsingException if the document can't be parsed
+     */
+    public static Optional<IExcelCellsProvider> readCells(byte[] bytes, BiPredicate<Integer, String> sheetMatcher,
+            Collection<String> ranges) throws WorkbookParsingException
+    {
+        ExcelSheetCellsCollector collector = new ExcelSheetCellsCollector(ranges);
+        return readSheet(bytes, sheetMatcher, collector::collectRow) ? Optional.of(collector) : Optional.empty();
+    }
+
+    /**
+     * Collects values of the cells within the given ranges from the first sheet matching the given condition
+     * @param path path to XLSX resource
+     * @param sheetMatcher condition accepting 0-based sheet index and sheet name
+     * @param ranges ranges of cells to collect (e.g. "B1:D8", "A1", "C1:C5")
+     * @return provider of the collected cells or empty optional if the sheet is not found
+     * @throws WorkbookParsingException if the document can't be parsed
+     */
+    public static Optional<IExcelCellsProvider> readCells(String path, BiPredicate<Integer, String> sheetMatcher,
+            Collection<String> ranges) throws WorkbookParsingException
+    {
+        ExcelSheetCellsCollector collector = new ExcelSheetCellsCollector(ranges);
+        return readSheet(path, sheetMatcher, collector::collectRow) ? Optional.of(collector) : Optional.empty();
+    }
+
+    private static boolean readSheet(OPCPackage opcPackage, BiPredicate<Integer, String> sheetMatcher,
+            BiConsumer<Integer, Map<Integer, String>> rowConsumer) throws WorkbookParsingException
+    {
+        try
+        {
+            XSSFReader xssfReader = new XSSFReader(opcPackage);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+            for (int index = 0; sheets.hasNext(); index++)
+            {
+                try (InputStream sheet = sheets.next())
+                {
+                    if (sheetMatcher.test(index, sheets.getSheetName()))
+                    {
+                        XMLReader xmlReader = SAXHelper.newXMLReader();
+                        xmlReader.setContentHandler(new SheetHandler(sharedStrings, rowConsumer));
+                        xmlReader.parse(new InputSource(sheet));
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e)
+        {
+            throw new WorkbookParsingException(e);
+        }
+        finally
+        {
+            opcPackage.revert();
+        }
+    }
+
+    private static final class SheetHandler extends DefaultHandler
+    {
+        private static final String ROW = "row";
+        private static final String CELL = "c";
+        private static final String VALUE = "v";
+        private static final String INLINE_STRING_TEXT = "t";
+        private static final String PHONETIC_RUN = "rPh";
+        private static final String REFERENCE = "r";
+
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final BiConsumer<Integer, Map<Integer, String>> rowConsumer;
+        private final StringBuilder cellValue = new StringBuilder();
+
+        private Map<Integer, String> rowCells;
+        private int rowIndex = -1;
+        private int columnIndex;
+        private String cellType;
+        private boolean valueElement;
+        private boolean phoneticRun;
+
+        SheetHandler(ReadOnlySharedStringsTable sharedStrings, BiConsumer<Integer, Map<Integer, String>> rowConsumer)
+        {
+            this.sharedStrings = sharedStrings;
+            this.rowConsumer = rowConsumer;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes)
+        {
+            switch (getName(localName, qName))
+            {
+                case ROW:
+                    String rowReference = attributes.getValue(REFERENCE);
+                    rowIndex = rowReference != null ? Integer.parseInt(rowReference) - 1 : rowIndex + 1;
+                    columnIndex = -1;
+                    rowCells = new LinkedHashMap<>();
+                    break;
+                case CELL:
+                    String cellReference = attributes.getValue(REFERENCE);
+                    columnIndex = cellReference != null ? new CellReference(cellReference).getCol() : columnIndex + 1;
+                    cellType = attributes.getValue("t");
+                    cellValue.setLength(0);
+                    break;
+                case VALUE:
+                case INLINE_STRING_TEXT:
+                    // Phonetic runs are not a part of the cell text, POI skips them as well
+                    valueElement = !phoneticRun;
+                    break;
+                case PHONETIC_RUN:
+                    phoneticRun = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length)
+        {
+            if (valueElement)
+            {
+                cellValue.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName)
+        {
+            switch (getName(localName, qName))
+            {
+                case ROW:
+                    rowConsumer.accept(rowIndex, rowCells);
+                    rowCells = null;
+                    break;
+                case CELL:
+                    rowCells.put(columnIndex, getCellValue());
+                    break;
+                case VALUE:
+                case INLINE_STRING_TEXT:
+                    valueElement = false;
+                    break;
+                case PHONETIC_RUN:
+                    phoneticRun = false;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private String getCellValue()
+        {
+            String rawValue = cellValue.toString();
+            if (cellType == null || "n".equals(cellType))
+            {
+                return rawValue.isEmpty() ? StringUtils.EMPTY : String.valueOf(Double.parseDouble(rawValue));
+            }
+            switch (cellType)
+            {
+                case "s":
+                    return sharedStrings.getItemAt(Integer.parseInt(rawValue)).getString();
+                case "b":
+                    return String.valueOf("1".equals(rawValue));
+                case "e":
+                    return StringUtils.EMPTY;
+                default:
+                    return rawValue;
+            }
+        }
+
+        private static String getName(String localName, String qName)
+        {
+            return localName.isEmpty() ? qName : localName;
+        }
+    }
+}
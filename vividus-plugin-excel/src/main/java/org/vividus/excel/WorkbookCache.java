@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.excel;
+
+import java.io.File;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vividus.util.ResourceUtils;
+
+/**
+ * Thread-safe cache of parsed workbooks shared across all batches. The workbooks are identified by the resolved file
+ * path along with the file last modification time and size, so the modified files are parsed again. The cache is
+ * bounded by the number of the cached workbooks: the least recently used workbooks are evicted first.
+ * <p>
+ * The parsed workbooks are not thread-safe, so the same extractor may be returned to parallel stories: the callers
+ * must synchronize on the returned extractor while reading its sheets.
+ * </p>
+ */
+public class WorkbookCache
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkbookCache.class);
+
+    private final Cache<WorkbookKey, IExcelSheetsExtractor> cache;
+
+    public WorkbookCache(long maxEntries)
+    {
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the parsed workbook from the cache or parses and caches it, if it's missing in the cache. The sheets
+     * of the returned extractor must be read while holding the lock on the extractor.
+     * @param path relative path to the Excel file
+     * @return sheets extractor of the workbook
+     * @throws WorkbookParsingException if the workbook can't be parsed
+     */
+    public IExcelSheetsExtractor getExtractor(String path) throws WorkbookParsingException
+    {
+        File file = ResourceUtils.loadFile(WorkbookCache.class, StringUtils.prependIfMissing(path, "/"));
+        WorkbookKey key = new WorkbookKey(file.getAbsolutePath(), file.lastModified(), file.length());
+        try
+        {
+            return cache.get(key, () -> new ExcelSheetsExtractor(file));
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof WorkbookParsingException)
+            {
+                throw (WorkbookParsingException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    public CacheStats getStats()
+    {
+        return cache.stats();
+    }
+
+    public void invalidateAll()
+    {
+        CacheStats stats = cache.stats();
+        LOGGER.info("Workbook cache statistics: {} hit(s), {} miss(es), {} eviction(s)", stats.hitCount(),
+                stats.missCount(), stats.evictionCount());
+        cache.invalidateAll();
+    }
+
+    private static final class WorkbookKey
+    {
+        private final String path;
+        private final long lastModified;
+        private final long size;
+
+        WorkbookKey(String path, long lastModified, long size)
+        {
+            this.path = path;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            WorkbookKey that = (WorkbookKey) o;
+            return lastModified == that.lastModified && size == that.size && path.equals(that.path);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(path, lastModified, size);
+        }
+    }
+}
@@ -112,6 +112,32 @@ class ExcelResponseValidationStepsTests
         verifyNoMoreInteractions(softAssert);
     }
 
+    @ParameterizedTest
+    @MethodSource("sheetProcessors")
+    void testExcelSheetHasRecordsInStreamingMode(BiConsumer<ExcelResponseValidationSteps, List<CellRecord>> consumer)
+    {
+        steps.setStreamingMode(true);
+        consumer.accept(steps, List.of(
+                record("A4:B5", "(Product|Price)\\d+\\s*"),
+                record("D2:D5", "\\d{2,4}\\.0"),
+                record("C1:C3", "\\d+")
+            ));
+        String expected = "a string matching the pattern '\\d+'";
+        verifyMissmatch("C1", null, expected);
+        verifyMissmatch("C2", null, expected);
+        verifyMissmatch("C3", null, expected);
+        verifyNoMoreInteractions(softAssert);
+    }
+
+    @Test
+    void testExcelSheetWithIndexHasRecordsNoSheetWithIndexInStreamingMode()
+    {
+        steps.setStreamingMode(true);
+        steps.excelSheetWithIndexHasRecords(10, List.of());
+        verify(softAssert).recordFailedAssertion("Sheet with the index 10 doesn't exist");
+        verifyNoMoreInteractions(softAssert);
+    }
+
     private void verifyMissmatch(String addr, String actual, String matcherAsString)
     {
         verify(softAssert).assertThat(eq(format("Cell at address '%s'", addr)), eq(actual),
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.vividus.excel.WorkbookCache;
 
 @ExtendWith(MockitoExtension.class)
 class ExcelTableTransformerTests
@@ -36,8 +37,9 @@ class ExcelTableTransformerTests
     private static final String RANGE_VALUE = "B4:B6";
     private static final String JOIN_VALUES = "joinValues";
     private static final String TRUE = "true";
+    private static final String STREAMING = "streaming";
 
-    private final ExcelTableTransformer transformer = new ExcelTableTransformer();
+    private final ExcelTableTransformer transformer = new ExcelTableTransformer(new WorkbookCache(1));
 
     private final TableProperties properties = new TableProperties(new Properties());
 
@@ -95,6 +97,35 @@ class ExcelTableTransformerTests
         assertEquals("|data|\n|OPEN|\n|CLOSED|", actualResult);
     }
 
+    @Test
+    void testTransformWithUsingRangeInStreamingMode()
+    {
+        properties.getProperties().setProperty(RANGE, RANGE_VALUE);
+        properties.getProperties().setProperty(STREAMING, TRUE);
+        String actualResult = transformer.transform("", null, properties);
+        assertEquals("|data|\n|OPEN|\n|PENDING|\n|CLOSED|", actualResult);
+    }
+
+    @Test
+    void testTransformWithUsingAddressesInStreamingMode()
+    {
+        properties.getProperties().setProperty(ADDRESSES, "B4;B6");
+        properties.getProperties().setProperty(STREAMING, TRUE);
+        String actualResult = transformer.transform("", null, properties);
+        assertEquals("|data|\n|OPEN|\n|CLOSED|", actualResult);
+    }
+
+    @Test
+    void testTransformNotExistingSheetInStreamingMode()
+    {
+        properties.getProperties().setProperty("sheet", "unknown");
+        properties.getProperties().setProperty(ADDRESSES, "B4");
+        properties.getProperties().setProperty(STREAMING, TRUE);
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> transformer.transform("", null, properties));
+        assertEquals("Sheet with name 'unknown' does not exist", exception.getMessage());
+    }
+
     @Test
     void textTransformWithCellContainsNewLine()
     {
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.excel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.vividus.bdd.model.CellValue;
+import org.vividus.util.ResourceUtils;
+
+class StreamingExcelSheetReaderTests
+{
+    private static final String TEMPLATE_PATH = "/TestTemplate.xlsx";
+    private static final String SHEET_NAME = "RepeatingData";
+
+    @Test
+    void testReadCellsFromRange() throws WorkbookParsingException
+    {
+        IExcelCellsProvider cells = readCells(SHEET_NAME, List.of("B2:B7", "A1")).get();
+        assertEquals(List.of("OPEN", "OPEN", "OPEN", "PENDING", "CLOSED", "CLOSED"),
+                cells.getDataFromRange("B2:B7").stream().map(CellValue::getValue).collect(Collectors.toList()));
+        assertEquals("name", cells.getDataFromCell("A1"));
+    }
+
+    @Test
+    void testReadNotExistingRow() throws WorkbookParsingException
+    {
+        IExcelCellsProvider cells = readCells(SHEET_NAME, List.of("A1001")).get();
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> cells.getDataFromCell("A1001"));
+        assertEquals("Row at address 'A1001' doesn't exist", exception.getMessage());
+    }
+
+    @Test
+    void testReadNotExistingSheet() throws WorkbookParsingException
+    {
+        assertEquals(Optional.empty(), readCells("unknown", List.of("A1")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "Mapping", "AsString", SHEET_NAME })
+    void testStreamingReadingIsConsistentWithWorkbookParsing(String sheetName) throws WorkbookParsingException
+    {
+        String range = "A1:E10";
+        IExcelSheetParser sheetParser = new ExcelSheetParser(
+                new ExcelSheetsExtractor(TEMPLATE_PATH).getSheet(sheetName).get());
+        IExcelCellsProvider cells = readCells(sheetName, List.of(range)).get();
+        Function<IExcelCellsProvider, List<String>> valuesExtractor = provider -> {
+            List<String> values = new ArrayList<>();
+            for (int row = 1; row <= 10; row++)
+            {
+                for (char column = 'A'; column <= 'E'; column++)
+                {
+                    String address = String.valueOf(column) + row;
+                    try
+                    {
+                        values.add(provider.getDataFromCell(address));
+                    }
+                    catch (IllegalArgumentException e)
+                    {
+                        values.add(e.getMessage());
+                    }
+                }
+            }
+            return values;
+        };
+        assertEquals(valuesExtractor.apply(sheetParser), valuesExtractor.apply(cells));
+    }
+
+    @Test
+    void testReadSheetFromBytes() throws WorkbookParsingException
+    {
+        byte[] bytes = ResourceUtils.loadResourceAsByteArray(getClass(), TEMPLATE_PATH);
+        List<Integer> rowIndices = new ArrayList<>();
+        assertTrue(StreamingExcelSheetReader.readSheet(bytes, (index, name) -> index == 0,
+            (rowIndex, rowCells) -> rowIndices.add(rowIndex)));
+        assertFalse(rowIndices.isEmpty());
+        assertFalse(StreamingExcelSheetReader.readSheet(bytes, (index, name) -> index == 100,
+            (rowIndex, rowCells) -> rowIndices.add(rowIndex)));
+    }
+
+    @Test
+    void testReadInlineStringWithoutPhoneticRuns() throws IOException, WorkbookParsingException
+    {
+        String sheetXml = "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">"
+                + "<sheetData><row r=\"1\"><c r=\"A1\" t=\"inlineStr\"><is><r><t>value</t></r>"
+                + "<rPh sb=\"0\" eb=\"5\"><t>phonetic value</t></rPh></is></c></row></sheetData></worksheet>";
+        byte[] bytes = replaceSheet(createWorkbook(), sheetXml);
+        IExcelCellsProvider cells = StreamingExcelSheetReader.readCells(bytes, (index, name) -> true, List.of("A1"))
+                .get();
+        assertEquals("value", cells.getDataFromCell("A1"));
+    }
+
+    @Test
+    void testReadInvalidDocument()
+    {
+        assertThrows(WorkbookParsingException.class, () -> StreamingExcelSheetReader.readSheet(new byte[] { 1, 2 },
+            (index, name) -> true, (rowIndex, rowCells) -> { }));
+    }
+
+    private static byte[] createWorkbook() throws IOException
+    {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream output = new ByteArrayOutputStream())
+        {
+            workbook.createSheet();
+            workbook.write(output);
+            return output.toByteArray();
+        }
+    }
+
+    private static byte[] replaceSheet(byte[] workbook, String sheetXml) throws IOException
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ZipInputStream input = new ZipInputStream(new ByteArrayInputStream(workbook));
+                ZipOutputStream zip = new ZipOutputStream(output))
+        {
+            for (ZipEntry entry = input.getNextEntry(); entry != null; entry = input.getNextEntry())
+            {
+                zip.putNextEntry(new ZipEntry(entry.getName()));
+                if ("xl/worksheets/sheet1.xml".equals(entry.getName()))
+                {
+                    zip.write(sheetXml.getBytes(StandardCharsets.UTF_8));
+                }
+                else
+                {
+                    input.transferTo(zip);
+                }
+                zip.closeEntry();
+            }
+        }
+        return output.toByteArray();
+    }
+
+    private static Optional<IExcelCellsProvider> readCells(String sheetName, List<String> ranges)
+            throws WorkbookParsingException
+    {
+        return StreamingExcelSheetReader.readCells(TEMPLATE_PATH, (index, name) -> sheetName.equals(name), ranges);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.excel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.google.common.cache.CacheStats;
+
+import org.junit.jupiter.api.Test;
+
+class WorkbookCacheTests
+{
+    private static final String TEMPLATE_PATH = "TestTemplate.xlsx";
+
+    @Test
+    void shouldReuseParsedWorkbook() throws WorkbookParsingException
+    {
+        WorkbookCache cache = new WorkbookCache(1);
+        IExcelSheetsExtractor extractor = cache.getExtractor(TEMPLATE_PATH);
+        assertSame(extractor, cache.getExtractor("/" + TEMPLATE_PATH));
+        CacheStats stats = cache.getStats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    void shouldNotCacheWorkbooksWhenMaxEntriesIsZero() throws WorkbookParsingException
+    {
+        WorkbookCache cache = new WorkbookCache(0);
+        assertNotSame(cache.getExtractor(TEMPLATE_PATH), cache.getExtractor(TEMPLATE_PATH));
+        assertEquals(0, cache.getStats().hitCount());
+    }
+
+    @Test
+    void shouldClearCache() throws WorkbookParsingException
+    {
+        WorkbookCache cache = new WorkbookCache(1);
+        IExcelSheetsExtractor extractor = cache.getExtractor(TEMPLATE_PATH);
+        cache.invalidateAll();
+        assertNotSame(extractor, cache.getExtractor(TEMPLATE_PATH));
+    }
+}
@@ -18,9 +18,9 @@ package org.vividus.bdd.steps.mongodb;
 
 import static java.util.function.Function.identity;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -28,8 +28,6 @@ import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
-import com.mongodb.client.MongoClient;
-import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoDatabase;
 
 import org.apache.commons.lang3.Validate;
@@ -40,17 +38,19 @@ import org.vividus.bdd.steps.mongodb.command.CommandType;
 import org.vividus.bdd.steps.mongodb.command.MongoCommand;
 import org.vividus.bdd.steps.mongodb.command.MongoCommandEntry;
 import org.vividus.bdd.variable.VariableScope;
+import org.vividus.mongodb.MongoClientManager;
 import org.vividus.util.json.JsonUtils;
 
 public class MongoDbSteps
 {
-    private final Map<String, String> connections;
+    private final MongoClientManager mongoClientManager;
     private final JsonUtils jsonUtils;
     private final IBddVariableContext bddVariableContext;
 
-    public MongoDbSteps(Map<String, String> connections, JsonUtils jsonUtils, IBddVariableContext bddVariableContext)
+    public MongoDbSteps(MongoClientManager mongoClientManager, JsonUtils jsonUtils,
+            IBddVariableContext bddVariableContext)
     {
-        this.connections = connections;
+        this.mongoClientManager = mongoClientManager;
         this.jsonUtils = jsonUtils;
         this.bddVariableContext = bddVariableContext;
     }
@@ -117,6 +117,20 @@ public class MongoDbSteps
      * <td>{ age: 1, city: 1, name: 0 }</td>
      * </tr>
      * <tr>
+     * <td>limit</td>
+     * <td>intermediate</td>
+     * <td>limits the number of documents returned by the server, takes JSON with a single numeric value as an
+     * argument</td>
+     * <td>{ limit: 100 }</td>
+     * </tr>
+     * <tr>
+     * <td>batch size</td>
+     * <td>intermediate</td>
+     * <td>sets the number of documents fetched from the server per cursor batch, takes JSON with a single numeric
+     * value as an argument</td>
+     * <td>{ batchSize: 1000 }</td>
+     * </tr>
+     * <tr>
      * <td>count</td>
      * <td>terminal</td>
      * <td>counts the number of documents in a collection, takes no arguments</td>
@@ -128,6 +142,13 @@ public class MongoDbSteps
      * <td>collects previously found documents into JSON format, takes no arguments</td>
      * <td></td>
      * </tr>
+     * <tr>
+     * <td>collect to file</td>
+     * <td>terminal</td>
+     * <td>streams previously found documents to a temporary file in JSON lines format (one document per line) and
+     * saves the path to the file instead of the documents, takes no arguments</td>
+     * <td></td>
+     * </tr>
      * </table>
      * Command sequence rules
      * <ul>
@@ -159,11 +180,16 @@ public class MongoDbSteps
         executeInDatabase(instanceKey, dbName,
             db -> commands.stream()
                 .reduce(identity(), (f, c) -> c.getCommand().apply(f, c.getArgument()), (l, r) -> l)
-                .andThen(jsonUtils::toJson)
+                .andThen(this::toVariableValue)
                 .andThen(putVariable(scopes, variableName))
                 .apply(db.getCollection(collectionName)));
     }
 
+    private String toVariableValue(Object result)
+    {
+        return result instanceof Path ? ((Path) result).toAbsolutePath().toString() : jsonUtils.toJson(result);
+    }
+
     private <T> UnaryOperator<T> putVariable(Set<VariableScope> scopes, String variableName)
     {
         return r ->
@@ -209,12 +235,7 @@ public class MongoDbSteps
 
     private void executeInDatabase(String connectionKey, String dbKey, Consumer<MongoDatabase> databaseConsumer)
     {
-        String connection = connections.get(connectionKey);
-        Validate.validState(connection != null, "Connection with key '%s' does not exist", connectionKey);
-        try (MongoClient client = MongoClients.create(connection))
-        {
-            MongoDatabase database = client.getDatabase(dbKey);
-            databaseConsumer.accept(database);
-        }
+        MongoDatabase database = mongoClientManager.getClient(connectionKey).getDatabase(dbKey);
+        databaseConsumer.accept(database);
     }
 }
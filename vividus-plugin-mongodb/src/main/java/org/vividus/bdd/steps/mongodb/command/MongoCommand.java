@@ -18,6 +18,12 @@ package org.vividus.bdd.steps.mongodb.command;
 
 import static java.util.stream.StreamSupport.stream;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -25,10 +31,17 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.mongodb.MongoClientSettings;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 
+import org.apache.commons.lang3.Validate;
+import org.bson.BsonDocument;
+import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
 
 public enum MongoCommand
 {
@@ -48,6 +61,22 @@ public enum MongoCommand
             return chain.andThen(out -> cast(out, FindIterable.class).projection(argument));
         }
     },
+    LIMIT(CommandType.INTERMEDIATE)
+    {
+        @Override
+        public Function<Object, Object> apply(Function<Object, Object> chain, Bson argument)
+        {
+            return chain.andThen(out -> cast(out, FindIterable.class).limit(toInt(argument)));
+        }
+    },
+    BATCH_SIZE(CommandType.INTERMEDIATE)
+    {
+        @Override
+        public Function<Object, Object> apply(Function<Object, Object> chain, Bson argument)
+        {
+            return chain.andThen(out -> cast(out, FindIterable.class).batchSize(toInt(argument)));
+        }
+    },
     COLLECT(CommandType.TERMINAL)
     {
         @SuppressWarnings("unchecked")
@@ -66,8 +95,20 @@ public enum MongoCommand
         {
             return chain.andThen(out -> stream(cast(out, FindIterable.class).spliterator(), false).count());
         }
+    },
+    COLLECT_TO_FILE(CommandType.TERMINAL)
+    {
+        @SuppressWarnings("unchecked")
+        @Override
+        public Function<Object, Object> apply(Function<Object, Object> chain, Bson argument)
+        {
+            return chain.andThen(out -> writeToJsonLinesFile(cast(out, FindIterable.class)));
+        }
     };
 
+    private static final JsonWriterSettings JSON_WRITER_SETTINGS = JsonWriterSettings.builder()
+            .outputMode(JsonMode.RELAXED).build();
+
     private static final Map<CommandType, List<MongoCommand>> COMMANDS;
 
     private final CommandType commandType;
@@ -99,4 +140,37 @@ public enum MongoCommand
     {
         return type.cast(object);
     }
+
+    int toInt(Bson argument)
+    {
+        BsonDocument document = argument.toBsonDocument(BsonDocument.class,
+                MongoClientSettings.getDefaultCodecRegistry());
+        Validate.isTrue(document.size() == 1 && document.values().iterator().next().isNumber(),
+                "Argument of '%s' command must contain exactly one numeric value, but got: %s", this,
+                document.toJson());
+        return document.values().iterator().next().asNumber().intValue();
+    }
+
+    Path writeToJsonLinesFile(FindIterable<Document> documents)
+    {
+        try
+        {
+            Path file = Files.createTempFile("mongodb-documents-", ".jsonl");
+            file.toFile().deleteOnExit();
+            try (MongoCursor<Document> cursor = documents.iterator();
+                    BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8))
+            {
+                while (cursor.hasNext())
+                {
+                    writer.write(cursor.next().toJson(JSON_WRITER_SETTINGS));
+                    writer.newLine();
+                }
+            }
+            return file;
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.mongodb;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import org.apache.commons.lang3.Validate;
+
+public class MongoClientManager implements AutoCloseable
+{
+    private final Map<String, String> connections;
+    private final Map<String, MongoClient> clients = new ConcurrentHashMap<>();
+    private final MongoCommandLatencyListener commandLatencyListener = new MongoCommandLatencyListener();
+
+    private int maxPoolSize;
+    private int minPoolSize;
+    private Duration maxConnectionIdleTime;
+
+    public MongoClientManager(Map<String, String> connections)
+    {
+        this.connections = connections;
+    }
+
+    /**
+     * Returns the client for the MongoDB instance with the given key. The client is created on the first request and
+     * is shared across all subsequent requests until the manager is closed.
+     * @param instanceKey key of particular connection under <b>mongodb.connection.</b> prefix
+     * @return MongoDB client
+     */
+    public MongoClient getClient(String instanceKey)
+    {
+        String connection = connections.get(instanceKey);
+        Validate.validState(connection != null, "Connection with key '%s' does not exist", instanceKey);
+        return clients.computeIfAbsent(instanceKey, k -> MongoClients.create(createSettings(connection)));
+    }
+
+    private MongoClientSettings createSettings(String connection)
+    {
+        // The pool settings from the connection string (if any) take precedence over the global ones
+        return MongoClientSettings.builder()
+                .applyToConnectionPoolSettings(b -> b.maxSize(maxPoolSize)
+                        .minSize(minPoolSize)
+                        .maxConnectionIdleTime(maxConnectionIdleTime.toMillis(), TimeUnit.MILLISECONDS))
+                .applyConnectionString(new ConnectionString(connection))
+                .addCommandListener(commandLatencyListener)
+                .build();
+    }
+
+    public MongoCommandLatencyListener getCommandLatencyListener()
+    {
+        return commandLatencyListener;
+    }
+
+    @Override
+    public void close()
+    {
+        clients.values().forEach(MongoClient::close);
+        clients.clear();
+        commandLatencyListener.logStatistics();
+    }
+
+    public void setMaxPoolSize(int maxPoolSize)
+    {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public void setMinPoolSize(int minPoolSize)
+    {
+        this.minPoolSize = minPoolSize;
+    }
+
+    public void setMaxConnectionIdleTime(Duration maxConnectionIdleTime)
+    {
+        this.maxConnectionIdleTime = maxConnectionIdleTime;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.mongodb;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class MongoCommandLatencyListener implements CommandListener
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoCommandLatencyListener.class);
+
+    private final Map<String, CommandStatistics> statistics = new ConcurrentHashMap<>();
+
+    @Override
+    public void commandStarted(CommandStartedEvent event)
+    {
+        // Latency is measured by the driver and reported in completion events
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event)
+    {
+        record(event.getCommandName(), event.getElapsedTime(TimeUnit.MILLISECONDS), false);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event)
+    {
+        record(event.getCommandName(), event.getElapsedTime(TimeUnit.MILLISECONDS), true);
+    }
+
+    private void record(String commandName, long elapsedTime, boolean failed)
+    {
+        LOGGER.debug("MongoDB command '{}' {} in {} ms", commandName, failed ? "failed" : "succeeded", elapsedTime);
+        statistics.computeIfAbsent(commandName, k -> new CommandStatistics()).record(elapsedTime, failed);
+    }
+
+    public Map<String, CommandStatistics> getStatistics()
+    {
+        return statistics;
+    }
+
+    void logStatistics()
+    {
+        statistics.forEach((commandName, stats) -> LOGGER.info(
+                "MongoDB command '{}': executed {} times ({} failed), total time {} ms, max time {} ms", commandName,
+                stats.getCount(), stats.getFailedCount(), stats.getTotalTime(), stats.getMaxTime()));
+    }
+
+    public static final class CommandStatistics
+    {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failedCount = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0);
+
+        private void record(long elapsedTime, boolean failed)
+        {
+            count.increment();
+            if (failed)
+            {
+                failedCount.increment();
+            }
+            totalTime.add(elapsedTime);
+            maxTime.accumulate(elapsedTime);
+        }
+
+        public long getCount()
+        {
+            return count.sum();
+        }
+
+        public long getFailedCount()
+        {
+            return failedCount.sum();
+        }
+
+        public long getTotalTime()
+        {
+            return totalTime.sum();
+        }
+
+        public long getMaxTime()
+        {
+            return maxTime.get();
+        }
+    }
+}
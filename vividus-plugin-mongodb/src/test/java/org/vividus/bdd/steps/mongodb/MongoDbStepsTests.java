@@ -30,7 +30,6 @@ import java.util.stream.Stream;
 
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoClient;
-import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 
@@ -42,13 +41,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.vividus.bdd.context.IBddVariableContext;
 import org.vividus.bdd.steps.mongodb.command.MongoCommand;
 import org.vividus.bdd.steps.mongodb.command.MongoCommandEntry;
 import org.vividus.bdd.variable.VariableScope;
+import org.vividus.mongodb.MongoClientManager;
 import org.vividus.util.json.JsonUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,61 +55,47 @@ class MongoDbStepsTests
     private static final String LOCAL_KEY = "localKey";
     private static final Document COMMAND = Document.parse("{ listCollections: 1, nameOnly: true }");
     private static final String VARIABLE_KEY = "variableKey";
-    private static final String CONNECTION_KEY = "mongodb://0.0.0.0:27017";
     private static final String COLLECTION_KEY = "collectionKey";
     private static final String DOCUMENT_JSON = "{\"id\":1}";
 
     @Mock
     private IBddVariableContext context;
+    @Mock
+    private MongoClientManager mongoClientManager;
 
     private final JsonUtils jsonUtils = new JsonUtils();
 
-    @Test
-    void testExecuteCommandNoConnection()
-    {
-        MongoDbSteps steps = new MongoDbSteps(Map.of(), jsonUtils, context);
-        Exception exception = assertThrows(IllegalStateException.class,
-            () -> steps.executeCommand(COMMAND, LOCAL_KEY, LOCAL_KEY, Set.of(VariableScope.STORY), VARIABLE_KEY));
-        assertEquals("Connection with key 'localKey' does not exist", exception.getMessage());
-    }
-
     @Test
     void testExecuteCommand()
     {
-        try (MockedStatic<MongoClients> mongoClients = Mockito.mockStatic(MongoClients.class))
-        {
-            MongoDatabase database = mockDatabase(mongoClients);
-            when(database.runCommand(COMMAND)).thenReturn(Document.parse(DOCUMENT_JSON));
+        MongoDatabase database = mockDatabase();
+        when(database.runCommand(COMMAND)).thenReturn(Document.parse(DOCUMENT_JSON));
 
-            MongoDbSteps steps = new MongoDbSteps(Map.of(LOCAL_KEY, CONNECTION_KEY), jsonUtils, context);
-            steps.executeCommand(COMMAND, LOCAL_KEY, LOCAL_KEY, Set.of(VariableScope.STORY), VARIABLE_KEY);
+        MongoDbSteps steps = new MongoDbSteps(mongoClientManager, jsonUtils, context);
+        steps.executeCommand(COMMAND, LOCAL_KEY, LOCAL_KEY, Set.of(VariableScope.STORY), VARIABLE_KEY);
 
-            verify(context).putVariable(Set.of(VariableScope.STORY), VARIABLE_KEY, Map.of("id", "1"));
-        }
+        verify(context).putVariable(Set.of(VariableScope.STORY), VARIABLE_KEY, Map.of("id", "1"));
     }
 
     @SuppressWarnings("unchecked")
     @Test
     void testExecuteCommands()
     {
-        try (MockedStatic<MongoClients> mongoClients = Mockito.mockStatic(MongoClients.class))
-        {
-            MongoDatabase database = mockDatabase(mongoClients);
-            MongoCollection<Document> collection = mock(MongoCollection.class);
-            when(database.getCollection(COLLECTION_KEY)).thenReturn(collection);
-            Bson argument = mock(Bson.class);
-            FindIterable<Document> findIterable = mock(FindIterable.class);
-            when(collection.find(argument)).thenReturn(findIterable);
-            when(findIterable.spliterator()).thenReturn(List.of(Document.parse(DOCUMENT_JSON)).spliterator());
-
-            MongoDbSteps steps = new MongoDbSteps(Map.of(LOCAL_KEY, CONNECTION_KEY), jsonUtils, context);
-
-            steps.executeCommands(
-                    List.of(commandEntry(MongoCommand.FIND, argument), commandEntry(MongoCommand.COLLECT, argument)),
-                    COLLECTION_KEY, LOCAL_KEY, LOCAL_KEY, Set.of(VariableScope.STORY), VARIABLE_KEY);
-            verify(context).putVariable(Set.of(VariableScope.STORY), VARIABLE_KEY,
-                    String.format("[%s]", DOCUMENT_JSON));
-        }
+        MongoDatabase database = mockDatabase();
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+        when(database.getCollection(COLLECTION_KEY)).thenReturn(collection);
+        Bson argument = mock(Bson.class);
+        FindIterable<Document> findIterable = mock(FindIterable.class);
+        when(collection.find(argument)).thenReturn(findIterable);
+        when(findIterable.spliterator()).thenReturn(List.of(Document.parse(DOCUMENT_JSON)).spliterator());
+
+        MongoDbSteps steps = new MongoDbSteps(mongoClientManager, jsonUtils, context);
+
+        steps.executeCommands(
+                List.of(commandEntry(MongoCommand.FIND, argument), commandEntry(MongoCommand.COLLECT, argument)),
+                COLLECTION_KEY, LOCAL_KEY, LOCAL_KEY, Set.of(VariableScope.STORY), VARIABLE_KEY);
+        verify(context).putVariable(Set.of(VariableScope.STORY), VARIABLE_KEY,
+                String.format("[%s]", DOCUMENT_JSON));
     }
 
     static Stream<Arguments> invalidCommandSequence()
@@ -124,10 +108,11 @@ class MongoDbStepsTests
                     lineSeparator()
                     + " - Command sequence must start with one of the source commands: [FIND]"
                     + lineSeparator()
-                    + " - Command sequence must end with one of the terminal commands: [COLLECT, COUNT]"
+                    + " - Command sequence must end with one of the terminal commands: [COLLECT, COUNT, "
+                    + "COLLECT_TO_FILE]"
                     + lineSeparator()
                     + " - Only the following commands are allowed between the first and the last ones: "
-                    + "[PROJECTION]"),
+                    + "[PROJECTION, LIMIT, BATCH_SIZE]"),
             Arguments.of(List.of(), "Command sequence must not be empty"));
     }
 
@@ -135,7 +120,7 @@ class MongoDbStepsTests
     @ParameterizedTest
     void testExecuteCommandsInvalidSequence(List<MongoCommandEntry> entries, String message)
     {
-        MongoDbSteps steps = new MongoDbSteps(Map.of(LOCAL_KEY, CONNECTION_KEY), jsonUtils, context);
+        MongoDbSteps steps = new MongoDbSteps(mongoClientManager, jsonUtils, context);
 
         Exception exception = assertThrows(IllegalArgumentException.class, () -> steps.executeCommands(entries,
             COLLECTION_KEY, LOCAL_KEY, LOCAL_KEY, Set.of(VariableScope.STORY), VARIABLE_KEY));
@@ -151,10 +136,10 @@ class MongoDbStepsTests
     }
 
     @SuppressWarnings("PMD.CloseResource")
-    private MongoDatabase mockDatabase(MockedStatic<MongoClients> mongoClients)
+    private MongoDatabase mockDatabase()
     {
         MongoClient client = mock(MongoClient.class);
-        mongoClients.when(() -> MongoClients.create(CONNECTION_KEY)).thenReturn(client);
+        when(mongoClientManager.getClient(LOCAL_KEY)).thenReturn(client);
 
         MongoDatabase database = mock(MongoDatabase.class);
         when(client.getDatabase(LOCAL_KEY)).thenReturn(database);
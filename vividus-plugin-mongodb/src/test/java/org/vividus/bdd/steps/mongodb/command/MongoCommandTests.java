@@ -17,14 +17,20 @@
 package org.vividus.bdd.steps.mongodb.command;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Function;
 
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -61,6 +67,51 @@ class MongoCommandTests
         assertEquals(projectionIterable, output);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void testLimit()
+    {
+        FindIterable<Document> limitIterable = mock(FindIterable.class);
+        when(findIterable.limit(10)).thenReturn(limitIterable);
+        Object output = MongoCommand.LIMIT.apply(Function.identity(), Document.parse("{ limit: 10 }"))
+                .apply(findIterable);
+        assertEquals(limitIterable, output);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testBatchSize()
+    {
+        FindIterable<Document> batchSizeIterable = mock(FindIterable.class);
+        when(findIterable.batchSize(500)).thenReturn(batchSizeIterable);
+        Object output = MongoCommand.BATCH_SIZE.apply(Function.identity(), Document.parse("{ batchSize: 500 }"))
+                .apply(findIterable);
+        assertEquals(batchSizeIterable, output);
+    }
+
+    @Test
+    void testLimitWithInvalidArgument()
+    {
+        Function<Object, Object> command = MongoCommand.LIMIT.apply(Function.identity(),
+                Document.parse("{ limit: 'ten' }"));
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> command.apply(findIterable));
+        assertEquals("Argument of 'LIMIT' command must contain exactly one numeric value, but got: "
+                + "{\"limit\": \"ten\"}", exception.getMessage());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testCollectToFile() throws IOException
+    {
+        MongoCursor<Document> cursor = mock(MongoCursor.class);
+        when(findIterable.iterator()).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, true, false);
+        when(cursor.next()).thenReturn(Document.parse("{ id: 1 }"), Document.parse("{ id: 2 }"));
+        Path output = (Path) MongoCommand.COLLECT_TO_FILE.apply(Function.identity(), bson).apply(findIterable);
+        assertEquals(List.of("{\"id\": 1}", "{\"id\": 2}"), Files.readAllLines(output));
+        verify(cursor).close();
+    }
+
     @Test
     void testCollect()
     {
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.mongodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.connection.ConnectionPoolSettings;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+class MongoClientManagerTests
+{
+    private static final String INSTANCE_KEY = "instanceKey";
+    private static final String CONNECTION = "mongodb://0.0.0.0:27017";
+    private static final int MAX_POOL_SIZE = 10;
+    private static final int MIN_POOL_SIZE = 2;
+
+    private final MongoClientManager manager = createManager();
+
+    @Test
+    void shouldReuseClientForTheSameInstanceKeyAndCloseItAtTheEnd()
+    {
+        try (MockedStatic<MongoClients> mongoClients = Mockito.mockStatic(MongoClients.class))
+        {
+            MongoClient client = mock(MongoClient.class);
+            mongoClients.when(() -> MongoClients.create(any(MongoClientSettings.class))).thenReturn(client);
+
+            assertSame(client, manager.getClient(INSTANCE_KEY));
+            assertSame(client, manager.getClient(INSTANCE_KEY));
+
+            ArgumentCaptor<MongoClientSettings> settingsCaptor = ArgumentCaptor.forClass(MongoClientSettings.class);
+            mongoClients.verify(() -> MongoClients.create(settingsCaptor.capture()));
+            MongoClientSettings settings = settingsCaptor.getValue();
+            ConnectionPoolSettings poolSettings = settings.getConnectionPoolSettings();
+            assertEquals(MAX_POOL_SIZE, poolSettings.getMaxSize());
+            assertEquals(MIN_POOL_SIZE, poolSettings.getMinSize());
+            assertEquals(1, poolSettings.getMaxConnectionIdleTime(TimeUnit.MINUTES));
+            assertEquals(manager.getCommandLatencyListener(), settings.getCommandListeners().get(0));
+
+            manager.close();
+            verify(client).close();
+        }
+    }
+
+    @Test
+    void shouldPreferPoolSettingsFromConnectionString()
+    {
+        MongoClientManager manager = new MongoClientManager(
+                Map.of(INSTANCE_KEY, CONNECTION + "/?maxPoolSize=5&maxIdleTimeMS=2000"));
+        manager.setMaxPoolSize(MAX_POOL_SIZE);
+        manager.setMinPoolSize(MIN_POOL_SIZE);
+        manager.setMaxConnectionIdleTime(Duration.ofMinutes(1));
+        try (MockedStatic<MongoClients> mongoClients = Mockito.mockStatic(MongoClients.class))
+        {
+            mongoClients.when(() -> MongoClients.create(any(MongoClientSettings.class)))
+                    .thenReturn(mock(MongoClient.class));
+            manager.getClient(INSTANCE_KEY);
+            ArgumentCaptor<MongoClientSettings> settingsCaptor = ArgumentCaptor.forClass(MongoClientSettings.class);
+            mongoClients.verify(() -> MongoClients.create(settingsCaptor.capture()));
+            ConnectionPoolSettings poolSettings = settingsCaptor.getValue().getConnectionPoolSettings();
+            assertEquals(5, poolSettings.getMaxSize());
+            assertEquals(MIN_POOL_SIZE, poolSettings.getMinSize());
+            assertEquals(2, poolSettings.getMaxConnectionIdleTime(TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void shouldFailOnUnknownInstanceKey()
+    {
+        Exception exception = assertThrows(IllegalStateException.class, () -> manager.getClient("unknown"));
+        assertEquals("Connection with key 'unknown' does not exist", exception.getMessage());
+    }
+
+    private static MongoClientManager createManager()
+    {
+        MongoClientManager manager = new MongoClientManager(Map.of(INSTANCE_KEY, CONNECTION));
+        manager.setMaxPoolSize(MAX_POOL_SIZE);
+        manager.setMinPoolSize(MIN_POOL_SIZE);
+        manager.setMaxConnectionIdleTime(Duration.ofMinutes(1));
+        return manager;
+    }
+}
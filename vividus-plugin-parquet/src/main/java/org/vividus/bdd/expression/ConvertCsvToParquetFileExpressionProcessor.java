@@ -18,22 +18,33 @@ package org.vividus.bdd.expression;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.apache.avro.AvroRuntimeException;
 import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
 import org.apache.avro.Schema.Parser;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.hadoop.ParquetFileWriter;
 import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.vividus.csv.CsvReader;
 import org.vividus.util.ResourceUtils;
 
@@ -44,8 +55,15 @@ public class ConvertCsvToParquetFileExpressionProcessor implements IExpressionPr
 
     private static final int CSV_PATH_GROUP = 1;
     private static final int SCHEMA_PATH_GROUP = 2;
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
 
     private final CsvReader csvReader;
+    private final Map<String, Schema> schemas = new ConcurrentHashMap<>();
+    private final Map<String, File> generatedFiles = new ConcurrentHashMap<>();
+
+    private int rowGroupSize = ParquetWriter.DEFAULT_BLOCK_SIZE;
+    private int pageSize = ParquetWriter.DEFAULT_PAGE_SIZE;
+    private CompressionCodecName compressionCodec = CompressionCodecName.UNCOMPRESSED;
 
     public ConvertCsvToParquetFileExpressionProcessor(CsvReader csvReader)
     {
@@ -63,11 +81,12 @@ public class ConvertCsvToParquetFileExpressionProcessor implements IExpressionPr
 
             try
             {
-                List<Map<String, String>> csvData = csvReader.readCsvString(ResourceUtils.loadResource(csvPath));
-                File temporaryFile = File.createTempFile(FilenameUtils.getBaseName(csvPath), ".parquet");
-                temporaryFile.deleteOnExit();
-                write(temporaryFile, schemaPath, csvData);
-                return Optional.of(temporaryFile.getPath());
+                URL csvResource = ResourceUtils.findResource(csvPath);
+                String cacheKey = calculateHash(csvResource) + ':' + schemaPath;
+                File parquetFile = generatedFiles.compute(cacheKey, (key, generatedFile) ->
+                        generatedFile != null && generatedFile.exists() ? generatedFile
+                                : convert(csvPath, csvResource, schemaPath));
+                return Optional.of(parquetFile.getPath());
             }
             catch (IOException e)
             {
@@ -77,22 +96,100 @@ public class ConvertCsvToParquetFileExpressionProcessor implements IExpressionPr
         return Optional.empty();
     }
 
-    private void write(File file, String avroSchemaPath, List<Map<String, String>> data) throws IOException
+    private File convert(String csvPath, URL csvResource, String schemaPath)
+    {
+        try
+        {
+            File parquetFile = File.createTempFile(FilenameUtils.getBaseName(csvPath), ".parquet");
+            parquetFile.deleteOnExit();
+            write(parquetFile, getSchema(schemaPath), csvResource);
+            return parquetFile;
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Problem during file interaction: ", e);
+        }
+    }
+
+    private Schema getSchema(String avroSchemaPath)
+    {
+        return schemas.computeIfAbsent(avroSchemaPath, p -> new Parser().parse(ResourceUtils.loadResource(p)));
+    }
+
+    private void write(File file, Schema schema, URL csvResource) throws IOException
     {
-        Schema schema = new Parser().parse(ResourceUtils.loadResource(avroSchemaPath));
-        try (ParquetWriter<GenericRecord> writer = AvroParquetWriter
+        try (CSVParser csvParser = csvReader.parseCsvFile(csvResource);
+                ParquetWriter<GenericRecord> writer = AvroParquetWriter
                 .<GenericRecord>builder(new Path(file.toURI()))
                 .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
                 .withDataModel(GenericData.get())
                 .withSchema(schema)
+                .withRowGroupSize(rowGroupSize)
+                .withPageSize(pageSize)
+                .withCompressionCodec(compressionCodec)
                 .build())
         {
-            for (Map<String, String> map : data)
+            int[] fieldPositions = getFieldPositions(schema, csvParser.getHeaderNames());
+            for (CSVRecord csvRecord : csvParser)
             {
                 GenericRecord record = new GenericData.Record(schema);
-                map.forEach(record::put);
+                int valuesCount = Math.min(fieldPositions.length, csvRecord.size());
+                for (int i = 0; i < valuesCount; i++)
+                {
+                    record.put(fieldPositions[i], csvRecord.get(i));
+                }
                 writer.write(record);
             }
         }
     }
+
+    private static int[] getFieldPositions(Schema schema, List<String> headerNames)
+    {
+        int[] fieldPositions = new int[headerNames.size()];
+        for (int i = 0; i < fieldPositions.length; i++)
+        {
+            String headerName = headerNames.get(i);
+            Field field = schema.getField(headerName);
+            if (field == null)
+            {
+                throw new AvroRuntimeException("Not a valid schema field: " + headerName);
+            }
+            fieldPositions[i] = field.pos();
+        }
+        return fieldPositions;
+    }
+
+    private static String calculateHash(URL resource) throws IOException
+    {
+        try (InputStream inputStream = resource.openStream())
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[HASH_BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1)
+            {
+                digest.update(buffer, 0, read);
+            }
+            return new BigInteger(1, digest.digest()).toString(16);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void setRowGroupSize(int rowGroupSize)
+    {
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    public void setPageSize(int pageSize)
+    {
+        this.pageSize = pageSize;
+    }
+
+    public void setCompressionCodec(CompressionCodecName compressionCodec)
+    {
+        this.compressionCodec = compressionCodec;
+    }
 }
@@ -31,6 +31,7 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -57,6 +58,24 @@ class ConvertCsvToParquetFileExpressionProcessorTests
         assertEquals("value2", actualRecord.get("field2").toString());
     }
 
+    @Test
+    void testConvertCsvToParquetFileExpressionReusesGeneratedFile()
+    {
+        String expression = "convertCsvToParquetFile(/path/test.csv, /schemas/test.avsc)";
+        assertEquals(processor.execute(expression), processor.execute(expression));
+    }
+
+    @Test
+    void testConvertCsvToParquetFileExpressionWithCompression() throws IOException
+    {
+        processor.setCompressionCodec(CompressionCodecName.GZIP);
+        processor.setRowGroupSize(1024 * 1024);
+        processor.setPageSize(64 * 1024);
+        String parquetPath = processor.execute("convertCsvToParquetFile(test.csv, /schemas/test.avsc)").get();
+        GenericRecord actualRecord = readActualRecord(parquetPath);
+        assertEquals("value1", actualRecord.get("field1").toString());
+    }
+
     private GenericRecord readActualRecord(String parquetPath) throws IOException
     {
         try (ParquetReader<GenericRecord> reader = AvroParquetReader
@@ -16,15 +16,31 @@
 
 package org.vividus.bdd.steps.ssh;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.jbehave.core.annotations.When;
 import org.vividus.bdd.context.IBddVariableContext;
 import org.vividus.bdd.context.SshTestContext;
 import org.vividus.bdd.variable.VariableScope;
+import org.vividus.softassert.ISoftAssert;
 import org.vividus.ssh.CommandExecutionException;
 import org.vividus.ssh.CommandExecutionManager;
 import org.vividus.ssh.Commands;
@@ -34,21 +50,32 @@ import org.vividus.ssh.SingleCommand;
 import org.vividus.ssh.exec.SshOutput;
 import org.vividus.ssh.sftp.SftpCommand;
 import org.vividus.ssh.sftp.SftpOutput;
+import org.vividus.ssh.sftp.SftpTransferService;
 import org.vividus.util.property.PropertyMappedCollection;
 
 public class SshSteps
 {
+    private static final String SERVER_KEY_ERROR =
+            "SSH server connection with key '%s' is not configured in properties";
+
     private final IBddVariableContext bddVariableContext;
     private final Map<String, CommandExecutionManager<?>> commandExecutionManagers;
     private final SshTestContext sshTestContext;
+    private final ISoftAssert softAssert;
+    private final SftpTransferService sftpTransferService;
     private PropertyMappedCollection<ServerConfiguration> serverConfigurations;
+    private ExecutorService executor;
+    private boolean resumeTransfers;
 
     public SshSteps(IBddVariableContext bddVariableContext,
-            Map<String, CommandExecutionManager<?>> commandExecutionManagers, SshTestContext sshTestContext)
+            Map<String, CommandExecutionManager<?>> commandExecutionManagers, SshTestContext sshTestContext,
+            ISoftAssert softAssert, SftpTransferService sftpTransferService)
     {
         this.bddVariableContext = bddVariableContext;
         this.commandExecutionManagers = commandExecutionManagers;
         this.sshTestContext = sshTestContext;
+        this.softAssert = softAssert;
+        this.sftpTransferService = sftpTransferService;
     }
 
     /**
@@ -67,14 +94,196 @@ public class SshSteps
     @When("I execute commands `$commands` on $server over $protocol")
     public Object executeCommands(Commands commands, String server, Protocol protocol) throws CommandExecutionException
     {
-        ServerConfiguration serverConfig = serverConfigurations.get(server,
-                "SSH server connection with key '%s' is not configured in properties", server);
+        ServerConfiguration serverConfig = serverConfigurations.get(server, SERVER_KEY_ERROR, server);
         CommandExecutionManager<?> commandExecutionManager = commandExecutionManagers.get(protocol.toString());
         Object output = commandExecutionManager.run(serverConfig, commands);
         sshTestContext.putSshOutput(Protocol.SSH == protocol ? (SshOutput) output : null);
         return output;
     }
 
+    /**
+     * Step executes commands on several servers concurrently over SSH and saves the results to the table variable.
+     * The table contains one row per server in the order the servers are specified with the following columns:
+     * <ul>
+     * <li><b>server</b> - the server key,
+     * <li><b>stdout</b> - the command standard output,
+     * <li><b>stderr</b> - the command error output or the error message if the execution failed,
+     * <li><b>exit-status</b> - the command exit status or -1 if the execution failed.
+     * </ul>
+     * The number of concurrent executions (shared by all SSH steps running at the moment) is limited by
+     * <b>ssh.max-parallel-executions</b> property. Any execution error and any non-zero exit status are recorded as
+     * failed assertions.
+     * <br>Usage example:
+     * <code>
+     * <br>When I execute commands `uptime` on servers `node-1, node-2, node-3` over SSH and save results to SCENARIO
+     * variable `uptimes`
+     * </code>
+     *
+     * @param commands     Semicolon-separated commands to execute
+     * @param servers      Comma-separated server keys matching any of configured ones
+     * @param scopes       The set (comma separated list of scopes e.g.: STORY, NEXT_BATCHES) of variable's scope<br>
+     *                     <i>Available scopes:</i>
+     *                     <ul>
+     *                     <li><b>STEP</b> - the variable will be available only within the step,
+     *                     <li><b>SCENARIO</b> - the variable will be available only within the scenario,
+     *                     <li><b>STORY</b> - the variable will be available within the whole story,
+     *                     <li><b>NEXT_BATCHES</b> - the variable will be available starting from next batch
+     *                     </ul>
+     * @param variableName A name of variable to save the execution results
+     */
+    @When("I execute commands `$commands` on servers `$servers` over SSH and save results to $scopes variable "
+            + "`$variableName`")
+    public void executeCommandsOnServers(Commands commands, List<String> servers, Set<VariableScope> scopes,
+            String variableName)
+    {
+        @SuppressWarnings("unchecked")
+        CommandExecutionManager<SshOutput> commandExecutionManager =
+                (CommandExecutionManager<SshOutput>) commandExecutionManagers.get(Protocol.SSH.toString());
+        Map<String, Callable<SshOutput>> executions = new LinkedHashMap<>();
+        for (String server : servers)
+        {
+            ServerConfiguration serverConfig = serverConfigurations.get(server, SERVER_KEY_ERROR, server);
+            executions.put(server, () -> commandExecutionManager.execute(serverConfig, commands));
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>(executions.size());
+        executeConcurrently(executions,
+            (server, output) ->
+            {
+                int exitStatus = output.getExitStatus();
+                if (exitStatus != 0)
+                {
+                    softAssert.recordFailedAssertion(
+                            String.format("Commands on server '%s' exited with status %d", server, exitStatus));
+                }
+                results.add(createResult(server, output.getOutputStream(), output.getErrorStream(), exitStatus));
+            },
+            (server, error) ->
+            {
+                softAssert.recordFailedAssertion(
+                        String.format("Failed to execute commands on server '%s': %s", server, error.getMessage()),
+                        error);
+                results.add(createResult(server, "", String.valueOf(error.getMessage()), -1));
+            });
+        bddVariableContext.putVariable(scopes, variableName, results);
+    }
+
+    private static Map<String, Object> createResult(String server, String stdout, String stderr, int exitStatus)
+    {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("server", server);
+        result.put("stdout", stdout);
+        result.put("stderr", stderr);
+        result.put("exit-status", exitStatus);
+        return result;
+    }
+
+    /**
+     * Step downloads the remote files to the local directory over SFTP. The files are streamed directly to the local
+     * file system and transferred concurrently (the number of concurrent transfers is limited by
+     * <b>ssh.max-parallel-executions</b> property). If a local file with the same name already exists, it's
+     * overwritten, unless <b>ssh.sftp.resume-transfers</b> property is set to <code>true</code>: then the download is
+     * resumed from the size of the existing file, so the step can be re-run to complete interrupted transfers (the
+     * files must not be changed between the runs). Any transfer error is recorded as a failed assertion.
+     * <br>Usage example:
+     * <code>
+     * <br>When I download files `/var/log/app.log.gz, /var/log/db.log.gz` from my-host to local directory
+     * `/tmp/logs` over SFTP
+     * </code>
+     *
+     * @param remotePaths    Comma-separated paths of the remote files
+     * @param server         Server key matching any of configured ones
+     * @param localDirectory Path of the local directory to save files to, it's created if it doesn't exist
+     * @throws IOException if unable to create the local directory
+     */
+    @When("I download files `$remotePaths` from $server to local directory `$localDirectory` over SFTP")
+    public void downloadFiles(List<String> remotePaths, String server, String localDirectory) throws IOException
+    {
+        ServerConfiguration serverConfig = serverConfigurations.get(server, SERVER_KEY_ERROR, server);
+        Path directory = Files.createDirectories(Paths.get(localDirectory));
+        Map<String, Callable<Void>> transfers = new LinkedHashMap<>();
+        for (String remotePath : remotePaths)
+        {
+            String localPath = directory.resolve(FilenameUtils.getName(remotePath)).toString();
+            transfers.put(remotePath, () ->
+            {
+                sftpTransferService.download(serverConfig, remotePath, localPath, resumeTransfers);
+                return null;
+            });
+        }
+        executeConcurrently(transfers, (remotePath, result) -> { },
+            (remotePath, error) -> softAssert.recordFailedAssertion(
+                    String.format("Failed to download file '%s' from server '%s'", remotePath, server), error));
+    }
+
+    /**
+     * Step uploads the local files to the remote directory over SFTP. The files are streamed directly from the local
+     * file system and transferred concurrently (the number of concurrent transfers is limited by
+     * <b>ssh.max-parallel-executions</b> property). If a remote file with the same name already exists, it's
+     * overwritten, unless <b>ssh.sftp.resume-transfers</b> property is set to <code>true</code>: then the upload is
+     * resumed from the size of the existing file, so the step can be re-run to complete interrupted transfers (the
+     * files must not be changed between the runs). Any transfer error is recorded as a failed assertion.
+     * <br>Usage example:
+     * <code>
+     * <br>When I upload local files `/tmp/dump-1.tar.gz, /tmp/dump-2.tar.gz` to directory `/data` on my-host over
+     * SFTP
+     * </code>
+     *
+     * @param localPaths      Comma-separated paths of the local files
+     * @param remoteDirectory Path of the remote directory to upload files to
+     * @param server          Server key matching any of configured ones
+     */
+    @When("I upload local files `$localPaths` to directory `$remoteDirectory` on $server over SFTP")
+    public void uploadFiles(List<String> localPaths, String remoteDirectory, String server)
+    {
+        ServerConfiguration serverConfig = serverConfigurations.get(server, SERVER_KEY_ERROR, server);
+        String directory = StringUtils.removeEnd(remoteDirectory, "/");
+        Map<String, Callable<Void>> transfers = new LinkedHashMap<>();
+        for (String localPath : localPaths)
+        {
+            String remotePath = directory + '/' + FilenameUtils.getName(localPath);
+            transfers.put(localPath, () ->
+            {
+                sftpTransferService.upload(serverConfig, localPath, remotePath, resumeTransfers);
+                return null;
+            });
+        }
+        executeConcurrently(transfers, (localPath, result) -> { },
+            (localPath, error) -> softAssert.recordFailedAssertion(
+                    String.format("Failed to upload file '%s' to server '%s'", localPath, server), error));
+    }
+
+    private <R> void executeConcurrently(Map<String, Callable<R>> tasks, BiConsumer<String, R> resultHandler,
+            BiConsumer<String, Throwable> errorHandler)
+    {
+        if (tasks.isEmpty())
+        {
+            return;
+        }
+        Map<String, Future<R>> futures = new LinkedHashMap<>();
+        tasks.forEach((key, task) -> futures.put(key, executor.submit(task)));
+        try
+        {
+            for (Map.Entry<String, Future<R>> future : futures.entrySet())
+            {
+                try
+                {
+                    resultHandler.accept(future.getKey(), future.getValue().get());
+                }
+                catch (ExecutionException e)
+                {
+                    errorHandler.accept(future.getKey(), e.getCause());
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            futures.values().forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Step retrieves server configuration by key, opens SFTP session and executes commands remotely
      * and saves the result of the commands to the <b>variable</b>. Step performs validations:
@@ -153,4 +362,23 @@ public class SshSteps
     {
         this.serverConfigurations = serverConfigurations;
     }
+
+    public void setMaxParallelExecutions(int maxParallelExecutions)
+    {
+        this.executor = Executors.newFixedThreadPool(maxParallelExecutions,
+                new BasicThreadFactory.Builder().namingPattern("ssh-execution-%d").daemon(true).build());
+    }
+
+    public void setResumeTransfers(boolean resumeTransfers)
+    {
+        this.resumeTransfers = resumeTransfers;
+    }
+
+    public void destroy()
+    {
+        if (executor != null)
+        {
+            executor.shutdownNow();
+        }
+    }
 }
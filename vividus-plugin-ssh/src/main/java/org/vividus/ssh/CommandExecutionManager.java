@@ -29,8 +29,20 @@ public class CommandExecutionManager<R>
 
     public R run(ServerConfiguration serverConfiguration, Commands commands) throws CommandExecutionException
     {
-        R executionOutput = commandExecutor.execute(serverConfiguration, commands);
+        R executionOutput = execute(serverConfiguration, commands);
         outputPublisher.publishOutput(executionOutput);
         return executionOutput;
     }
+
+    /**
+     * Executes the commands without publishing the output, the method is safe to be called from any thread.
+     * @param serverConfiguration configuration of the server to execute commands on
+     * @param commands commands to execute
+     * @return execution output
+     * @throws CommandExecutionException if any error happens during commands execution
+     */
+    public R execute(ServerConfiguration serverConfiguration, Commands commands) throws CommandExecutionException
+    {
+        return commandExecutor.execute(serverConfiguration, commands);
+    }
 }
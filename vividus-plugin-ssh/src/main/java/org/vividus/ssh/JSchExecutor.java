@@ -17,48 +17,29 @@
 package org.vividus.ssh;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 import com.jcraft.jsch.Channel;
-import com.jcraft.jsch.JSch;
 import com.jcraft.jsch.JSchException;
-import com.jcraft.jsch.Session;
 import com.jcraft.jsch.agentproxy.AgentProxyException;
-import com.jcraft.jsch.agentproxy.Connector;
-import com.jcraft.jsch.agentproxy.ConnectorFactory;
-import com.jcraft.jsch.agentproxy.RemoteIdentityRepository;
+
+import org.vividus.ssh.SshSessionPool.SshSession;
 
 public abstract class JSchExecutor<T extends Channel, R> implements CommandExecutor<R>
 {
-    private static final int CONNECT_TIMEOUT = 30_000;
+    private final SshSessionPool sessionPool;
 
-    @Override
-    public R execute(ServerConfiguration serverConfiguration, Commands commands) throws CommandExecutionException
+    protected JSchExecutor(SshSessionPool sessionPool)
     {
-        try
-        {
-            JSch jSch = createJSchInstance(serverConfiguration);
-            return execute(jSch, serverConfiguration, commands);
-        }
-        catch (JSchException | AgentProxyException e)
-        {
-            throw new CommandExecutionException(e);
-        }
+        this.sessionPool = sessionPool;
     }
 
-    private R execute(JSch jSch, ServerConfiguration serverConfiguration, Commands commands)
-            throws JSchException, CommandExecutionException
+    @Override
+    public R execute(ServerConfiguration serverConfiguration, Commands commands) throws CommandExecutionException
     {
-        Session session = jSch.getSession(serverConfiguration.getUsername(), serverConfiguration.getHost(),
-                serverConfiguration.getPort());
-        try
+        try (SshSession sshSession = sessionPool.acquire(serverConfiguration))
         {
-            session.setConfig("StrictHostKeyChecking", "no");
-            session.setConfig("PreferredAuthentications", "publickey,password");
-            session.setPassword(serverConfiguration.getPassword());
-            session.connect(CONNECT_TIMEOUT);
             @SuppressWarnings("unchecked")
-            T channel = (T) session.openChannel(getChannelType());
+            T channel = (T) sshSession.getSession().openChannel(getChannelType());
             try
             {
                 return executeCommand(serverConfiguration, commands, channel);
@@ -72,40 +53,14 @@ public abstract class JSchExecutor<T extends Channel, R> implements CommandExecu
                 channel.disconnect();
             }
         }
-        catch (JSchException e)
+        catch (JSchException | AgentProxyException e)
         {
             throw new CommandExecutionException(e);
         }
-        finally
-        {
-            session.disconnect();
-        }
     }
 
     protected abstract String getChannelType();
 
     protected abstract R executeCommand(ServerConfiguration serverConfig, Commands commands, T channel)
             throws JSchException, IOException;
-
-    private JSch createJSchInstance(ServerConfiguration server) throws AgentProxyException, JSchException
-    {
-        JSch jSch = new JSch();
-        if (server.isAgentForwarding())
-        {
-            Connector connector = ConnectorFactory.getDefault().createConnector();
-            jSch.setIdentityRepository(new RemoteIdentityRepository(connector));
-        }
-        else if (server.getPrivateKey() != null && server.getPublicKey() != null)
-        {
-            String passphrase = server.getPassphrase();
-            jSch.addIdentity("default", getBytes(server.getPrivateKey()), getBytes(server.getPublicKey()),
-                    passphrase != null ? getBytes(passphrase) : null);
-        }
-        return jSch;
-    }
-
-    private byte[] getBytes(String str)
-    {
-        return str.getBytes(StandardCharsets.UTF_8);
-    }
 }
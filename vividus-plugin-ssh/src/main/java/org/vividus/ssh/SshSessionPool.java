@@ -0,0 +1,263 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ssh;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import com.jcraft.jsch.agentproxy.AgentProxyException;
+import com.jcraft.jsch.agentproxy.Connector;
+import com.jcraft.jsch.agentproxy.ConnectorFactory;
+import com.jcraft.jsch.agentproxy.RemoteIdentityRepository;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of authenticated SSH sessions keyed by server configuration. A session is shared by up to
+ * <b>maxChannelsPerSession</b> concurrently opened channels, the sessions are kept alive using SSH keepalive
+ * messages and disconnected after being unused for <b>idleTimeout</b>.
+ */
+public class SshSessionPool
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(SshSessionPool.class);
+
+    private static final int CONNECT_TIMEOUT = 30_000;
+    private static final int SERVER_ALIVE_COUNT_MAX = 3;
+
+    private final Map<ServerConfiguration, List<PooledSession>> sessions = new ConcurrentHashMap<>();
+    private final Duration idleTimeout;
+    private final Duration keepAliveInterval;
+    private final int maxChannelsPerSession;
+    private final ScheduledExecutorService evictor;
+
+    private final LongAdder handshakes = new LongAdder();
+    private final LongAdder reuses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SshSessionPool(Duration idleTimeout, Duration keepAliveInterval, int maxChannelsPerSession)
+    {
+        Validate.isTrue(maxChannelsPerSession > 0, "Max number of channels per session must be positive, but got %d",
+                maxChannelsPerSession);
+        Validate.isTrue(!idleTimeout.isNegative(), "Idle timeout must not be negative, but got %s", idleTimeout);
+        this.idleTimeout = idleTimeout;
+        this.keepAliveInterval = keepAliveInterval;
+        this.maxChannelsPerSession = maxChannelsPerSession;
+        this.evictor = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+                .namingPattern("ssh-session-evictor-%d")
+                .daemon(true)
+                .build());
+        long evictionPeriod = idleTimeout.toMillis();
+        // Zero idle timeout means the idle sessions are kept until the pool is closed
+        if (evictionPeriod > 0)
+        {
+            evictor.scheduleAtFixedRate(this::evictIdleSessions, evictionPeriod, evictionPeriod,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Acquires connected session for the server, the session must be released by closing the returned lease. New
+     * session is established outside the pool lock, so a slow handshake doesn't block the leases of the other
+     * sessions to the same server.
+     * @param server server configuration
+     * @return lease of the connected session
+     * @throws JSchException if unable to establish SSH session
+     * @throws AgentProxyException if unable to connect to SSH agent
+     */
+    public SshSession acquire(ServerConfiguration server) throws JSchException, AgentProxyException
+    {
+        List<PooledSession> serverSessions = sessions.computeIfAbsent(server, s -> new ArrayList<>());
+        synchronized (serverSessions)
+        {
+            for (Iterator<PooledSession> iterator = serverSessions.iterator(); iterator.hasNext();)
+            {
+                PooledSession pooledSession = iterator.next();
+                if (!pooledSession.session.isConnected())
+                {
+                    iterator.remove();
+                    continue;
+                }
+                if (pooledSession.openChannels < maxChannelsPerSession)
+                {
+                    reuses.increment();
+                    return lease(serverSessions, pooledSession);
+                }
+            }
+        }
+        PooledSession pooledSession = new PooledSession(connect(server));
+        synchronized (serverSessions)
+        {
+            serverSessions.add(pooledSession);
+            return lease(serverSessions, pooledSession);
+        }
+    }
+
+    private SshSession lease(List<PooledSession> serverSessions, PooledSession pooledSession)
+    {
+        pooledSession.openChannels++;
+        return new SshSession(pooledSession.session, () ->
+        {
+            synchronized (serverSessions)
+            {
+                pooledSession.openChannels--;
+                pooledSession.lastUsed = System.currentTimeMillis();
+                if (!pooledSession.session.isConnected())
+                {
+                    serverSessions.remove(pooledSession);
+                }
+            }
+        });
+    }
+
+    private Session connect(ServerConfiguration server) throws JSchException, AgentProxyException
+    {
+        JSch jSch = createJSchInstance(server);
+        Session session = jSch.getSession(server.getUsername(), server.getHost(), server.getPort());
+        session.setConfig("StrictHostKeyChecking", "no");
+        session.setConfig("PreferredAuthentications", "publickey,password");
+        session.setPassword(server.getPassword());
+        session.setServerAliveInterval((int) keepAliveInterval.toMillis());
+        session.setServerAliveCountMax(SERVER_ALIVE_COUNT_MAX);
+        session.connect(CONNECT_TIMEOUT);
+        handshakes.increment();
+        return session;
+    }
+
+    private JSch createJSchInstance(ServerConfiguration server) throws AgentProxyException, JSchException
+    {
+        JSch jSch = new JSch();
+        if (server.isAgentForwarding())
+        {
+            Connector connector = ConnectorFactory.getDefault().createConnector();
+            jSch.setIdentityRepository(new RemoteIdentityRepository(connector));
+        }
+        else if (server.getPrivateKey() != null && server.getPublicKey() != null)
+        {
+            String passphrase = server.getPassphrase();
+            jSch.addIdentity("default", getBytes(server.getPrivateKey()), getBytes(server.getPublicKey()),
+                    passphrase != null ? getBytes(passphrase) : null);
+        }
+        return jSch;
+    }
+
+    private static byte[] getBytes(String str)
+    {
+        return str.getBytes(StandardCharsets.UTF_8);
+    }
+
+    void evictIdleSessions()
+    {
+        long idleThreshold = System.currentTimeMillis() - idleTimeout.toMillis();
+        sessions.values().forEach(serverSessions ->
+        {
+            synchronized (serverSessions)
+            {
+                serverSessions.removeIf(pooledSession ->
+                {
+                    boolean idle = pooledSession.openChannels == 0 && pooledSession.lastUsed <= idleThreshold;
+                    if (idle || !pooledSession.session.isConnected())
+                    {
+                        pooledSession.session.disconnect();
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                });
+            }
+        });
+    }
+
+    public long getHandshakes()
+    {
+        return handshakes.sum();
+    }
+
+    public long getReuses()
+    {
+        return reuses.sum();
+    }
+
+    public long getEvictions()
+    {
+        return evictions.sum();
+    }
+
+    public void close()
+    {
+        evictor.shutdownNow();
+        sessions.values().forEach(serverSessions ->
+        {
+            synchronized (serverSessions)
+            {
+                serverSessions.forEach(pooledSession -> pooledSession.session.disconnect());
+                serverSessions.clear();
+            }
+        });
+        LOGGER.info("SSH session pool statistics: handshakes={}, reuses={}, evictions={}", getHandshakes(),
+                getReuses(), getEvictions());
+    }
+
+    private static final class PooledSession
+    {
+        private final Session session;
+        private int openChannels;
+        private long lastUsed = System.currentTimeMillis();
+
+        private PooledSession(Session session)
+        {
+            this.session = session;
+        }
+    }
+
+    public static class SshSession implements AutoCloseable
+    {
+        private final Session session;
+        private final Runnable releaseAction;
+
+        private SshSession(Session session, Runnable releaseAction)
+        {
+            this.session = session;
+            this.releaseAction = releaseAction;
+        }
+
+        public Session getSession()
+        {
+            return session;
+        }
+
+        @Override
+        public void close()
+        {
+            releaseAction.run();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ssh.exec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Output stream keeping only the first <b>maxSize</b> bytes written to it, the rest of the bytes are counted and
+ * discarded. If <b>maxSize</b> is not positive, all bytes are kept.
+ */
+final class BoundedOutputStream extends OutputStream
+{
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final int maxSize;
+    private long totalSize;
+
+    BoundedOutputStream(int maxSize)
+    {
+        this.maxSize = maxSize > 0 ? maxSize : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public synchronized void write(int b)
+    {
+        totalSize++;
+        if (buffer.size() < maxSize)
+        {
+            buffer.write(b);
+        }
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len)
+    {
+        totalSize += len;
+        int bytesToKeep = Math.min(len, maxSize - buffer.size());
+        if (bytesToKeep > 0)
+        {
+            buffer.write(b, off, bytesToKeep);
+        }
+    }
+
+    synchronized boolean isTruncated()
+    {
+        return totalSize > buffer.size();
+    }
+
+    synchronized long getTotalSize()
+    {
+        return totalSize;
+    }
+
+    synchronized String toString(Charset charset)
+    {
+        return new String(buffer.toByteArray(), charset);
+    }
+}
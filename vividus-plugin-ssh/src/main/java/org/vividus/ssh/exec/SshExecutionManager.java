@@ -16,15 +16,13 @@
 
 package org.vividus.ssh.exec;
 
-import javax.inject.Named;
-
 import org.vividus.ssh.CommandExecutionManager;
+import org.vividus.ssh.SshSessionPool;
 
-@Named("SSH")
 public class SshExecutionManager extends CommandExecutionManager<SshOutput>
 {
-    public SshExecutionManager(SshOutputPublisher outputPublisher)
+    public SshExecutionManager(SshOutputPublisher outputPublisher, SshSessionPool sessionPool, int maxOutputSize)
     {
-        super(new SshExecutor(), outputPublisher);
+        super(new SshExecutor(sessionPool, maxOutputSize), outputPublisher);
     }
 }
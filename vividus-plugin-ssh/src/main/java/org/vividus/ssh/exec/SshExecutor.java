@@ -19,22 +19,38 @@ package org.vividus.ssh.exec;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
 import com.jcraft.jsch.ChannelExec;
 import com.jcraft.jsch.JSchException;
 
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.vividus.ssh.Commands;
 import org.vividus.ssh.JSchExecutor;
 import org.vividus.ssh.ServerConfiguration;
+import org.vividus.ssh.SshSessionPool;
 import org.vividus.util.Sleeper;
 
 public class SshExecutor extends JSchExecutor<ChannelExec, SshOutput>
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SshExecutor.class);
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int EXIT_STATUS_UNAVAILABLE = -1;
+    private static final long MIN_EXIT_STATUS_POLLING_INTERVAL = 1;
+    private static final long MAX_EXIT_STATUS_POLLING_INTERVAL = 100;
+
+    private final int maxOutputSize;
+
+    public SshExecutor(SshSessionPool sessionPool, int maxOutputSize)
+    {
+        super(sessionPool);
+        this.maxOutputSize = maxOutputSize;
+    }
+
     @Override
     protected String getChannelType()
     {
@@ -47,37 +63,103 @@ public class SshExecutor extends JSchExecutor<ChannelExec, SshOutput>
     {
         channel.setAgentForwarding(serverConfig.isAgentForwarding());
         SshOutput executionOutput = new SshOutput();
-        try (ByteArrayOutputStream errorStream = new ByteArrayOutputStream())
+        BoundedOutputStream outputStream = new BoundedOutputStream(maxOutputSize);
+        BoundedOutputStream errorStream = new BoundedOutputStream(maxOutputSize);
+        channel.setCommand(commands.getJoinedCommands());
+        channel.setErrStream(errorStream);
+        try (InputStream in = channel.getInputStream())
         {
-            channel.setCommand(commands.getJoinedCommands());
-            channel.setErrStream(errorStream);
             channel.connect();
-            executionOutput.setOutputStream(readChannelInputStream(channel));
-            executionOutput.setErrorStream(new String(errorStream.toByteArray(), StandardCharsets.UTF_8));
-            executionOutput.setExitStatus(channel.getExitStatus());
+            readFully(in, outputStream);
         }
+        awaitExitStatus(channel);
+        executionOutput.setOutputStream(outputStream.toString(StandardCharsets.UTF_8));
+        executionOutput.setErrorStream(errorStream.toString(StandardCharsets.UTF_8));
+        executionOutput.setExitStatus(channel.getExitStatus());
+        logIfTruncated(outputStream, "output");
+        logIfTruncated(errorStream, "error output");
         return executionOutput;
     }
 
-    private String readChannelInputStream(ChannelExec channel) throws IOException
+    private void logIfTruncated(BoundedOutputStream stream, String streamName)
+    {
+        if (stream.isTruncated())
+        {
+            LOGGER.warn("SSH command {} exceeds the limit of {} bytes and is truncated: {} of {} bytes are kept",
+                    streamName, maxOutputSize, maxOutputSize, stream.getTotalSize());
+        }
+    }
+
+    private static void readFully(InputStream in, BoundedOutputStream outputStream) throws IOException
     {
-        try (InputStream in = channel.getInputStream();
-                InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
-                StringWriter stringWriter = new StringWriter())
+        byte[] buffer = new byte[BUFFER_SIZE];
+        OutputLinesPublisher linesPublisher = LOGGER.isDebugEnabled() ? new OutputLinesPublisher() : null;
+        int read;
+        // Read blocks until the next chunk of data arrives, the end of the stream is reached when the remote
+        // side closes the channel
+        while ((read = in.read(buffer)) != -1)
         {
-            while (true)
+            outputStream.write(buffer, 0, read);
+            if (linesPublisher != null)
             {
-                IOUtils.copy(reader, stringWriter);
-                if (channel.isClosed())
+                linesPublisher.write(buffer, 0, read);
+            }
+        }
+        if (linesPublisher != null)
+        {
+            linesPublisher.flush();
+        }
+    }
+
+    private static void awaitExitStatus(ChannelExec channel)
+    {
+        // Exit status is sent right before the channel is closed, so it's either already received or about to be,
+        // JSch provides no way to block until the channel is closed, so it's polled with the growing interval
+        long pollingInterval = MIN_EXIT_STATUS_POLLING_INTERVAL;
+        while (channel.getExitStatus() == EXIT_STATUS_UNAVAILABLE && !channel.isClosed())
+        {
+            Sleeper.sleep(Duration.ofMillis(pollingInterval));
+            pollingInterval = Math.min(pollingInterval * 2, MAX_EXIT_STATUS_POLLING_INTERVAL);
+        }
+    }
+
+    /**
+     * Publishes the command output to the log line by line: the line feed byte never occurs within the multibyte
+     * UTF-8 sequences, so the complete lines are always decoded correctly regardless of the chunks boundaries
+     */
+    private static final class OutputLinesPublisher
+    {
+        private static final byte LINE_FEED = '\n';
+
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        private void write(byte[] buffer, int offset, int length)
+        {
+            int lineStart = offset;
+            for (int i = offset; i < offset + length; i++)
+            {
+                if (buffer[i] == LINE_FEED)
                 {
-                    if (in.available() > 0)
-                    {
-                        continue;
-                    }
-                    return stringWriter.toString();
+                    line.write(buffer, lineStart, i - lineStart);
+                    publish();
+                    lineStart = i + 1;
                 }
-                Sleeper.sleep(Duration.ofSeconds(1));
             }
+            line.write(buffer, lineStart, offset + length - lineStart);
+        }
+
+        private void flush()
+        {
+            if (line.size() > 0)
+            {
+                publish();
+            }
+        }
+
+        private void publish()
+        {
+            LOGGER.debug("SSH command output: {}", StringUtils.stripEnd(line.toString(StandardCharsets.UTF_8), "\r"));
+            line.reset();
         }
     }
 }
@@ -101,6 +101,15 @@ public enum SftpCommand
             }
         }
     },
+    GET_TO_FILE
+    {
+        @Override
+        protected String execute(ChannelSftp channel, String src, String destination) throws SftpException
+        {
+            channel.get(src, destination, new ThroughputMonitor());
+            return null;
+        }
+    },
     PUT
     {
         @Override
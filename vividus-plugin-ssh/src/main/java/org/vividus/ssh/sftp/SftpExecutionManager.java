@@ -20,12 +20,14 @@ import javax.inject.Named;
 
 import org.vividus.softassert.ISoftAssert;
 import org.vividus.ssh.CommandExecutionManager;
+import org.vividus.ssh.SshSessionPool;
 
 @Named("SFTP")
 public class SftpExecutionManager extends CommandExecutionManager<SftpOutput>
 {
-    public SftpExecutionManager(SftpOutputPublisher outputPublisher, ISoftAssert softAssert)
+    public SftpExecutionManager(SftpOutputPublisher outputPublisher, SshSessionPool sessionPool,
+            ISoftAssert softAssert)
     {
-        super(new SftpExecutor(softAssert), outputPublisher);
+        super(new SftpExecutor(sessionPool, softAssert), outputPublisher);
     }
 }
@@ -27,13 +27,15 @@ import org.vividus.ssh.Commands;
 import org.vividus.ssh.JSchExecutor;
 import org.vividus.ssh.ServerConfiguration;
 import org.vividus.ssh.SingleCommand;
+import org.vividus.ssh.SshSessionPool;
 
 public class SftpExecutor extends JSchExecutor<ChannelSftp, SftpOutput>
 {
     private final ISoftAssert softAssert;
 
-    public SftpExecutor(ISoftAssert softAssert)
+    public SftpExecutor(SshSessionPool sessionPool, ISoftAssert softAssert)
     {
+        super(sessionPool);
         this.softAssert = softAssert;
     }
 
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ssh.sftp;
+
+import javax.inject.Named;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.SftpException;
+import com.jcraft.jsch.agentproxy.AgentProxyException;
+
+import org.apache.commons.lang3.function.FailableConsumer;
+import org.vividus.ssh.CommandExecutionException;
+import org.vividus.ssh.ServerConfiguration;
+import org.vividus.ssh.SshSessionPool;
+import org.vividus.ssh.SshSessionPool.SshSession;
+
+/**
+ * Transfers files between the local file system and the remote host streaming the content, so the files are never
+ * loaded into memory. Every transfer uses own SFTP channel of the pooled session, so the transfers can be executed
+ * concurrently. In the resume mode the transfer continues from the size of the existing destination file.
+ */
+@Named
+public class SftpTransferService
+{
+    private final SshSessionPool sessionPool;
+
+    public SftpTransferService(SshSessionPool sessionPool)
+    {
+        this.sessionPool = sessionPool;
+    }
+
+    public void download(ServerConfiguration server, String remotePath, String localPath, boolean resume)
+            throws CommandExecutionException
+    {
+        transfer(server, channel -> channel.get(remotePath, localPath, new ThroughputMonitor(), getMode(resume)));
+    }
+
+    public void upload(ServerConfiguration server, String localPath, String remotePath, boolean resume)
+            throws CommandExecutionException
+    {
+        transfer(server, channel -> channel.put(localPath, remotePath, new ThroughputMonitor(), getMode(resume)));
+    }
+
+    private static int getMode(boolean resume)
+    {
+        return resume ? ChannelSftp.RESUME : ChannelSftp.OVERWRITE;
+    }
+
+    private void transfer(ServerConfiguration server, FailableConsumer<ChannelSftp, SftpException> transfer)
+            throws CommandExecutionException
+    {
+        try (SshSession sshSession = sessionPool.acquire(server))
+        {
+            ChannelSftp channel = (ChannelSftp) sshSession.getSession().openChannel("sftp");
+            try
+            {
+                channel.setAgentForwarding(server.isAgentForwarding());
+                channel.connect();
+                transfer.accept(channel);
+            }
+            finally
+            {
+                channel.disconnect();
+            }
+        }
+        catch (JSchException | AgentProxyException | SftpException e)
+        {
+            throw new CommandExecutionException(e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ssh.sftp;
+
+import java.util.concurrent.TimeUnit;
+
+import com.jcraft.jsch.SftpProgressMonitor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+final class ThroughputMonitor implements SftpProgressMonitor
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThroughputMonitor.class);
+
+    private static final double BYTES_IN_MEBIBYTE = 1024 * 1024;
+
+    private String operation;
+    private String source;
+    private String destination;
+    private long startTime;
+    private long elapsedTime;
+    private long transferredBytes;
+
+    @Override
+    public void init(int op, String src, String dest, long max)
+    {
+        operation = op == PUT ? "Uploaded" : "Downloaded";
+        source = src;
+        destination = dest;
+        startTime = System.nanoTime();
+    }
+
+    @Override
+    public boolean count(long count)
+    {
+        transferredBytes += count;
+        return true;
+    }
+
+    @Override
+    public void end()
+    {
+        elapsedTime = System.nanoTime() - startTime;
+        LOGGER.atInfo()
+              .addArgument(operation)
+              .addArgument(transferredBytes)
+              .addArgument(source)
+              .addArgument(destination)
+              .addArgument(() -> TimeUnit.NANOSECONDS.toMillis(elapsedTime))
+              .addArgument(() -> String.format("%.2f", getThroughput() / BYTES_IN_MEBIBYTE))
+              .log("{} {} bytes from {} to {} in {} ms ({} MiB/s)");
+    }
+
+    long getTransferredBytes()
+    {
+        return transferredBytes;
+    }
+
+    /**
+     * Returns the transfer throughput
+     * @return the number of bytes transferred per second
+     */
+    double getThroughput()
+    {
+        return elapsedTime > 0 ? transferredBytes * (double) TimeUnit.SECONDS.toNanos(1) / elapsedTime : 0;
+    }
+}
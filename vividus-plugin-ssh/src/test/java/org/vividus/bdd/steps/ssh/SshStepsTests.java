@@ -17,26 +17,35 @@
 package org.vividus.bdd.steps.ssh;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.vividus.bdd.context.IBddVariableContext;
 import org.vividus.bdd.context.SshTestContext;
 import org.vividus.bdd.variable.VariableScope;
+import org.vividus.softassert.ISoftAssert;
 import org.vividus.ssh.CommandExecutionException;
 import org.vividus.ssh.CommandExecutionManager;
 import org.vividus.ssh.Commands;
@@ -46,6 +55,7 @@ import org.vividus.ssh.SingleCommand;
 import org.vividus.ssh.exec.SshOutput;
 import org.vividus.ssh.sftp.SftpCommand;
 import org.vividus.ssh.sftp.SftpOutput;
+import org.vividus.ssh.sftp.SftpTransferService;
 import org.vividus.util.property.PropertyMappedCollection;
 
 @ExtendWith(MockitoExtension.class)
@@ -64,6 +74,12 @@ class SshStepsTests
     @Mock
     private SshTestContext sshTestContext;
 
+    @Mock
+    private ISoftAssert softAssert;
+
+    @Mock
+    private SftpTransferService sftpTransferService;
+
     @InjectMocks
     private SshSteps sshSteps;
 
@@ -73,6 +89,12 @@ class SshStepsTests
         sshSteps.setServerConfigurations(new PropertyMappedCollection<>(Map.of(SERVER, SERVER_CONFIGURATION)));
     }
 
+    @AfterEach
+    void afterEach()
+    {
+        sshSteps.destroy();
+    }
+
     @Test
     void shouldExecuteSshCommands() throws CommandExecutionException
     {
@@ -116,6 +138,97 @@ class SshStepsTests
             () -> sshSteps.copyFileOverSftp(filePath, DESTINATION_PATH, SERVER));
     }
 
+    @Test
+    void shouldExecuteCommandsOnServersConcurrently() throws CommandExecutionException
+    {
+        ServerConfiguration failingServerConfiguration = new ServerConfiguration();
+        String failingServer = "failing-server";
+        sshSteps.setServerConfigurations(new PropertyMappedCollection<>(
+                Map.of(SERVER, SERVER_CONFIGURATION, failingServer, failingServerConfiguration)));
+        sshSteps.setMaxParallelExecutions(2);
+        CommandExecutionManager<SshOutput> executionManager = mockGettingOfCommandExecutionManager(Protocol.SSH);
+        Commands commands = new Commands("uptime");
+        SshOutput output = new SshOutput();
+        output.setOutputStream("up 1 day");
+        output.setErrorStream("");
+        when(executionManager.execute(SERVER_CONFIGURATION, commands)).thenReturn(output);
+        CommandExecutionException exception = new CommandExecutionException(new IOException("timeout"));
+        when(executionManager.execute(failingServerConfiguration, commands)).thenThrow(exception);
+        Set<VariableScope> scopes = Set.of(VariableScope.SCENARIO);
+        String variableName = "results";
+        sshSteps.executeCommandsOnServers(commands, List.of(SERVER, failingServer), scopes, variableName);
+        String errorMessage = exception.getMessage();
+        verify(softAssert).recordFailedAssertion(
+                "Failed to execute commands on server 'failing-server': " + errorMessage, exception);
+        verify(bddVariableContext).putVariable(scopes, variableName, List.of(
+                Map.of("server", SERVER, "stdout", "up 1 day", "stderr", "", "exit-status", 0),
+                Map.of("server", failingServer, "stdout", "", "stderr", errorMessage, "exit-status", -1)));
+        verifyNoInteractions(sshTestContext);
+    }
+
+    @Test
+    void shouldRecordFailedAssertionForNonZeroExitStatus() throws CommandExecutionException
+    {
+        sshSteps.setMaxParallelExecutions(1);
+        CommandExecutionManager<SshOutput> executionManager = mockGettingOfCommandExecutionManager(Protocol.SSH);
+        Commands commands = new Commands("systemctl is-active app");
+        SshOutput output = new SshOutput();
+        output.setOutputStream("inactive");
+        output.setErrorStream("");
+        output.setExitStatus(3);
+        when(executionManager.execute(SERVER_CONFIGURATION, commands)).thenReturn(output);
+        Set<VariableScope> scopes = Set.of(VariableScope.SCENARIO);
+        String variableName = "statuses";
+        sshSteps.executeCommandsOnServers(commands, List.of(SERVER), scopes, variableName);
+        verify(softAssert).recordFailedAssertion("Commands on server '" + SERVER + "' exited with status 3");
+        verify(bddVariableContext).putVariable(scopes, variableName,
+                List.of(Map.of("server", SERVER, "stdout", "inactive", "stderr", "", "exit-status", 3)));
+    }
+
+    @Test
+    void shouldSaveEmptyResultsIfNoServersAreSpecified()
+    {
+        sshSteps.setMaxParallelExecutions(2);
+        mockGettingOfCommandExecutionManager(Protocol.SSH);
+        Set<VariableScope> scopes = Set.of(VariableScope.SCENARIO);
+        String variableName = "no-results";
+        sshSteps.executeCommandsOnServers(new Commands("uptime"), List.of(), scopes, variableName);
+        verify(bddVariableContext).putVariable(scopes, variableName, List.of());
+        verifyNoInteractions(softAssert);
+    }
+
+    @Test
+    void shouldDownloadFilesConcurrently(@TempDir Path tempDir) throws CommandExecutionException, IOException
+    {
+        sshSteps.setMaxParallelExecutions(2);
+        Path localDirectory = tempDir.resolve("logs");
+        String failingPath = "/var/log/db.log";
+        CommandExecutionException exception = new CommandExecutionException(new IOException("No such file"));
+        doThrow(exception).when(sftpTransferService).download(SERVER_CONFIGURATION, failingPath,
+                localDirectory.resolve("db.log").toString(), false);
+        String remotePath = "/var/log/app.log";
+        sshSteps.downloadFiles(List.of(remotePath, failingPath), SERVER, localDirectory.toString());
+        assertTrue(Files.isDirectory(localDirectory));
+        verify(sftpTransferService).download(SERVER_CONFIGURATION, remotePath,
+                localDirectory.resolve("app.log").toString(), false);
+        verify(softAssert).recordFailedAssertion(
+                "Failed to download file '/var/log/db.log' from server 'my-server'", exception);
+        verifyNoMoreInteractions(softAssert);
+    }
+
+    @Test
+    void shouldUploadFilesConcurrentlyWithResume() throws CommandExecutionException
+    {
+        sshSteps.setMaxParallelExecutions(2);
+        sshSteps.setResumeTransfers(true);
+        String localPath1 = "/tmp/dump-1.tar.gz";
+        String localPath2 = "/tmp/dump-2.tar.gz";
+        sshSteps.uploadFiles(List.of(localPath1, localPath2), "/data/", SERVER);
+        verify(sftpTransferService).upload(SERVER_CONFIGURATION, localPath1, "/data/dump-1.tar.gz", true);
+        verify(sftpTransferService).upload(SERVER_CONFIGURATION, localPath2, "/data/dump-2.tar.gz", true);
+        verifyNoInteractions(softAssert);
+    }
+
     private void testPutFile(SftpCommand command, String parameter, StepRunner stepExecutor)
             throws CommandExecutionException, IOException
     {
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ssh;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.when;
+import static org.powermock.api.mockito.PowerMockito.whenNew;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import com.jcraft.jsch.agentproxy.Connector;
+import com.jcraft.jsch.agentproxy.ConnectorFactory;
+import com.jcraft.jsch.agentproxy.RemoteIdentityRepository;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.vividus.ssh.SshSessionPool.SshSession;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({SshSessionPool.class, ConnectorFactory.class})
+public class SshSessionPoolTests
+{
+    private static final String IDENTITY_NAME = "default";
+    private static final Duration KEEP_ALIVE_INTERVAL = Duration.ofSeconds(15);
+
+    private final SshSessionPool sessionPool = new SshSessionPool(Duration.ofMinutes(1), KEEP_ALIVE_INTERVAL, 2);
+
+    @After
+    public void after()
+    {
+        sessionPool.close();
+    }
+
+    @Test
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    public void shouldConnectWithoutAgentForwardingAndReuseSession() throws Exception
+    {
+        ServerConfiguration server = getDefaultServerConfiguration();
+        JSch jSch = mock(JSch.class);
+        whenNew(JSch.class).withNoArguments().thenReturn(jSch);
+        Session session = mockSession(jSch, server);
+        try (SshSession first = sessionPool.acquire(server))
+        {
+            assertSame(session, first.getSession());
+        }
+        try (SshSession second = sessionPool.acquire(server))
+        {
+            assertSame(session, second.getSession());
+        }
+        InOrder ordered = inOrder(jSch, session);
+        ordered.verify(jSch).addIdentity(IDENTITY_NAME, server.getPrivateKey().getBytes(StandardCharsets.UTF_8),
+                server.getPublicKey().getBytes(StandardCharsets.UTF_8),
+                server.getPassphrase().getBytes(StandardCharsets.UTF_8));
+        verifySessionConnection(ordered, server, session);
+        assertEquals(1, sessionPool.getHandshakes());
+        assertEquals(1, sessionPool.getReuses());
+    }
+
+    @Test
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    public void shouldConnectWithAgentForwarding() throws Exception
+    {
+        ServerConfiguration server = getDefaultServerConfiguration();
+        server.setAgentForwarding(true);
+        JSch jSch = mock(JSch.class);
+        whenNew(JSch.class).withNoArguments().thenReturn(jSch);
+        mockStatic(ConnectorFactory.class);
+        ConnectorFactory connectorFactory = mock(ConnectorFactory.class);
+        when(ConnectorFactory.getDefault()).thenReturn(connectorFactory);
+        Connector connector = mock(Connector.class);
+        when(connectorFactory.createConnector()).thenReturn(connector);
+        RemoteIdentityRepository remoteIdentityRepository = mock(RemoteIdentityRepository.class);
+        whenNew(RemoteIdentityRepository.class).withArguments(connector).thenReturn(remoteIdentityRepository);
+        Session session = mockSession(jSch, server);
+        try (SshSession sshSession = sessionPool.acquire(server))
+        {
+            assertSame(session, sshSession.getSession());
+        }
+        InOrder ordered = inOrder(jSch, session);
+        ordered.verify(jSch).setIdentityRepository(remoteIdentityRepository);
+        verifySessionConnection(ordered, server, session);
+    }
+
+    @Test
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    public void shouldOpenNewSessionWhenChannelsLimitIsReached() throws Exception
+    {
+        ServerConfiguration server = getDefaultServerConfiguration();
+        JSch jSch = mock(JSch.class);
+        whenNew(JSch.class).withNoArguments().thenReturn(jSch);
+        Session session1 = mock(Session.class);
+        Session session2 = mock(Session.class);
+        when(jSch.getSession(server.getUsername(), server.getHost(), server.getPort())).thenReturn(session1,
+                session2);
+        when(session1.isConnected()).thenReturn(true);
+        try (SshSession first = sessionPool.acquire(server); SshSession second = sessionPool.acquire(server);
+                SshSession third = sessionPool.acquire(server))
+        {
+            assertSame(session1, first.getSession());
+            assertSame(session1, second.getSession());
+            assertNotSame(session1, third.getSession());
+        }
+        assertEquals(2, sessionPool.getHandshakes());
+    }
+
+    @Test
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    public void shouldEvictIdleAndDisconnectedSessions() throws Exception
+    {
+        SshSessionPool pool = new SshSessionPool(Duration.ofMillis(1), KEEP_ALIVE_INTERVAL, 1);
+        ServerConfiguration server = getDefaultServerConfiguration();
+        JSch jSch = mock(JSch.class);
+        whenNew(JSch.class).withNoArguments().thenReturn(jSch);
+        Session session = mockSession(jSch, server);
+        pool.acquire(server).close();
+        Thread.sleep(2);
+        pool.evictIdleSessions();
+        verify(session).disconnect();
+        assertEquals(1, pool.getEvictions());
+        pool.close();
+    }
+
+    @Test
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    public void shouldKeepIdleSessionsIfIdleTimeoutIsZero() throws Exception
+    {
+        SshSessionPool pool = new SshSessionPool(Duration.ZERO, KEEP_ALIVE_INTERVAL, 1);
+        ServerConfiguration server = getDefaultServerConfiguration();
+        JSch jSch = mock(JSch.class);
+        whenNew(JSch.class).withNoArguments().thenReturn(jSch);
+        mockSession(jSch, server);
+        pool.acquire(server).close();
+        pool.acquire(server).close();
+        assertEquals(1, pool.getHandshakes());
+        assertEquals(0, pool.getEvictions());
+        pool.close();
+    }
+
+    @Test
+    public void shouldFailOnNegativeIdleTimeout()
+    {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> new SshSessionPool(Duration.ofSeconds(-1), KEEP_ALIVE_INTERVAL, 1));
+        assertEquals("Idle timeout must not be negative, but got PT-1S", exception.getMessage());
+    }
+
+    @Test
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    public void shouldFailOnJSchConfigurationError() throws Exception
+    {
+        ServerConfiguration server = getDefaultServerConfiguration();
+        server.setPassphrase(null);
+        JSch jSch = mock(JSch.class);
+        whenNew(JSch.class).withNoArguments().thenReturn(jSch);
+        JSchException jSchException = new JSchException();
+        doThrow(jSchException).when(jSch).addIdentity(IDENTITY_NAME,
+                server.getPrivateKey().getBytes(StandardCharsets.UTF_8),
+                server.getPublicKey().getBytes(StandardCharsets.UTF_8), null);
+        JSchException exception = assertThrows(JSchException.class, () -> sessionPool.acquire(server));
+        assertSame(jSchException, exception);
+    }
+
+    private Session mockSession(JSch jSch, ServerConfiguration server) throws JSchException
+    {
+        Session session = mock(Session.class);
+        when(jSch.getSession(server.getUsername(), server.getHost(), server.getPort())).thenReturn(session);
+        when(session.isConnected()).thenReturn(true);
+        return session;
+    }
+
+    private ServerConfiguration getDefaultServerConfiguration()
+    {
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setAgentForwarding(false);
+        serverConfiguration.setPassphrase("passphrase");
+        serverConfiguration.setPrivateKey("privatekey");
+        serverConfiguration.setPublicKey("publickey");
+        serverConfiguration.setUsername("username");
+        serverConfiguration.setHost("host");
+        serverConfiguration.setPort(22);
+        serverConfiguration.setPassword("password");
+        return serverConfiguration;
+    }
+
+    private void verifySessionConnection(InOrder ordered, ServerConfiguration server, Session session)
+            throws JSchException
+    {
+        ordered.verify(session).setConfig("StrictHostKeyChecking", "no");
+        ordered.verify(session).setConfig("PreferredAuthentications", "publickey,password");
+        ordered.verify(session).setPassword(server.getPassword());
+        ordered.verify(session).setServerAliveInterval((int) KEEP_ALIVE_INTERVAL.toMillis());
+        ordered.verify(session).setServerAliveCountMax(3);
+        ordered.verify(session).connect(30_000);
+    }
+}
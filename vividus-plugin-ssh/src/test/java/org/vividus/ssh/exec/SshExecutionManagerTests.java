@@ -28,23 +28,28 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.vividus.ssh.Commands;
 import org.vividus.ssh.ServerConfiguration;
+import org.vividus.ssh.SshSessionPool;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest(SshExecutionManager.class)
 public class SshExecutionManagerTests
 {
+    private static final int MAX_OUTPUT_SIZE = 1024;
+
     @Test
     @SuppressWarnings("PMD.SignatureDeclareThrowsException")
     public void shouldRunExecution() throws Exception
     {
+        SshSessionPool sessionPool = mock(SshSessionPool.class);
         SshExecutor executor = mock(SshExecutor.class);
-        whenNew(SshExecutor.class).withNoArguments().thenReturn(executor);
+        whenNew(SshExecutor.class).withArguments(sessionPool, MAX_OUTPUT_SIZE).thenReturn(executor);
         ServerConfiguration serverConfiguration = new ServerConfiguration();
         Commands commands = new Commands("ssh-command");
         SshOutput sshOutput = new SshOutput();
         when(executor.execute(serverConfiguration, commands)).thenReturn(sshOutput);
         SshOutputPublisher outputPublisher = mock(SshOutputPublisher.class);
-        SshExecutionManager executionManager = new SshExecutionManager(outputPublisher);
+        SshExecutionManager executionManager = new SshExecutionManager(outputPublisher, sessionPool,
+                MAX_OUTPUT_SIZE);
         SshOutput actual = executionManager.run(serverConfiguration, commands);
         assertEquals(sshOutput, actual);
         verify(outputPublisher).publishOutput(sshOutput);
@@ -16,29 +16,47 @@
 
 package org.vividus.ssh.exec;
 
+import static com.github.valfirst.slf4jtest.LoggingEvent.debug;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
+import com.github.valfirst.slf4jtest.TestLogger;
+import com.github.valfirst.slf4jtest.TestLoggerFactory;
+import com.github.valfirst.slf4jtest.TestLoggerFactoryExtension;
 import com.jcraft.jsch.ChannelExec;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.vividus.ssh.Commands;
 import org.vividus.ssh.ServerConfiguration;
+import org.vividus.ssh.SshSessionPool;
 
+@ExtendWith(TestLoggerFactoryExtension.class)
 class SshExecutorTests
 {
-    private final SshExecutor sshExecutor = new SshExecutor();
+    private static final String COMMAND_OUTPUT = "command-output";
+    private static final String ERROR_OUTPUT = "error-output";
+    private static final String COMMANDS = "ssh-command";
+
+    private final SshExecutor sshExecutor = new SshExecutor(mock(SshSessionPool.class), 1024);
+    private final TestLogger logger = TestLoggerFactory.getTestLogger(SshExecutor.class);
 
     @Test
     void shouldReturnExecChannelType()
@@ -50,39 +68,83 @@ class SshExecutorTests
     void testExecuteCommandsViaSshSuccessfully() throws Exception
     {
         ChannelExec channel = mock(ChannelExec.class);
-        String errorOutput = "error-output";
-        mockErrorStream(errorOutput, channel);
-        String commandOutput = "command-output";
-        @SuppressWarnings("PMD.CloseResource")
-        InputStream channelInputStream = mockChannelInputStream(commandOutput, channel);
-        when(channel.isClosed()).thenReturn(Boolean.FALSE).then(invocation ->
-        {
-            channelInputStream.reset();
-            return Boolean.TRUE;
-        }).thenReturn(Boolean.TRUE);
+        mockErrorStream(ERROR_OUTPUT, channel);
+        mockChannelInputStream(COMMAND_OUTPUT, channel);
         int exitStatus = 1;
-        when(channel.getExitStatus()).thenReturn(exitStatus);
+        when(channel.getExitStatus()).thenReturn(-1).thenReturn(exitStatus);
+        when(channel.isClosed()).thenReturn(Boolean.TRUE);
         ServerConfiguration serverConfiguration = new ServerConfiguration();
         serverConfiguration.setAgentForwarding(true);
-        String commands = "ssh-command";
-        SshOutput sshOutput = sshExecutor.executeCommand(serverConfiguration, new Commands(commands), channel);
-        assertEquals(commandOutput + commandOutput, sshOutput.getOutputStream());
-        assertEquals(errorOutput, sshOutput.getErrorStream());
+        SshOutput sshOutput = sshExecutor.executeCommand(serverConfiguration, new Commands(COMMANDS), channel);
+        assertEquals(COMMAND_OUTPUT, sshOutput.getOutputStream());
+        assertEquals(ERROR_OUTPUT, sshOutput.getErrorStream());
         assertEquals(exitStatus, sshOutput.getExitStatus());
         InOrder ordered = inOrder(channel);
         ordered.verify(channel).setAgentForwarding(serverConfiguration.isAgentForwarding());
-        ordered.verify(channel).setCommand(commands);
+        ordered.verify(channel).setCommand(COMMANDS);
+        ordered.verify(channel).getInputStream();
         ordered.verify(channel).connect();
-        ordered.verify(channel, times(3)).isClosed();
+        ordered.verify(channel).getExitStatus();
+        ordered.verify(channel).isClosed();
         ordered.verify(channel).getExitStatus();
         ordered.verifyNoMoreInteractions();
     }
 
-    private InputStream mockChannelInputStream(String commandOutput, ChannelExec channel) throws IOException
+    @Test
+    void shouldNotWaitForChannelClosureIfExitStatusIsReceived() throws Exception
+    {
+        ChannelExec channel = mock(ChannelExec.class);
+        mockChannelInputStream(COMMAND_OUTPUT, channel);
+        when(channel.getExitStatus()).thenReturn(0);
+        SshOutput sshOutput = sshExecutor.executeCommand(new ServerConfiguration(), new Commands(COMMANDS), channel);
+        assertEquals(COMMAND_OUTPUT, sshOutput.getOutputStream());
+        assertEquals("", sshOutput.getErrorStream());
+        assertEquals(0, sshOutput.getExitStatus());
+        verify(channel, never()).isClosed();
+    }
+
+    @Test
+    void shouldTruncateOutputExceedingLimit() throws Exception
+    {
+        SshExecutor executor = new SshExecutor(mock(SshSessionPool.class), 7);
+        ChannelExec channel = mock(ChannelExec.class);
+        mockChannelInputStream(COMMAND_OUTPUT, channel);
+        when(channel.getExitStatus()).thenReturn(0);
+        SshOutput sshOutput = executor.executeCommand(new ServerConfiguration(), new Commands(COMMANDS), channel);
+        assertEquals("command", sshOutput.getOutputStream());
+    }
+
+    @Test
+    void shouldKeepWholeOutputIfLimitIsNotSet() throws Exception
+    {
+        SshExecutor executor = new SshExecutor(mock(SshSessionPool.class), 0);
+        ChannelExec channel = mock(ChannelExec.class);
+        mockChannelInputStream(COMMAND_OUTPUT, channel);
+        when(channel.getExitStatus()).thenReturn(0);
+        SshOutput sshOutput = executor.executeCommand(new ServerConfiguration(), new Commands(COMMANDS), channel);
+        assertEquals(COMMAND_OUTPUT, sshOutput.getOutputStream());
+    }
+
+    @Test
+    void shouldPublishOutputLinesSplitAcrossChunks() throws Exception
+    {
+        ChannelExec channel = mock(ChannelExec.class);
+        byte[] output = "line 1\r\npr\u00fcfen".getBytes(StandardCharsets.UTF_8);
+        int chunkBoundary = output.length - 4;
+        when(channel.getInputStream()).thenReturn(new SequenceInputStream(
+                new ByteArrayInputStream(output, 0, chunkBoundary),
+                new ByteArrayInputStream(output, chunkBoundary, output.length - chunkBoundary)));
+        when(channel.getExitStatus()).thenReturn(0);
+        sshExecutor.executeCommand(new ServerConfiguration(), new Commands(COMMANDS), channel);
+        String message = "SSH command output: {}";
+        assertThat(logger.getLoggingEvents(), equalTo(List.of(debug(message, "line 1"),
+                debug(message, "pr\u00fcfen"))));
+    }
+
+    private void mockChannelInputStream(String commandOutput, ChannelExec channel) throws IOException
     {
         InputStream channelInputStream = IOUtils.toInputStream(commandOutput, StandardCharsets.UTF_8);
         when(channel.getInputStream()).thenReturn(channelInputStream);
-        return channelInputStream;
     }
 
     private void mockErrorStream(String errorOutput, ChannelExec channel)
@@ -19,6 +19,7 @@ package org.vividus.ssh.sftp;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
@@ -71,14 +72,14 @@ class SftpCommandTests
     }
 
     @ParameterizedTest
-    @EnumSource(value = SftpCommand.class, mode = Mode.INCLUDE, names = { "PWD", "PUT" })
+    @EnumSource(value = SftpCommand.class, mode = Mode.INCLUDE, names = { "PWD", "GET_TO_FILE", "PUT" })
     void shouldNotSupportSingleParameter(SftpCommand command)
     {
         shouldNotSupportUnexpectedParameters(command, "Command %s doesn't support single parameter", PARAM_1);
     }
 
     @ParameterizedTest
-    @EnumSource(value = SftpCommand.class, mode = Mode.EXCLUDE, names = {"PUT", "PUT_FROM_FILE"})
+    @EnumSource(value = SftpCommand.class, mode = Mode.EXCLUDE, names = {"GET_TO_FILE", "PUT", "PUT_FROM_FILE"})
     void shouldNotSupportTwoParameters(SftpCommand command)
     {
         shouldNotSupportUnexpectedParameters(command, "Command %s doesn't support two parameters",
@@ -172,6 +173,16 @@ class SftpCommandTests
         assertEquals(data, result);
     }
 
+    @Test
+    void shouldExecuteGetToFileCommand() throws IOException, SftpException
+    {
+        ChannelSftp channel = mock(ChannelSftp.class);
+        String localPath = "/local/file";
+        String result = SftpCommand.GET_TO_FILE.execute(channel, REMOTE_PATH, localPath);
+        assertNull(result);
+        verify(channel).get(eq(REMOTE_PATH), eq(localPath), any(ThroughputMonitor.class));
+    }
+
     @Test
     void shouldExecutePutCommand() throws IOException, SftpException
     {
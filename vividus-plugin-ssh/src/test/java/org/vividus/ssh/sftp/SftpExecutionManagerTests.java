@@ -29,6 +29,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.vividus.softassert.ISoftAssert;
 import org.vividus.ssh.Commands;
 import org.vividus.ssh.ServerConfiguration;
+import org.vividus.ssh.SshSessionPool;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest(SftpExecutionManager.class)
@@ -39,14 +40,16 @@ public class SftpExecutionManagerTests
     public void shouldRunExecution() throws Exception
     {
         ISoftAssert softAssert = mock(ISoftAssert.class);
+        SshSessionPool sessionPool = mock(SshSessionPool.class);
         SftpExecutor executor = mock(SftpExecutor.class);
-        whenNew(SftpExecutor.class).withArguments(softAssert).thenReturn(executor);
+        whenNew(SftpExecutor.class).withArguments(sessionPool, softAssert).thenReturn(executor);
         ServerConfiguration serverConfiguration = new ServerConfiguration();
         Commands commands = new Commands("sftp-command");
         SftpOutput sftpOutput = new SftpOutput();
         when(executor.execute(serverConfiguration, commands)).thenReturn(sftpOutput);
         SftpOutputPublisher outputPublisher = mock(SftpOutputPublisher.class);
-        SftpExecutionManager executionManager = new SftpExecutionManager(outputPublisher, softAssert);
+        SftpExecutionManager executionManager = new SftpExecutionManager(outputPublisher, sessionPool,
+                softAssert);
         SftpOutput actual = executionManager.run(serverConfiguration, commands);
         assertEquals(sftpOutput, actual);
         verify(outputPublisher).publishOutput(sftpOutput);
@@ -35,10 +35,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.vividus.softassert.ISoftAssert;
 import org.vividus.ssh.Commands;
 import org.vividus.ssh.ServerConfiguration;
+import org.vividus.ssh.SshSessionPool;
 
 @ExtendWith(MockitoExtension.class)
 class SftpExecutorTests
 {
+    @Mock
+    private SshSessionPool sessionPool;
+
     @Mock
     private ISoftAssert softAssert;
 
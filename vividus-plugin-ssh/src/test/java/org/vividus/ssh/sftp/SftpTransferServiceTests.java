@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ssh.sftp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import com.jcraft.jsch.SftpException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.vividus.ssh.CommandExecutionException;
+import org.vividus.ssh.ServerConfiguration;
+import org.vividus.ssh.SshSessionPool;
+import org.vividus.ssh.SshSessionPool.SshSession;
+
+@ExtendWith(MockitoExtension.class)
+class SftpTransferServiceTests
+{
+    private static final String REMOTE_PATH = "/remote/file.tar.gz";
+    private static final String LOCAL_PATH = "/local/file.tar.gz";
+
+    private final ServerConfiguration server = new ServerConfiguration();
+
+    @Mock
+    private SshSessionPool sessionPool;
+
+    @InjectMocks
+    private SftpTransferService transferService;
+
+    @Test
+    void shouldResumeDownload() throws Exception
+    {
+        SshSession sshSession = mock(SshSession.class);
+        ChannelSftp channel = mockChannel(sshSession);
+        transferService.download(server, REMOTE_PATH, LOCAL_PATH, true);
+        InOrder ordered = inOrder(channel, sshSession);
+        ordered.verify(channel).setAgentForwarding(server.isAgentForwarding());
+        ordered.verify(channel).connect();
+        ordered.verify(channel).get(eq(REMOTE_PATH), eq(LOCAL_PATH), any(ThroughputMonitor.class),
+                eq(ChannelSftp.RESUME));
+        ordered.verify(channel).disconnect();
+        ordered.verify(sshSession).close();
+    }
+
+    @Test
+    void shouldOverwriteOnUpload() throws Exception
+    {
+        SshSession sshSession = mock(SshSession.class);
+        ChannelSftp channel = mockChannel(sshSession);
+        transferService.upload(server, LOCAL_PATH, REMOTE_PATH, false);
+        verify(channel).put(eq(LOCAL_PATH), eq(REMOTE_PATH), any(ThroughputMonitor.class),
+                eq(ChannelSftp.OVERWRITE));
+        verify(channel).disconnect();
+        verify(sshSession).close();
+    }
+
+    @Test
+    void shouldWrapTransferError() throws Exception
+    {
+        SshSession sshSession = mock(SshSession.class);
+        ChannelSftp channel = mockChannel(sshSession);
+        SftpException sftpException = new SftpException(ChannelSftp.SSH_FX_NO_SUCH_FILE, "No such file");
+        doThrow(sftpException).when(channel).get(eq(REMOTE_PATH), eq(LOCAL_PATH), any(ThroughputMonitor.class),
+                eq(ChannelSftp.RESUME));
+        CommandExecutionException exception = assertThrows(CommandExecutionException.class,
+            () -> transferService.download(server, REMOTE_PATH, LOCAL_PATH, true));
+        assertEquals(sftpException, exception.getCause());
+        verify(channel).disconnect();
+        verify(sshSession).close();
+    }
+
+    @Test
+    void shouldWrapConnectionError() throws Exception
+    {
+        JSchException jSchException = new JSchException("Auth fail");
+        when(sessionPool.acquire(server)).thenThrow(jSchException);
+        CommandExecutionException exception = assertThrows(CommandExecutionException.class,
+            () -> transferService.upload(server, LOCAL_PATH, REMOTE_PATH, true));
+        assertEquals(jSchException, exception.getCause());
+    }
+
+    private ChannelSftp mockChannel(SshSession sshSession) throws Exception
+    {
+        Session session = mock(Session.class);
+        ChannelSftp channel = mock(ChannelSftp.class);
+        when(sessionPool.acquire(server)).thenReturn(sshSession);
+        when(sshSession.getSession()).thenReturn(session);
+        when(session.openChannel("sftp")).thenReturn(channel);
+        return channel;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.visual;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jbehave.core.annotations.BeforeStory;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.vividus.bdd.context.IBddRunContext;
+import org.vividus.visual.engine.FileSystemBaselineRepository;
+
+public class BaselinePreloadingSteps
+{
+    private static final Pattern COMPARISON_STEP_PATTERN = Pattern.compile("COMPARE[_ ]AGAINST baseline with `([^`]+)`",
+            Pattern.CASE_INSENSITIVE);
+
+    private final IBddRunContext bddRunContext;
+    private final FileSystemBaselineRepository baselineRepository;
+
+    private boolean preloadBaselines;
+
+    public BaselinePreloadingSteps(IBddRunContext bddRunContext, FileSystemBaselineRepository baselineRepository)
+    {
+        this.bddRunContext = bddRunContext;
+        this.baselineRepository = baselineRepository;
+    }
+
+    /**
+     * Starts background preloading of the baselines compared against in the steps of the running story. The
+     * baseline names are resolved using the scenarios examples, the names containing unresolved parameters or
+     * variables are skipped.
+     */
+    @BeforeStory
+    public void preloadBaselines()
+    {
+        if (preloadBaselines)
+        {
+            Set<String> baselineNames = new LinkedHashSet<>();
+            Story story = bddRunContext.getRunningStory().getStory();
+            for (Scenario scenario : story.getScenarios())
+            {
+                List<Map<String, String>> rows = scenario.getExamplesTable().getRows();
+                for (String step : scenario.getSteps())
+                {
+                    Matcher matcher = COMPARISON_STEP_PATTERN.matcher(step);
+                    while (matcher.find())
+                    {
+                        String baselineName = matcher.group(1);
+                        if (rows.isEmpty())
+                        {
+                            addIfResolved(baselineNames, baselineName);
+                        }
+                        rows.forEach(row -> addIfResolved(baselineNames, resolve(baselineName, row)));
+                    }
+                }
+            }
+            baselineRepository.preload(baselineNames);
+        }
+    }
+
+    private static String resolve(String baselineName, Map<String, String> row)
+    {
+        String resolved = baselineName;
+        for (Map.Entry<String, String> parameter : row.entrySet())
+        {
+            resolved = resolved.replace('<' + parameter.getKey() + '>', parameter.getValue());
+        }
+        return resolved;
+    }
+
+    private static void addIfResolved(Set<String> baselineNames, String baselineName)
+    {
+        if (!baselineName.contains("<") && !baselineName.contains("${"))
+        {
+            baselineNames.add(baselineName);
+        }
+    }
+
+    public void setPreloadBaselines(boolean preloadBaselines)
+    {
+        this.preloadBaselines = preloadBaselines;
+    }
+}
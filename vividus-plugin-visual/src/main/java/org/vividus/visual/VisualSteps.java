@@ -96,7 +96,7 @@ public class VisualSteps extends AbstractVisualSteps
                 if (check.getAction() == VisualActionType.COMPARE_AGAINST)
                 {
                     visualCheckResult = visualTestingEngine.compareAgainst(check);
-                    if (visualCheckResult.getBaseline() == null)
+                    if (!visualCheckResult.hasBaseline())
                     {
                         softAssert.recordFailedAssertion(
                                 "Unable to find baseline with name: " + check.getBaselineName());
@@ -19,14 +19,29 @@ package org.vividus.visual.engine;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import javax.imageio.ImageIO;
 
 import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.vividus.bdd.resource.ResourceLoadException;
@@ -35,9 +50,25 @@ import org.vividus.util.ResourceUtils;
 
 import ru.yandex.qatools.ashot.Screenshot;
 
+/**
+ * File system baseline repository keeping the decoded baselines in the cache bounded by <b>cacheMaxSize</b> (the
+ * approximate size of the decoded images in bytes, the least recently used baselines are evicted first). The
+ * baselines are written synchronously by default, if <b>writeBehind</b> is enabled, they are written in background,
+ * while the saved images are served from memory until the write is completed. The failures of the background writes
+ * are thrown by the next save of a baseline and by {@link #destroy()}.
+ */
 public class FileSystemBaselineRepository implements IBaselineRepository
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemBaselineRepository.class);
+    private static final int BITS_PER_BYTE = 8;
+
+    private final Cache<String, BufferedImage> cache;
+    private final long cacheMaxSize;
+    private final boolean writeBehind;
+    private final Map<String, BufferedImage> pendingWrites = new ConcurrentHashMap<>();
+    private final Queue<IOException> writeFailures = new ConcurrentLinkedQueue<>();
+    private final ExecutorService writer;
+    private final ExecutorService preloader;
 
     private File baselinesFolder;
 
@@ -51,22 +82,86 @@ public class FileSystemBaselineRepository implements IBaselineRepository
         return baselinesFolder;
     });
 
+    public FileSystemBaselineRepository(long cacheMaxSize, boolean writeBehind)
+    {
+        this.cacheMaxSize = cacheMaxSize;
+        this.writeBehind = writeBehind;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(cacheMaxSize)
+                .<String, BufferedImage>weigher((name, image) -> Ints.saturatedCast(getSize(image)))
+                .recordStats()
+                .build();
+        this.writer = Executors.newSingleThreadExecutor(createThreadFactory("baseline-writer-%d"));
+        this.preloader = Executors.newSingleThreadExecutor(createThreadFactory("baseline-preloader-%d"));
+    }
+
+    private static BasicThreadFactory createThreadFactory(String namingPattern)
+    {
+        return new BasicThreadFactory.Builder().namingPattern(namingPattern).daemon(true).build();
+    }
+
+    private static long getSize(BufferedImage image)
+    {
+        return (long) image.getWidth() * image.getHeight() * image.getColorModel().getPixelSize() / BITS_PER_BYTE;
+    }
+
     @Override
     public Optional<Screenshot> getBaseline(String baselineName) throws IOException
     {
-        File baselineFile = new File(baselineFolderResolver.get(), appendExtension(baselineName));
-        if (!baselineFile.exists())
+        BufferedImage baselineImage = pendingWrites.get(baselineName);
+        if (baselineImage == null)
         {
-            LOGGER.warn("Unable to find a baseline at the path: {}", baselineFile);
-            return Optional.empty();
+            File baselineFile = getBaselineFile(baselineName);
+            if (!baselineFile.exists())
+            {
+                LOGGER.warn("Unable to find a baseline at the path: {}", baselineFile);
+                return Optional.empty();
+            }
+            baselineImage = loadBaseline(baselineName, baselineFile);
         }
+        return Optional.of(new Screenshot(baselineImage));
+    }
+
+    private BufferedImage loadBaseline(String baselineName, File baselineFile) throws IOException
+    {
+        try
+        {
+            return cache.get(baselineName, () -> readBaseline(baselineFile));
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+            {
+                throw (IOException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        catch (UncheckedExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static BufferedImage readBaseline(File baselineFile) throws IOException
+    {
         BufferedImage baselineImage = ImageIO.read(baselineFile);
         if (baselineImage == null)
         {
             throw new ResourceLoadException(
                     "The baseline at the path '" + baselineFile + "' is broken or has unsupported format");
         }
-        return Optional.of(new Screenshot(baselineImage));
+        return baselineImage;
+    }
+
+    private File getBaselineFile(String baselineName)
+    {
+        return new File(baselineFolderResolver.get(), appendExtension(baselineName));
     }
 
     private String appendExtension(String baselineName)
@@ -74,14 +169,112 @@ public class FileSystemBaselineRepository implements IBaselineRepository
         return baselineName + ".png";
     }
 
+    /**
+     * Decodes the existing baselines in background and puts them into the cache, so the subsequent comparisons
+     * against these baselines don't wait for the decoding. Nothing is done if the cache is disabled.
+     * @param baselineNames names of the baselines to preload
+     */
+    public void preload(Collection<String> baselineNames)
+    {
+        if (cacheMaxSize <= 0)
+        {
+            return;
+        }
+        baselineNames.forEach(baselineName -> preloader.execute(() ->
+        {
+            if (pendingWrites.containsKey(baselineName) || cache.asMap().containsKey(baselineName))
+            {
+                return;
+            }
+            File baselineFile = getBaselineFile(baselineName);
+            if (baselineFile.exists())
+            {
+                try
+                {
+                    loadBaseline(baselineName, baselineFile);
+                }
+                catch (IOException | RuntimeException e)
+                {
+                    LOGGER.debug("Unable to preload the baseline at the path: {}", baselineFile, e);
+                }
+            }
+        }));
+    }
+
     @Override
     public void saveBaseline(Screenshot toSave, String baselineName) throws IOException
+    {
+        BufferedImage image = toSave.getImage();
+        cache.put(baselineName, image);
+        if (writeBehind)
+        {
+            throwWriteFailures();
+            pendingWrites.put(baselineName, image);
+            writer.execute(() ->
+            {
+                try
+                {
+                    writeBaseline(image, baselineName);
+                }
+                catch (IOException e)
+                {
+                    LOGGER.error("Unable to save the baseline with name: {}", baselineName, e);
+                    writeFailures.add(new IOException("Unable to save the baseline with name: " + baselineName, e));
+                }
+                finally
+                {
+                    pendingWrites.remove(baselineName, image);
+                }
+            });
+        }
+        else
+        {
+            writeBaseline(image, baselineName);
+        }
+    }
+
+    private void writeBaseline(BufferedImage image, String baselineName) throws IOException
     {
         File baselineToSave = new File(baselineFolderResolver.get(), baselineName);
-        ImageUtils.writeAsPng(toSave.getImage(), baselineToSave);
+        ImageUtils.writeAsPng(image, baselineToSave);
         LOGGER.info("Baseline saved to: {}", appendExtension(baselineToSave.getAbsolutePath()));
     }
 
+    private void throwWriteFailures() throws IOException
+    {
+        IOException failure = writeFailures.poll();
+        if (failure != null)
+        {
+            for (IOException next = writeFailures.poll(); next != null; next = writeFailures.poll())
+            {
+                failure.addSuppressed(next);
+            }
+            throw failure;
+        }
+    }
+
+    /**
+     * Waits for the completion of the pending baseline writes and releases the cached baselines
+     * @throws InterruptedException if interrupted while waiting for the writes completion
+     * @throws IOException if any of the background writes not reported yet has failed
+     */
+    public void destroy() throws InterruptedException, IOException
+    {
+        preloader.shutdownNow();
+        writer.shutdown();
+        writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        CacheStats stats = cache.stats();
+        LOGGER.info("Baseline cache statistics: {} hit(s), {} miss(es), {} eviction(s)", stats.hitCount(),
+                stats.missCount(), stats.evictionCount());
+        cache.invalidateAll();
+        throwWriteFailures();
+    }
+
+    public CacheStats getCacheStats()
+    {
+        return cache.stats();
+    }
+
     public void setBaselinesFolder(File baselinesFolder)
     {
         this.baselinesFolder = baselinesFolder;
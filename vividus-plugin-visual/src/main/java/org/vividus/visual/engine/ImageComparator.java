@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.visual.engine;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Compares images by their ARGB rasters split into horizontal tiles which are processed in parallel. Identical tiles
+ * are detected by a bulk array comparison, pixel-by-pixel comparison is performed only for the tiles having
+ * differences. Images are considered matching if the ratio of the pixels having any color channel delta greater than
+ * <b>pixelTolerance</b> doesn't exceed <b>maxDifferentPixelsRatio</b>.
+ */
+public class ImageComparator
+{
+    private static final int TILE_HEIGHT = 64;
+    private static final int MAX_CHANNEL_VALUE = 255;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int[] CHANNEL_SHIFTS = { 24, 16, 8, 0 };
+
+    private final int pixelTolerance;
+    private final double maxDifferentPixelsRatio;
+
+    public ImageComparator(int pixelTolerance, double maxDifferentPixelsRatio)
+    {
+        Validate.inclusiveBetween(0, MAX_CHANNEL_VALUE, pixelTolerance,
+                "Pixel tolerance must be between 0 and 255");
+        Validate.inclusiveBetween(0, 1, maxDifferentPixelsRatio,
+                "Max ratio of different pixels must be between 0 and 1");
+        this.pixelTolerance = pixelTolerance;
+        this.maxDifferentPixelsRatio = maxDifferentPixelsRatio;
+    }
+
+    /**
+     * Checks whether the images match
+     * @param expected expected image
+     * @param actual actual image
+     * @return <code>true</code> if the images have the same size and the differences between them are within the
+     * tolerance, otherwise <code>false</code>
+     */
+    public boolean matches(BufferedImage expected, BufferedImage actual)
+    {
+        int width = expected.getWidth();
+        int height = expected.getHeight();
+        if (width != actual.getWidth() || height != actual.getHeight())
+        {
+            return false;
+        }
+        long maxDifferentPixels = (long) (maxDifferentPixelsRatio * width * height);
+        AtomicLong differentPixels = new AtomicLong();
+        int tiles = (height + TILE_HEIGHT - 1) / TILE_HEIGHT;
+        IntStream.range(0, tiles).parallel().forEach(tile ->
+        {
+            if (differentPixels.get() > maxDifferentPixels)
+            {
+                return;
+            }
+            int y = tile * TILE_HEIGHT;
+            int tileHeight = Math.min(TILE_HEIGHT, height - y);
+            int[] expectedPixels = expected.getRGB(0, y, width, tileHeight, null, 0, width);
+            int[] actualPixels = actual.getRGB(0, y, width, tileHeight, null, 0, width);
+            if (!Arrays.equals(expectedPixels, actualPixels))
+            {
+                differentPixels.addAndGet(countDifferentPixels(expectedPixels, actualPixels));
+            }
+        });
+        return differentPixels.get() <= maxDifferentPixels;
+    }
+
+    private long countDifferentPixels(int[] expectedPixels, int[] actualPixels)
+    {
+        long count = 0;
+        for (int i = 0; i < expectedPixels.length; i++)
+        {
+            if (expectedPixels[i] != actualPixels[i] && !isWithinTolerance(expectedPixels[i], actualPixels[i]))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean isWithinTolerance(int expectedPixel, int actualPixel)
+    {
+        for (int shift : CHANNEL_SHIFTS)
+        {
+            int delta = Math.abs((expectedPixel >>> shift & BYTE_MASK) - (actualPixel >>> shift & BYTE_MASK));
+            if (delta > pixelTolerance)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -17,10 +17,16 @@
 package org.vividus.visual.engine;
 
 import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Base64;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.vividus.visual.model.VisualCheck;
 import org.vividus.visual.model.VisualCheckResult;
@@ -41,7 +47,9 @@ public class VisualTestingEngine implements IVisualTestingEngine
     private final ScreenshotProvider screenshotProvider;
     private final IBaselineRepository baselineRepository;
 
+    private ImageComparator imageComparator = new ImageComparator(0, 0);
     private boolean overrideBaselines;
+    private int passedCheckThumbnailWidth;
 
     public VisualTestingEngine(ScreenshotProvider screenshotProvider,
             IBaselineRepository baselineRepository)
@@ -55,7 +63,7 @@ public class VisualTestingEngine implements IVisualTestingEngine
     {
         VisualCheckResult comparisonResult = new VisualCheckResult(visualCheck);
         Screenshot checkpoint = getCheckpointScreenshot(visualCheck);
-        comparisonResult.setCheckpoint(imageToBase64(checkpoint.getImage()));
+        comparisonResult.setCheckpoint(storeImage(checkpoint.getImage()));
         baselineRepository.saveBaseline(checkpoint, visualCheck.getBaselineName());
         return comparisonResult;
     }
@@ -70,23 +78,28 @@ public class VisualTestingEngine implements IVisualTestingEngine
     {
         VisualCheckResult comparisonResult = new VisualCheckResult(visualCheck);
         Screenshot checkpoint = getCheckpointScreenshot(visualCheck);
-        comparisonResult.setCheckpoint(imageToBase64(checkpoint.getImage()));
         Optional<Screenshot> baseline = baselineRepository.getBaseline(visualCheck.getBaselineName());
-        Screenshot baselineScreenshot;
-        if (baseline.isPresent())
+        Screenshot baselineScreenshot = baseline.orElse(EMPTY_SCREENSHOT);
+        if (baseline.isPresent() && imageComparator.matches(baselineScreenshot.getImage(), checkpoint.getImage()))
         {
-            baselineScreenshot = baseline.get();
-            comparisonResult.setBaseline(imageToBase64(baselineScreenshot.getImage()));
+            comparisonResult.setPassed(true);
+            comparisonResult.setCheckpoint(storeImage(toThumbnail(checkpoint.getImage())));
+            Supplier<String> baselineImage = storeImage(toThumbnail(baselineScreenshot.getImage()));
+            comparisonResult.setBaseline(baselineImage);
+            comparisonResult.setDiff(baselineImage);
         }
         else
         {
-            baselineScreenshot = EMPTY_SCREENSHOT;
+            comparisonResult.setCheckpoint(storeImage(checkpoint.getImage()));
+            if (baseline.isPresent())
+            {
+                comparisonResult.setBaseline(storeImage(baselineScreenshot.getImage()));
+            }
+            ImageDiffer differ = new ImageDiffer().withDiffMarkupPolicy(
+                    new PointsMarkupPolicy().withDiffColor(DIFF_COLOR));
+            ImageDiff diff = differ.makeDiff(baselineScreenshot, checkpoint);
+            comparisonResult.setDiff(storeImage(diff.getMarkedImage()));
         }
-        ImageDiffer differ = new ImageDiffer().withDiffMarkupPolicy(new PointsMarkupPolicy().withDiffColor(DIFF_COLOR));
-        ImageDiff diff = differ.makeDiff(baselineScreenshot, checkpoint);
-
-        comparisonResult.setPassed(!diff.hasDiff());
-        comparisonResult.setDiff(imageToBase64(diff.getMarkedImage()));
         if (overrideBaselines)
         {
             baselineRepository.saveBaseline(checkpoint, visualCheck.getBaselineName());
@@ -94,13 +107,58 @@ public class VisualTestingEngine implements IVisualTestingEngine
         return comparisonResult;
     }
 
-    private String imageToBase64(BufferedImage image) throws IOException
+    private static Supplier<String> storeImage(BufferedImage image) throws IOException
     {
-        return Base64.getEncoder().encodeToString(ImageTool.toByteArray(image));
+        Path imageFile = Files.createTempFile("visual-check-", ".png");
+        imageFile.toFile().deleteOnExit();
+        Files.write(imageFile, ImageTool.toByteArray(image));
+        return () ->
+        {
+            try
+            {
+                return Base64.getEncoder().encodeToString(Files.readAllBytes(imageFile));
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private BufferedImage toThumbnail(BufferedImage image)
+    {
+        int width = image.getWidth();
+        if (passedCheckThumbnailWidth <= 0 || width <= passedCheckThumbnailWidth)
+        {
+            return image;
+        }
+        int height = Math.max(1, (int) ((long) image.getHeight() * passedCheckThumbnailWidth / width));
+        BufferedImage thumbnail = new BufferedImage(passedCheckThumbnailWidth, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try
+        {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, passedCheckThumbnailWidth, height, null);
+        }
+        finally
+        {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+
+    public void setImageComparator(ImageComparator imageComparator)
+    {
+        this.imageComparator = imageComparator;
     }
 
     public void setOverrideBaselines(boolean overrideBaselines)
     {
         this.overrideBaselines = overrideBaselines;
     }
+
+    public void setPassedCheckThumbnailWidth(int passedCheckThumbnailWidth)
+    {
+        this.passedCheckThumbnailWidth = passedCheckThumbnailWidth;
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.visual;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.vividus.bdd.context.IBddRunContext;
+import org.vividus.bdd.model.RunningStory;
+import org.vividus.visual.engine.FileSystemBaselineRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BaselinePreloadingStepsTests
+{
+    @Mock private IBddRunContext bddRunContext;
+    @Mock private FileSystemBaselineRepository baselineRepository;
+    @InjectMocks private BaselinePreloadingSteps steps;
+
+    @Test
+    void shouldPreloadBaselinesComparedAgainstInStory()
+    {
+        steps.setPreloadBaselines(true);
+        Scenario plainScenario = mockScenario(List.of(),
+                "When I COMPARE_AGAINST baseline with `main-page`",
+                "When I ESTABLISH baseline with `established`",
+                "When I compare against baseline with `footer` ignoring:\n|ELEMENT|\n|By.id(ad)|",
+                "When I COMPARE_AGAINST baseline with `${variable}`");
+        Scenario scenarioWithExamples = mockScenario(List.of(Map.of("page", "home"), Map.of("page", "about")),
+                "When I COMPARE_AGAINST baseline with `<page>-page`",
+                "When I COMPARE_AGAINST baseline with `<unknown>`");
+        RunningStory runningStory = mock(RunningStory.class);
+        Story story = mock(Story.class);
+        when(bddRunContext.getRunningStory()).thenReturn(runningStory);
+        when(runningStory.getStory()).thenReturn(story);
+        when(story.getScenarios()).thenReturn(List.of(plainScenario, scenarioWithExamples));
+        steps.preloadBaselines();
+        verify(baselineRepository).preload(Set.of("main-page", "footer", "home-page", "about-page"));
+    }
+
+    @Test
+    void shouldNotPreloadBaselinesIfDisabled()
+    {
+        steps.preloadBaselines();
+        verifyNoInteractions(bddRunContext, baselineRepository);
+    }
+
+    private static Scenario mockScenario(List<Map<String, String>> rows, String... steps)
+    {
+        Scenario scenario = mock(Scenario.class);
+        ExamplesTable examplesTable = mock(ExamplesTable.class);
+        when(scenario.getExamplesTable()).thenReturn(examplesTable);
+        when(examplesTable.getRows()).thenReturn(rows);
+        when(scenario.getSteps()).thenReturn(List.of(steps));
+        return scenario;
+    }
+}
@@ -36,7 +36,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
-import org.apache.commons.lang3.StringUtils;
 import org.jbehave.core.model.ExamplesTable;
 import org.jbehave.core.steps.Parameters;
 import org.junit.jupiter.api.BeforeAll;
@@ -195,7 +194,7 @@ class VisualStepsTests
 
     private void mockCheckResult()
     {
-        when(visualCheckResult.getBaseline()).thenReturn(StringUtils.EMPTY);
+        when(visualCheckResult.hasBaseline()).thenReturn(true);
     }
 
     private VisualCheck mockVisualCheckFactory(VisualActionType actionType)
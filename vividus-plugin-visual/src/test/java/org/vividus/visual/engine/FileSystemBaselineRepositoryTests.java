@@ -21,7 +21,9 @@ import static com.github.valfirst.slf4jtest.LoggingEvent.warn;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -29,6 +31,7 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,7 +60,8 @@ class FileSystemBaselineRepositoryTests
     private static final String DEFAULT_EXTENSION = ".png";
 
     private final TestLogger logger = TestLoggerFactory.getTestLogger(FileSystemBaselineRepository.class);
-    private final FileSystemBaselineRepository fileSystemBaselineRepository = new FileSystemBaselineRepository();
+    private final FileSystemBaselineRepository fileSystemBaselineRepository =
+            new FileSystemBaselineRepository(0, false);
 
     @Test
     void shouldLoadBaselineFromFileSystem() throws IOException
@@ -109,6 +113,60 @@ class FileSystemBaselineRepositoryTests
         assertThat(ImageIO.read(baselineFile), ImageTool.equalImage(baseline));
     }
 
+    @Test
+    void shouldCacheDecodedBaseline() throws IOException
+    {
+        FileSystemBaselineRepository repository = new FileSystemBaselineRepository(Integer.MAX_VALUE, false);
+        repository.setBaselinesFolder(BASELINES_FOLDER);
+        BufferedImage baseline = repository.getBaseline(BASELINE).get().getImage();
+        assertThat(baseline, ImageTool.equalImage(loadBaseline()));
+        assertSame(baseline, repository.getBaseline(BASELINE).get().getImage());
+        assertEquals(1, repository.getCacheStats().loadSuccessCount());
+        assertEquals(1, repository.getCacheStats().hitCount());
+    }
+
+    @Test
+    void shouldPreloadBaselineInBackground() throws IOException
+    {
+        FileSystemBaselineRepository repository = new FileSystemBaselineRepository(Integer.MAX_VALUE, false);
+        repository.setBaselinesFolder(BASELINES_FOLDER);
+        repository.preload(List.of(BASELINE, "missing_baseline"));
+        assertTimeout(Duration.ofSeconds(10), () -> {
+            while (repository.getCacheStats().loadSuccessCount() == 0)
+            {
+                Thread.sleep(10);
+            }
+        });
+        assertThat(repository.getBaseline(BASELINE).get().getImage(), ImageTool.equalImage(loadBaseline()));
+        assertEquals(1, repository.getCacheStats().loadSuccessCount());
+        assertEquals(1, repository.getCacheStats().hitCount());
+    }
+
+    @Test
+    void shouldSaveBaselineInBackground(@TempDir File folder) throws IOException, InterruptedException
+    {
+        FileSystemBaselineRepository repository = new FileSystemBaselineRepository(0, true);
+        repository.setBaselinesFolder(folder);
+        BufferedImage baseline = loadBaseline();
+        repository.saveBaseline(new Screenshot(baseline), BASELINE);
+        assertThat(repository.getBaseline(BASELINE).get().getImage(), ImageTool.equalImage(baseline));
+        repository.destroy();
+        File baselineFile = new File(folder, BASELINE + DEFAULT_EXTENSION);
+        assertThat(ImageIO.read(baselineFile), ImageTool.equalImage(baseline));
+        assertThat(logger.getAllLoggingEvents(), Matchers.hasItem(info("Baseline saved to: {}",
+                baselineFile.getAbsolutePath())));
+    }
+
+    @Test
+    void shouldThrowFailureOfBackgroundWriteOnDestroy(@TempDir File folder) throws IOException
+    {
+        FileSystemBaselineRepository repository = new FileSystemBaselineRepository(0, true);
+        repository.setBaselinesFolder(new File(folder, "missing-folder"));
+        repository.saveBaseline(new Screenshot(loadBaseline()), BASELINE);
+        IOException exception = assertThrows(IOException.class, repository::destroy);
+        assertEquals("Unable to save the baseline with name: baseline", exception.getMessage());
+    }
+
     private BufferedImage loadBaseline()
     {
         try
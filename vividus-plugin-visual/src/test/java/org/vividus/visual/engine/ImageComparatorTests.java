@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.visual.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ImageComparatorTests
+{
+    private static final int SIZE = 100;
+    private static final int COLOR = 0x102030;
+
+    @Test
+    void shouldMatchIdenticalImagesOfDifferentTypes()
+    {
+        BufferedImage expected = createImage(BufferedImage.TYPE_3BYTE_BGR);
+        BufferedImage actual = createImage(BufferedImage.TYPE_INT_RGB);
+        assertTrue(new ImageComparator(0, 0).matches(expected, actual));
+    }
+
+    @Test
+    void shouldNotMatchImagesOfDifferentSize()
+    {
+        BufferedImage expected = createImage(BufferedImage.TYPE_INT_RGB);
+        BufferedImage actual = new BufferedImage(SIZE, SIZE + 1, BufferedImage.TYPE_INT_RGB);
+        assertFalse(new ImageComparator(0, 1).matches(expected, actual));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0,    1, 1,   false",
+        "2, 0,    2, 1,   true",
+        "1, 0,    2, 1,   false",
+        "0, 0.01, 1, 100, true",
+        "0, 0.01, 1, 101, false"
+    })
+    void shouldApplyTolerance(int pixelTolerance, double maxDifferentPixelsRatio, int colorDelta,
+            int differentPixels, boolean matches)
+    {
+        BufferedImage expected = createImage(BufferedImage.TYPE_INT_RGB);
+        BufferedImage actual = createImage(BufferedImage.TYPE_INT_RGB);
+        for (int i = 0; i < differentPixels; i++)
+        {
+            actual.setRGB(i % SIZE, i / SIZE, COLOR + colorDelta);
+        }
+        assertEquals(matches,
+                new ImageComparator(pixelTolerance, maxDifferentPixelsRatio).matches(expected, actual));
+    }
+
+    @Test
+    void shouldRejectInvalidTolerance()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new ImageComparator(256, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ImageComparator(0, 2));
+    }
+
+    private static BufferedImage createImage(int type)
+    {
+        BufferedImage image = new BufferedImage(SIZE, SIZE, type);
+        for (int x = 0; x < SIZE; x++)
+        {
+            for (int y = 0; y < SIZE; y++)
+            {
+                image.setRGB(x, y, COLOR);
+            }
+        }
+        return image;
+    }
+}
@@ -28,7 +28,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.Base64;
 import java.util.Optional;
 
 import javax.imageio.ImageIO;
@@ -139,6 +141,40 @@ class VisualTestingEngineTests
         verify(baselineRepository, never()).saveBaseline(any(), any());
     }
 
+    @Test
+    void shouldScaleDownImagesOfPassedCheckToThumbnails() throws IOException
+    {
+        visualTestingEngine.setPassedCheckThumbnailWidth(2);
+        when(baselineRepository.getBaseline(BASELINE)).thenReturn(Optional.of(new Screenshot(loadImage(BASELINE))));
+        VisualCheck visualCheck = createVisualCheck(VisualActionType.COMPARE_AGAINST);
+        mockGetCheckpointScreenshot(visualCheck, BASELINE);
+        VisualCheckResult checkResult = visualTestingEngine.compareAgainst(visualCheck);
+        assertTrue(checkResult.isPassed());
+        BufferedImage baseline = decodeImage(checkResult.getBaseline());
+        BufferedImage checkpoint = decodeImage(checkResult.getCheckpoint());
+        Assertions.assertAll(
+            () -> assertEquals(2, baseline.getWidth()),
+            () -> assertEquals(2, baseline.getHeight()),
+            () -> assertEquals(2, checkpoint.getWidth()),
+            () -> assertEquals(2, checkpoint.getHeight()),
+            () -> assertEquals(checkResult.getBaseline(), checkResult.getDiff()));
+    }
+
+    @Test
+    void shouldNotScaleDownImagesOfFailedCheck() throws IOException
+    {
+        visualTestingEngine.setPassedCheckThumbnailWidth(2);
+        when(baselineRepository.getBaseline(BASELINE)).thenReturn(Optional.of(new Screenshot(loadImage(BASELINE))));
+        VisualCheck visualCheck = createVisualCheck(VisualActionType.COMPARE_AGAINST);
+        mockGetCheckpointScreenshot(visualCheck);
+        VisualCheckResult checkResult = visualTestingEngine.compareAgainst(visualCheck);
+        Assertions.assertAll(
+            () -> assertEquals(BASELINE_BASE64, checkResult.getBaseline()),
+            () -> assertEquals(CHECKPOINT_BASE64, checkResult.getCheckpoint()),
+            () -> assertEquals(DIFF_BASE64, checkResult.getDiff()),
+            () -> assertFalse(checkResult.isPassed()));
+    }
+
     @Test
     void shouldOverrideBaselinesIfPropertySet() throws IOException
     {
@@ -179,6 +215,11 @@ class VisualTestingEngineTests
         return mockGetCheckpointScreenshot(visualCheck, "checkpoint");
     }
 
+    private static BufferedImage decodeImage(String base64) throws IOException
+    {
+        return ImageIO.read(new ByteArrayInputStream(Base64.getDecoder().decode(base64)));
+    }
+
     private BufferedImage loadImage(String fileName) throws IOException
     {
         return ImageIO.read(
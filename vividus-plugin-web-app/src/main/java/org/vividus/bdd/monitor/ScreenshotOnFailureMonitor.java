@@ -89,7 +89,7 @@ public class ScreenshotOnFailureMonitor extends NullStepMonitor
             {
                 screenshotTaker.takeScreenshot("Assertion_Failure", webElements).ifPresent(screenshot ->
                 {
-                    Attachment attachment = new Attachment(screenshot.getData(), screenshot.getFileName());
+                    Attachment attachment = new Attachment(screenshot.getAsyncData(), screenshot.getFileName());
                     eventBus.post(new AttachmentPublishEvent(attachment));
                 });
             }
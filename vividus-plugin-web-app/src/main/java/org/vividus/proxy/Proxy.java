@@ -25,8 +25,17 @@ import com.browserup.bup.BrowserUpProxy;
 import com.browserup.bup.BrowserUpProxyServer;
 import com.browserup.bup.filters.RequestFilter;
 import com.browserup.bup.filters.RequestFilterAdapter.FilterSource;
+import com.browserup.harreader.model.Har;
 
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersAdapter;
 import org.littleshoot.proxy.HttpFiltersSource;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
 
 public class Proxy implements IProxy
 {
@@ -34,6 +43,8 @@ public class Proxy implements IProxy
 
     private IProxyServerFactory proxyServerFactory;
     private BrowserUpProxy proxyServer;
+    private ProxyLog proxyLog;
+    private int logMaxEntries;
 
     @Override
     public void start()
@@ -51,11 +62,44 @@ public class Proxy implements IProxy
     {
         if (!isStarted())
         {
-            proxyServer = proxyServerFactory.createProxyServer();
+            BrowserUpProxy server = proxyServerFactory.createProxyServer();
+            if (logMaxEntries > 0)
+            {
+                // The retention is applied on each captured request, so the HAR never grows beyond the limit
+                server.addLastHttpFilterFactory(new HttpFiltersSourceAdapter()
+                {
+                    @Override
+                    public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx)
+                    {
+                        return new HttpFiltersAdapter(originalRequest, ctx)
+                        {
+                            @Override
+                            public HttpResponse clientToProxyRequest(HttpObject httpObject)
+                            {
+                                if (httpObject instanceof HttpRequest)
+                                {
+                                    applyLogRetention(server);
+                                }
+                                return null;
+                            }
+                        };
+                    }
+                });
+            }
+            proxyServer = server;
             starter.accept(proxyServer);
         }
     }
 
+    private void applyLogRetention(BrowserUpProxy server)
+    {
+        Har har = server.getHar();
+        if (har != null)
+        {
+            getLog(har).applyRetention();
+        }
+    }
+
     @Override
     public void startRecording()
     {
@@ -92,6 +136,7 @@ public class Proxy implements IProxy
         {
             proxyServer.stop();
             proxyServer = null;
+            proxyLog = null;
         }
     }
 
@@ -112,11 +157,21 @@ public class Proxy implements IProxy
     {
         if (isStarted())
         {
-            return new ProxyLog(proxyServer.getHar());
+            return getLog(proxyServer.getHar());
         }
         throw new IllegalStateException(PROXY_NOT_STARTED);
     }
 
+    private synchronized ProxyLog getLog(Har har)
+    {
+        if (proxyLog == null || !proxyLog.isBackedBy(har))
+        {
+            proxyLog = new ProxyLog(har);
+            proxyLog.setMaxEntries(logMaxEntries);
+        }
+        return proxyLog;
+    }
+
     @Override
     public void addRequestFilter(RequestFilter requestFilter)
     {
@@ -141,4 +196,9 @@ public class Proxy implements IProxy
     {
         this.proxyServerFactory = proxyServerFactory;
     }
+
+    public void setLogMaxEntries(int logMaxEntries)
+    {
+        this.logMaxEntries = logMaxEntries;
+    }
 }
@@ -19,6 +19,7 @@ package org.vividus.proxy;
 public class ProxyFactory implements IProxyFactory
 {
     private final IProxyServerFactory proxyServerFactory;
+    private int logMaxEntries;
 
     public ProxyFactory(IProxyServerFactory proxyServerFactory)
     {
@@ -30,6 +31,12 @@ public class ProxyFactory implements IProxyFactory
     {
         Proxy proxy = new Proxy();
         proxy.setProxyServerFactory(proxyServerFactory);
+        proxy.setLogMaxEntries(logMaxEntries);
         return proxy;
     }
+
+    public void setLogMaxEntries(int logMaxEntries)
+    {
+        this.logMaxEntries = logMaxEntries;
+    }
 }
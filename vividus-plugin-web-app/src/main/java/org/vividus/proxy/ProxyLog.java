@@ -19,8 +19,15 @@ package org.vividus.proxy;
 import static java.util.stream.Collectors.toList;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import com.browserup.harreader.model.Har;
@@ -28,14 +35,26 @@ import com.browserup.harreader.model.HarContent;
 import com.browserup.harreader.model.HarCreatorBrowser;
 import com.browserup.harreader.model.HarEntry;
 import com.browserup.harreader.model.HarLog;
-import com.browserup.harreader.model.HarRequest;
 import com.browserup.harreader.model.HttpMethod;
 
+/**
+ * Proxy log backed by the HAR being recorded. The HAR entries are indexed incrementally: each query processes only
+ * the entries added since the previous query, and the entries matching the already queried URL patterns are kept, so
+ * repeated queries (e.g. while waiting for a request) don't rescan the whole HAR. If <b>maxEntries</b> is positive,
+ * only the latest <b>maxEntries</b> entries are retained in the HAR, the older ones are dropped on the log access and
+ * on each request captured by the proxy.
+ */
 public class ProxyLog
 {
     private static final String HEX40 = "HEX40";
 
     private final Har har;
+    private int maxEntries;
+
+    private HarLog indexedLog;
+    private int indexedCount;
+    private final List<IndexedEntry> entries = new ArrayList<>();
+    private final Map<String, PatternMatches> patternMatches = new HashMap<>();
 
     public ProxyLog(Har har)
     {
@@ -45,12 +64,13 @@ public class ProxyLog
     /**
      * Clear log by removing all entries from the log
      */
-    public void clear()
+    public synchronized void clear()
     {
         HarCreatorBrowser creator = new HarCreatorBrowser();
         HarLog harLog = new HarLog();
         harLog.setCreator(creator);
         har.setLog(harLog);
+        resetIndex(harLog);
     }
 
     /**
@@ -59,7 +79,7 @@ public class ProxyLog
      */
     public List<String> getRequestUrls()
     {
-        return getRequestUrlStream().collect(toList());
+        return getIndexedEntries().stream().map(IndexedEntry::getUrl).collect(toList());
     }
 
     /**
@@ -69,7 +89,7 @@ public class ProxyLog
      */
     public List<String> getRequestUrls(String urlPattern)
     {
-        return getRequestUrlStream().filter(url -> url.matches(urlPattern)).collect(toList());
+        return getMatchedEntriesStream(urlPattern).map(IndexedEntry::getUrl).collect(toList());
     }
 
     /**
@@ -93,6 +113,10 @@ public class ProxyLog
      */
     public List<HarEntry> getLogEntries()
     {
+        synchronized (this)
+        {
+            updateIndex();
+        }
         return har.getLog().getEntries();
     }
 
@@ -103,7 +127,7 @@ public class ProxyLog
      */
     public List<HarEntry> getLogEntries(String urlPattern)
     {
-        return getFilteredHarEntriesStream(urlPattern).collect(toList());
+        return getMatchedEntriesStream(urlPattern).map(IndexedEntry::getEntry).collect(toList());
     }
 
     /**
@@ -114,7 +138,8 @@ public class ProxyLog
      */
     public List<HarEntry> getLogEntries(HttpMethod httpMethod, String urlPattern)
     {
-        return getFilteredHarEntriesStream(urlPattern)
+        return getMatchedEntriesStream(urlPattern)
+                .map(IndexedEntry::getEntry)
                 .filter(entry -> httpMethod.equals(entry.getRequest().getMethod()))
                     .collect(toList());
     }
@@ -125,7 +150,7 @@ public class ProxyLog
      */
     public List<String> getResponses()
     {
-        return getHarEntriesStream().map(ProxyLog::getResponse).collect(toList());
+        return getIndexedEntries().stream().map(IndexedEntry::getResponse).collect(toList());
     }
 
     /**
@@ -135,7 +160,7 @@ public class ProxyLog
      */
     public List<String> getResponses(String urlPattern)
     {
-        return getFilteredHarEntriesStream(urlPattern).map(ProxyLog::getResponse).collect(toList());
+        return getMatchedEntriesStream(urlPattern).map(IndexedEntry::getResponse).collect(toList());
     }
 
     /**
@@ -153,35 +178,150 @@ public class ProxyLog
         return responses.get(0);
     }
 
-    private Stream<HarEntry> getHarEntriesStream()
+    /**
+     * Drops the oldest entries exceeding <b>maxEntries</b> from the HAR
+     */
+    synchronized void applyRetention()
     {
-        return getLogEntries().stream();
+        updateIndex();
     }
 
-    private Stream<String> getRequestUrlStream()
+    boolean isBackedBy(Har har)
     {
-        return getHarEntriesStream().map(HarEntry::getRequest).map(HarRequest::getUrl).map(ProxyLog::decodeUrl);
+        return this.har == har;
     }
 
-    private static String getResponse(HarEntry entry)
+    private synchronized List<IndexedEntry> getIndexedEntries()
     {
-        HarContent content = entry.getResponse().getContent();
-        String response = content.getText();
+        updateIndex();
+        return new ArrayList<>(entries);
+    }
 
-        if (response != null && !content.getMimeType().startsWith("text"))
+    private Stream<IndexedEntry> getMatchedEntriesStream(String urlPattern)
+    {
+        List<IndexedEntry> matched;
+        synchronized (this)
         {
-            response = new String(Base64.getDecoder().decode(response), StandardCharsets.UTF_8);
+            updateIndex();
+            PatternMatches matches = patternMatches.computeIfAbsent(urlPattern,
+                    p -> new PatternMatches(Pattern.compile(p)));
+            for (; matches.processedCount < entries.size(); matches.processedCount++)
+            {
+                IndexedEntry entry = entries.get(matches.processedCount);
+                if (matches.pattern.matcher(entry.getUrl()).matches())
+                {
+                    matches.entries.add(entry);
+                }
+            }
+            matched = new ArrayList<>(matches.entries);
         }
-        return response;
+        return matched.stream();
     }
 
-    private Stream<HarEntry> getFilteredHarEntriesStream(String urlPattern)
+    private void updateIndex()
     {
-        return getHarEntriesStream().filter(entry -> decodeUrl(entry.getRequest().getUrl()).matches(urlPattern));
+        HarLog harLog = har.getLog();
+        List<HarEntry> harEntries = harLog.getEntries();
+        int size = harEntries.size();
+        if (harLog != indexedLog || size < indexedCount)
+        {
+            resetIndex(harLog);
+        }
+        for (; indexedCount < size; indexedCount++)
+        {
+            entries.add(new IndexedEntry(harEntries.get(indexedCount)));
+        }
+        if (maxEntries > 0 && entries.size() > maxEntries)
+        {
+            dropOldestEntries(harEntries, entries.size() - maxEntries);
+        }
+    }
+
+    private void dropOldestEntries(List<HarEntry> harEntries, int count)
+    {
+        List<IndexedEntry> dropped = entries.subList(0, count);
+        Set<HarEntry> droppedHarEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        dropped.forEach(entry -> droppedHarEntries.add(entry.getEntry()));
+        Set<IndexedEntry> droppedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        droppedEntries.addAll(dropped);
+        harEntries.removeIf(droppedHarEntries::contains);
+        dropped.clear();
+        indexedCount -= count;
+        patternMatches.values().forEach(matches ->
+        {
+            matches.entries.removeIf(droppedEntries::contains);
+            matches.processedCount = Math.max(0, matches.processedCount - count);
+        });
+    }
+
+    private void resetIndex(HarLog harLog)
+    {
+        indexedLog = harLog;
+        indexedCount = 0;
+        entries.clear();
+        patternMatches.clear();
     }
 
     private static String decodeUrl(String encodedUrl)
     {
         return encodedUrl.contains(HEX40) ? encodedUrl.split(HEX40)[0] : encodedUrl;
     }
+
+    public void setMaxEntries(int maxEntries)
+    {
+        this.maxEntries = maxEntries;
+    }
+
+    private static final class IndexedEntry
+    {
+        private final HarEntry entry;
+        private String url;
+        private String response;
+
+        private IndexedEntry(HarEntry entry)
+        {
+            this.entry = entry;
+        }
+
+        private HarEntry getEntry()
+        {
+            return entry;
+        }
+
+        private String getUrl()
+        {
+            if (url == null)
+            {
+                url = decodeUrl(entry.getRequest().getUrl());
+            }
+            return url;
+        }
+
+        private String getResponse()
+        {
+            if (response == null)
+            {
+                HarContent content = entry.getResponse().getContent();
+                String text = content.getText();
+                if (text != null && !content.getMimeType().startsWith("text"))
+                {
+                    text = new String(Base64.getDecoder().decode(text), StandardCharsets.UTF_8);
+                }
+                response = text;
+            }
+            return response;
+        }
+    }
+
+    private static final class PatternMatches
+    {
+        private final Pattern pattern;
+        private final List<IndexedEntry> entries = new ArrayList<>();
+        private int processedCount;
+
+        private PatternMatches(Pattern pattern)
+        {
+            this.pattern = pattern;
+        }
+    }
 }
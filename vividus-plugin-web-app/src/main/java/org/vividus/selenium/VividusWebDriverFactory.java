@@ -59,15 +59,22 @@ public class VividusWebDriverFactory extends AbstractVividusWebDriverFactory
     }
 
     @Override
-    protected void configureVividusWebDriver(VividusWebDriver vividusWebDriver)
+    public DesiredCapabilities getDesiredCapabilities()
     {
-        DesiredCapabilities desiredCapabilities = vividusWebDriver.getDesiredCapabilities();
+        DesiredCapabilities desiredCapabilities = super.getDesiredCapabilities();
+        // The proxy is started per story, so it's resolved on the test thread along with the other story capabilities
         if (proxy.isStarted())
         {
             desiredCapabilities.setCapability(CapabilityType.PROXY, createSeleniumProxy(remoteExecution));
             desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, true);
         }
+        return desiredCapabilities;
+    }
 
+    @Override
+    protected void configureVividusWebDriver(VividusWebDriver vividusWebDriver)
+    {
+        DesiredCapabilities desiredCapabilities = vividusWebDriver.getDesiredCapabilities();
         WebDriver webDriver = remoteExecution
                 ? webDriverFactory.getRemoteWebDriver(desiredCapabilities)
                 : webDriverFactory.getWebDriver(desiredCapabilities);
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.selenium.screenshot;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+import javax.imageio.ImageIO;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.BrowserType;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vividus.selenium.BrowserCommands;
+import org.vividus.selenium.WebDriverUtil;
+
+import ru.yandex.qatools.ashot.coordinates.Coords;
+import ru.yandex.qatools.ashot.shooting.ShootingStrategy;
+
+/**
+ * Takes full page screenshot with a single native browser command: Chrome DevTools
+ * <code>Page.captureScreenshot</code> with <code>captureBeyondViewport</code> or GeckoDriver full page screenshot.
+ * If the browser doesn't support native full page screenshots, the fallback strategy is used.
+ */
+public class NativeFullPageShootingStrategy implements ShootingStrategy
+{
+    private static final long serialVersionUID = -2571963064383512154L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NativeFullPageShootingStrategy.class);
+
+    private static final String WIDTH = "width";
+    private static final String HEIGHT = "height";
+
+    private final ShootingStrategy fallbackStrategy;
+
+    public NativeFullPageShootingStrategy(ShootingStrategy fallbackStrategy)
+    {
+        this.fallbackStrategy = fallbackStrategy;
+    }
+
+    @Override
+    public BufferedImage getScreenshot(WebDriver wd)
+    {
+        RemoteWebDriver remoteWebDriver = WebDriverUtil.unwrap(wd, RemoteWebDriver.class);
+        String browserName = remoteWebDriver.getCapabilities().getBrowserName();
+        try
+        {
+            if (BrowserType.CHROME.equals(browserName))
+            {
+                return captureWithDevTools(remoteWebDriver);
+            }
+            if (BrowserType.FIREFOX.equals(browserName))
+            {
+                return scale(decode(BrowserCommands.execute(remoteWebDriver, BrowserCommands.FULL_PAGE_SCREENSHOT,
+                        Map.of())), getDevicePixelRatio(remoteWebDriver));
+            }
+        }
+        catch (IOException | WebDriverException e)
+        {
+            LOGGER.warn("Unable to take native full page screenshot, falling back to viewport pasting", e);
+        }
+        return fallbackStrategy.getScreenshot(wd);
+    }
+
+    @Override
+    public BufferedImage getScreenshot(WebDriver wd, Set<Coords> coords)
+    {
+        return getScreenshot(wd);
+    }
+
+    @Override
+    public Set<Coords> prepareCoords(Set<Coords> coordsSet)
+    {
+        return coordsSet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private BufferedImage captureWithDevTools(RemoteWebDriver webDriver) throws IOException
+    {
+        Map<String, Object> layoutMetrics = (Map<String, Object>) executeCdpCommand(webDriver,
+                "Page.getLayoutMetrics", Map.of());
+        Map<String, Number> contentSize = (Map<String, Number>) layoutMetrics.get("contentSize");
+        double devicePixelRatio = getDevicePixelRatio(webDriver);
+        Map<String, Object> clip = Map.of("x", 0, "y", 0, WIDTH, contentSize.get(WIDTH), HEIGHT,
+                contentSize.get(HEIGHT), "scale", 1 / devicePixelRatio);
+        Map<String, Object> screenshot = (Map<String, Object>) executeCdpCommand(webDriver, "Page.captureScreenshot",
+                Map.of("format", "png", "captureBeyondViewport", true, "fromSurface", true, "clip", clip));
+        return decode(screenshot.get("data"));
+    }
+
+    private static Object executeCdpCommand(RemoteWebDriver webDriver, String command, Map<String, Object> parameters)
+            throws IOException
+    {
+        return BrowserCommands.execute(webDriver, BrowserCommands.EXECUTE_CDP_COMMAND,
+                Map.of("cmd", command, "params", parameters));
+    }
+
+    private static double getDevicePixelRatio(WebDriver webDriver)
+    {
+        return ((Number) ((JavascriptExecutor) webDriver).executeScript("return window.devicePixelRatio"))
+                .doubleValue();
+    }
+
+    private static BufferedImage decode(Object base64Png)
+    {
+        try
+        {
+            return ImageIO.read(new ByteArrayInputStream(Base64.getMimeDecoder().decode((String) base64Png)));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage image, double devicePixelRatio)
+    {
+        if (devicePixelRatio == 1)
+        {
+            return image;
+        }
+        int width = (int) (image.getWidth() / devicePixelRatio);
+        int height = (int) (image.getHeight() / devicePixelRatio);
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.drawImage(image.getScaledInstance(width, height, Image.SCALE_SMOOTH), 0, 0, null);
+        graphics.dispose();
+        return scaled;
+    }
+}
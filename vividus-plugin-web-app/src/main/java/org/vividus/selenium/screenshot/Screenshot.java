@@ -16,19 +16,35 @@
 
 package org.vividus.selenium.screenshot;
 
+import java.util.concurrent.CompletableFuture;
+
 public class Screenshot
 {
-    private byte[] data;
+    private CompletableFuture<byte[]> data;
     private String fileName;
 
     public byte[] getData()
     {
-        return data.clone();
+        return data.join().clone();
     }
 
     public void setData(byte[] data)
     {
-        this.data = data.clone();
+        this.data = CompletableFuture.completedFuture(data.clone());
+    }
+
+    /**
+     * Gets screenshot data which may be still being encoded
+     * @return future screenshot data
+     */
+    public CompletableFuture<byte[]> getAsyncData()
+    {
+        return data.thenApply(byte[]::clone);
+    }
+
+    public void setAsyncData(CompletableFuture<byte[]> data)
+    {
+        this.data = data;
     }
 
     public String getFileName()
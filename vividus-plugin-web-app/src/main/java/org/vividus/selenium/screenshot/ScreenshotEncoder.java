@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.selenium.screenshot;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+/**
+ * Encodes captured screenshots to PNG. By default the encoding is performed by the calling thread. If
+ * <b>workers</b> is positive, the encoding is performed in background, so the step thread only captures the pixels
+ * and publishes the attachment with the pending content. The queue of pending
+ * screenshots is bounded by <b>queueCapacity</b>, when it's full the screenshot is encoded by the calling thread.
+ * The consumers of the returned futures are responsible for awaiting them and reporting the failures (e.g. the
+ * report adaptor awaits the pending attachments at the end of each story).
+ */
+public class ScreenshotEncoder
+{
+    private static final int MAX_COMPRESSION_LEVEL = 9;
+
+    private final ExecutorService executor;
+    private final float compressionQuality;
+
+    public ScreenshotEncoder(int workers, int queueCapacity, int compressionLevel)
+    {
+        Validate.inclusiveBetween(0, MAX_COMPRESSION_LEVEL, compressionLevel,
+                "PNG compression level must be between 0 and 9");
+        this.compressionQuality = (float) (MAX_COMPRESSION_LEVEL - compressionLevel) / MAX_COMPRESSION_LEVEL;
+        this.executor = workers > 0 ? new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new BasicThreadFactory.Builder()
+                        .namingPattern("screenshot-encoder-%d")
+                        .daemon(true)
+                        .build(), new ThreadPoolExecutor.CallerRunsPolicy()) : null;
+    }
+
+    /**
+     * Encodes the image to PNG
+     * @param image image to encode
+     * @return future PNG data, the future is already completed if the encoder is synchronous
+     * @throws IOException if the encoder is synchronous and unable to encode the image
+     */
+    public CompletableFuture<byte[]> encode(BufferedImage image) throws IOException
+    {
+        if (executor == null)
+        {
+            return CompletableFuture.completedFuture(toPng(image));
+        }
+        return CompletableFuture.supplyAsync(() ->
+        {
+            try
+            {
+                return toPng(image);
+            }
+            catch (IOException e)
+            {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    byte[] toPng(BufferedImage image) throws IOException
+    {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(compressionQuality);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output))
+        {
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        }
+        finally
+        {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    public void destroy() throws InterruptedException
+    {
+        if (executor != null)
+        {
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -43,6 +43,16 @@ public enum ScreenshotShootingStrategy
                     : new AdjustingViewportPastingDecorator(shootingStrategy, 0).withScrollTimeout(SCROLL_TIMEOUT);
         }
     },
+    NATIVE_FULL_PAGE
+    {
+        @Override
+        public ShootingStrategy getDecoratedShootingStrategy(ShootingStrategy shootingStrategy,
+                boolean viewportScreenshot, boolean landscape, String deviceName)
+        {
+            return viewportScreenshot ? shootingStrategy : new NativeFullPageShootingStrategy(
+                    VIEWPORT_PASTING.getDecoratedShootingStrategy(shootingStrategy, false, landscape, deviceName));
+        }
+    },
     DEVICE_DEPENDENT
     {
         @Override
@@ -16,12 +16,14 @@
 
 package org.vividus.selenium.screenshot;
 
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import javax.inject.Inject;
@@ -52,6 +54,7 @@ public class ScreenshotTaker implements IScreenshotTaker
     @Inject private IScrollbarHandler scrollbarHandler;
     @Inject private IAshotFactory ashotFactory;
     @Inject private ScreenshotDebugger screenshotDebugger;
+    @Inject private ScreenshotEncoder screenshotEncoder;
 
     private File screenshotDirectory;
     private boolean fullPageScreenshots;
@@ -101,8 +104,22 @@ public class ScreenshotTaker implements IScreenshotTaker
     public Optional<Screenshot> takeScreenshot(String screenshotName, List<WebElement> webElementsToHighlight,
             boolean viewportScreenshot)
     {
-        byte[] screenshotData = takeScreenshotAsByteArray(webElementsToHighlight, viewportScreenshot);
-        return createScreenshot(screenshotData, screenshotName);
+        return captureScreenshot(webElementsToHighlight, viewportScreenshot).map(image ->
+        {
+            CompletableFuture<byte[]> screenshotData;
+            try
+            {
+                screenshotData = screenshotEncoder.encode(image);
+            }
+            catch (IOException e)
+            {
+                throw new IllegalStateException(e);
+            }
+            Screenshot screenshot = new Screenshot();
+            screenshot.setAsyncData(screenshotData);
+            screenshot.setFileName(generateScreenshotFileName(screenshotName));
+            return screenshot;
+        });
     }
 
     @Override
@@ -167,10 +184,12 @@ public class ScreenshotTaker implements IScreenshotTaker
     private Path takeScreenshot(Supplier<Path> screenshotFilePathSupplier,
             boolean viewportScreenshot) throws IOException
     {
-        byte[] screenshotData = takeScreenshotAsByteArray(List.of(), viewportScreenshot);
-        if (screenshotData.length > 0)
+        Optional<BufferedImage> image = captureScreenshot(List.of(), viewportScreenshot);
+        if (image.isPresent())
         {
             Path screenshotFilePath = screenshotFilePathSupplier.get();
+            // The callers expect the file to exist once the path is returned, so it's encoded and written right away
+            byte[] screenshotData = screenshotEncoder.toPng(image.get());
             Path parent = screenshotFilePath.getParent();
             if (parent != null)
             {
@@ -186,22 +205,17 @@ public class ScreenshotTaker implements IScreenshotTaker
         return null;
     }
 
-    private byte[] takeScreenshotAsByteArray(List<WebElement> webElements, boolean viewportScreenshot)
+    private Optional<BufferedImage> captureScreenshot(List<WebElement> webElements, boolean viewportScreenshot)
     {
-        return takeScreenshotAsByteArray(() ->
+        if (webDriverProvider.isWebDriverInitialized())
         {
-            byte[] screenshotData;
-            if (HighlighterType.DEFAULT == highlighterType)
-            {
-                screenshotData = webElementHighlighter.takeScreenshotWithHighlights(
-                    () -> takeScreenshotAsByteArrayImpl(webElements, viewportScreenshot));
-            }
-            else
-            {
-                screenshotData = takeScreenshotAsByteArrayImpl(webElements, viewportScreenshot);
-            }
-            return screenshotData;
-        });
+            Supplier<BufferedImage> imageSupplier = () -> captureScreenshotImpl(webElements, viewportScreenshot);
+            return Optional.of(HighlighterType.DEFAULT == highlighterType
+                    ? webElementHighlighter.takeScreenshotWithHighlights(imageSupplier)
+                    : imageSupplier.get());
+        }
+        LOGGER.info("WebDriver is not initialized");
+        return Optional.empty();
     }
 
     private byte[] takeScreenshotAsByteArray(Supplier<byte[]> screenshotDataSupplier)
@@ -214,23 +228,15 @@ public class ScreenshotTaker implements IScreenshotTaker
         return new byte[0];
     }
 
-    private byte[] takeScreenshotAsByteArrayImpl(List<WebElement> webElements, boolean viewportScreenshot)
+    private BufferedImage captureScreenshotImpl(List<WebElement> webElements, boolean viewportScreenshot)
     {
         WebDriver webDriver = webDriverProvider.get();
-        try
-        {
-            AShot aShot = createAShot(viewportScreenshot);
-            IndentCropper indentCropper = new IndentCropper(fullPageScreenshots ? Integer.MAX_VALUE : indent);
-            highlighterType.addIndentFilter(indentCropper);
-            aShot.imageCropper(indentCropper);
-            return ImageTool.toByteArray(
-                    webElements.isEmpty() || HighlighterType.DEFAULT == highlighterType && fullPageScreenshots
-                            ? aShot.takeScreenshot(webDriver) : aShot.takeScreenshot(webDriver, webElements));
-        }
-        catch (IOException e)
-        {
-            throw new IllegalStateException(e);
-        }
+        AShot aShot = createAShot(viewportScreenshot);
+        IndentCropper indentCropper = new IndentCropper(fullPageScreenshots ? Integer.MAX_VALUE : indent);
+        highlighterType.addIndentFilter(indentCropper);
+        aShot.imageCropper(indentCropper);
+        return (webElements.isEmpty() || HighlighterType.DEFAULT == highlighterType && fullPageScreenshots
+                ? aShot.takeScreenshot(webDriver) : aShot.takeScreenshot(webDriver, webElements)).getImage();
     }
 
     private AShot createAShot(boolean viewportScreenshot)
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ui.web.action;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.UnhandledAlertException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vividus.selenium.IWebDriverProvider;
+
+/**
+ * Factory of sleepers for waits which wake up as soon as the DOM of the current page is changed (mutated or its ready
+ * state is changed) instead of sleeping for the whole polling period. It allows to re-check DOM-based wait conditions
+ * right after they may become true. Non-DOM conditions still get re-checked once per polling period, so the behaviour
+ * is the same as for the regular polling. To avoid busy-looping on the pages mutating constantly, the conditions are
+ * not re-checked more often than once per the minimal interval. A new sleeper is created for each wait: the alert
+ * presence is checked once per wait, since W3C drivers dismiss the alerts on the script execution, and the script is
+ * not executed for the rest of the wait if an alert opens while waiting.
+ */
+public class DomMutationSleeperFactory implements Supplier<Sleeper>
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(DomMutationSleeperFactory.class);
+
+    private final IWebDriverProvider webDriverProvider;
+    private final IJavascriptActions javascriptActions;
+    private boolean enabled;
+    private Duration minInterval = Duration.ZERO;
+
+    public DomMutationSleeperFactory(IWebDriverProvider webDriverProvider, IJavascriptActions javascriptActions)
+    {
+        this.webDriverProvider = webDriverProvider;
+        this.javascriptActions = javascriptActions;
+    }
+
+    @Override
+    public Sleeper get()
+    {
+        return enabled ? new DomMutationSleeper() : Sleeper.SYSTEM_SLEEPER;
+    }
+
+    private boolean isAlertPossiblyPresent()
+    {
+        try
+        {
+            webDriverProvider.get().switchTo().alert();
+            return true;
+        }
+        catch (NoAlertPresentException e)
+        {
+            return false;
+        }
+        catch (WebDriverException e)
+        {
+            LOGGER.debug("Unable to check alert presence, falling back to polling", e);
+            return true;
+        }
+    }
+
+    public void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    public void setMinInterval(Duration minInterval)
+    {
+        this.minInterval = minInterval;
+    }
+
+    private final class DomMutationSleeper implements Sleeper
+    {
+        private Boolean domMutationAware;
+
+        @Override
+        public void sleep(Duration duration) throws InterruptedException
+        {
+            Duration remaining = duration;
+            if (isDomMutationAware())
+            {
+                long start = System.nanoTime();
+                try
+                {
+                    javascriptActions.executeAsyncScriptFromResource(DomMutationSleeperFactory.class,
+                            "wait-for-dom-mutation.js", duration.toMillis());
+                    remaining = minInterval.compareTo(duration) < 0 ? minInterval : duration;
+                }
+                catch (ScriptTimeoutException e)
+                {
+                    return;
+                }
+                catch (UnhandledAlertException e)
+                {
+                    LOGGER.debug("Alert is opened while waiting for DOM mutation, falling back to polling", e);
+                    domMutationAware = false;
+                }
+                catch (WebDriverException e)
+                {
+                    LOGGER.debug("Unable to wait for DOM mutation, falling back to polling", e);
+                }
+                remaining = remaining.minusNanos(System.nanoTime() - start);
+            }
+            if (!remaining.isNegative() && !remaining.isZero())
+            {
+                SYSTEM_SLEEPER.sleep(remaining);
+            }
+        }
+
+        private boolean isDomMutationAware()
+        {
+            if (domMutationAware == null)
+            {
+                domMutationAware = webDriverProvider.isWebDriverInitialized() && !isAlertPossiblyPresent();
+            }
+            return domMutationAware;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.vividus.ui.web.action;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.JavascriptExecutor;
@@ -34,8 +35,23 @@ public class JavascriptActions implements IJavascriptActions, IWebApplicationLis
             + ".createEvent('MouseEvents');evObj.initEvent('%1$s', true, false); arguments[0].dispatchEvent(evObj);} "
             + "else if(document.createEventObject) { arguments[0].fireEvent('on%1$s');}";
 
+    private static final String NOT_PINNED = "vividus:script-is-not-pinned";
+    private static final String PINNED_SCRIPTS = "window.__vividusScripts";
+    private static final String INVOKE_PINNED_SCRIPT_FORMAT = "var s = " + PINNED_SCRIPTS + ";"
+            + " if (!s || !s['%1$s']) { return '" + NOT_PINNED + "'; } return s['%1$s'].apply(null, arguments);";
+    private static final String INVOKE_PINNED_ASYNC_SCRIPT_FORMAT = "var s = " + PINNED_SCRIPTS + ";"
+            + " if (!s || !s['%1$s']) { arguments[arguments.length - 1]('" + NOT_PINNED + "'); return; }"
+            + " s['%1$s'].apply(null, arguments);";
+    private static final String PIN_SCRIPT_FORMAT = "if (!" + PINNED_SCRIPTS + ") {"
+            + " Object.defineProperty(window, '__vividusScripts', { value: {} }); }"
+            + " " + PINNED_SCRIPTS + "['%1$s'] = function() {\n%2$s\n};"
+            + " return " + PINNED_SCRIPTS + "['%1$s'].apply(null, arguments);";
+
+    private static final Map<String, ResourceScript> RESOURCE_SCRIPTS = new ConcurrentHashMap<>();
+
     private final IWebDriverProvider webDriverProvider;
     private final IWebDriverManager webDriverManager;
+    private boolean pinResourceScripts;
 
     private final ThreadLocal<BrowserConfig> browserConfig = ThreadLocal.withInitial(() -> {
         String userAgentKey = "userAgent";
@@ -65,7 +81,13 @@ public class JavascriptActions implements IJavascriptActions, IWebApplicationLis
     @Override
     public <T> T executeScriptFromResource(Class<?> clazz, String jsResourceName, Object... args)
     {
-        return executeScript(ResourceUtils.loadResource(clazz, jsResourceName), args);
+        ResourceScript script = getResourceScript(clazz, jsResourceName);
+        if (!pinResourceScripts)
+        {
+            return executeScript(script.source, args);
+        }
+        T result = executeScript(script.invocation, args);
+        return NOT_PINNED.equals(result) ? executeScript(script.pinning, args) : result;
     }
 
     @Override
@@ -78,7 +100,20 @@ public class JavascriptActions implements IJavascriptActions, IWebApplicationLis
     @Override
     public <T> T executeAsyncScriptFromResource(Class<?> clazz, String jsResourceName, Object... args)
     {
-        return executeAsyncScript(ResourceUtils.loadResource(clazz, jsResourceName), args);
+        ResourceScript script = getResourceScript(clazz, jsResourceName);
+        if (!pinResourceScripts)
+        {
+            return executeAsyncScript(script.source, args);
+        }
+        T result = executeAsyncScript(script.asyncInvocation, args);
+        return NOT_PINNED.equals(result) ? executeAsyncScript(script.pinning, args) : result;
+    }
+
+    private static ResourceScript getResourceScript(Class<?> clazz, String jsResourceName)
+    {
+        String key = clazz.getPackageName().replace('.', '/') + '/' + jsResourceName;
+        return RESOURCE_SCRIPTS.computeIfAbsent(key,
+                k -> new ResourceScript(k, ResourceUtils.loadResource(clazz, jsResourceName)));
     }
 
     @Override
@@ -235,6 +270,33 @@ public class JavascriptActions implements IJavascriptActions, IWebApplicationLis
         return (JavascriptExecutor) webDriverProvider.get();
     }
 
+    /**
+     * Enables pinning of resource scripts in the browser: the script is defined once per page as a function and
+     * subsequent calls send only a short invocation of that function. The script is pinned again transparently
+     * after the page is reloaded or navigated.
+     * @param pinResourceScripts whether to pin resource scripts
+     */
+    public void setPinResourceScripts(boolean pinResourceScripts)
+    {
+        this.pinResourceScripts = pinResourceScripts;
+    }
+
+    private static final class ResourceScript
+    {
+        private final String source;
+        private final String invocation;
+        private final String asyncInvocation;
+        private final String pinning;
+
+        private ResourceScript(String key, String source)
+        {
+            this.source = source;
+            this.invocation = String.format(INVOKE_PINNED_SCRIPT_FORMAT, key);
+            this.asyncInvocation = String.format(INVOKE_PINNED_ASYNC_SCRIPT_FORMAT, key);
+            this.pinning = String.format(PIN_SCRIPT_FORMAT, key, source);
+        }
+    }
+
     private static final class BrowserConfig
     {
         private final String userAgent;
@@ -16,15 +16,20 @@
 
 package org.vividus.ui.web.action;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.function.Supplier;
 
+import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
 import org.openqa.selenium.support.ui.Wait;
 
 public class WaitFactory implements IWaitFactory
 {
     private Duration timeout;
     private Duration pollingPeriod;
+    private Supplier<Sleeper> sleeperFactory = () -> Sleeper.SYSTEM_SLEEPER;
 
     @Override
     public <T> Wait<T> createWait(T input)
@@ -41,7 +46,10 @@ public class WaitFactory implements IWaitFactory
     @Override
     public <T> Wait<T> createWait(T input, Duration timeout, Duration pollingPeriod)
     {
-        FluentWait<T> fluentWait = new FluentWait<>(input).pollingEvery(pollingPeriod);
+        // Only the conditions applied to the page (or its elements) may benefit from the DOM-aware sleeping
+        Sleeper waitSleeper = input instanceof SearchContext ? sleeperFactory.get() : Sleeper.SYSTEM_SLEEPER;
+        FluentWait<T> fluentWait = new FluentWait<>(input, Clock.systemDefaultZone(), waitSleeper)
+                .pollingEvery(pollingPeriod);
         DescriptiveWait<T> wait = new DescriptiveWait<>(fluentWait);
         wait.setTimeout(timeout);
         return wait;
@@ -56,4 +64,9 @@ public class WaitFactory implements IWaitFactory
     {
         this.pollingPeriod = pollingPeriod;
     }
+
+    public void setSleeperFactory(Supplier<Sleeper> sleeperFactory)
+    {
+        this.sleeperFactory = sleeperFactory;
+    }
 }
@@ -16,8 +16,14 @@
 
 package org.vividus.ui.web.action.search;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -27,6 +33,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +42,7 @@ import org.vividus.ui.web.action.IJavascriptActions;
 import org.vividus.ui.web.action.IWaitActions;
 import org.vividus.ui.web.action.IWebElementActions;
 import org.vividus.ui.web.util.LocatorUtil;
+import org.vividus.util.ResourceUtils;
 
 public abstract class AbstractElementSearchAction
 {
@@ -44,6 +52,7 @@ public abstract class AbstractElementSearchAction
     private static final String ELEMENT_WITH_ANY_ATTRIBUTE_OR_TEXT_CASE_INSENSITIVE = String
             .format("[text()[%2$s=%1$s] or @*[%2$s=%1$s] or *[%2$s=%1$s]", "%1$s", TRANSLATE_TO_LOWER_CASE_FORMATTED);
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractElementSearchAction.class);
+    private static final String IS_DISPLAYED_ATOM = "/org/openqa/selenium/remote/isDisplayed.js";
 
     @Inject private IWebElementActions webElementActions;
     @Inject private IJavascriptActions javascriptActions;
@@ -51,6 +60,7 @@ public abstract class AbstractElementSearchAction
     @Inject private IExpectedConditions<By> expectedConditions;
     private Duration waitForElementTimeout;
     private boolean retrySearchIfStale;
+    private boolean batchVisibilityCheck;
 
     public List<WebElement> findElements(SearchContext searchContext, By locator, SearchParameters parameters)
     {
@@ -89,6 +99,23 @@ public abstract class AbstractElementSearchAction
     private List<WebElement> filterElementsByVisibility(List<WebElement> elements, boolean visible,
             boolean retry)
     {
+        if (batchVisibilityCheck && !elements.isEmpty())
+        {
+            Optional<List<Boolean>> visibilities = checkElementsVisibility(elements, retry);
+            if (visibilities.isPresent())
+            {
+                List<Boolean> elementsVisibility = visibilities.get();
+                List<WebElement> filteredElements = new ArrayList<>();
+                for (int i = 0; i < elements.size(); i++)
+                {
+                    if (visible == elementsVisibility.get(i))
+                    {
+                        filteredElements.add(elements.get(i));
+                    }
+                }
+                return filteredElements;
+            }
+        }
         return elements.stream().filter(element -> {
             try
             {
@@ -106,6 +133,44 @@ public abstract class AbstractElementSearchAction
         }).collect(Collectors.toList());
     }
 
+    /**
+     * Checks visibility of all elements in a single script execution using the same visibility atom as WebDriver
+     * uses. The hidden elements are scrolled into view and checked once again.
+     * @param elements elements to check
+     * @param retry whether the search is already retried
+     * @return visibility of the elements or empty optional if the batch check is not possible
+     */
+    private Optional<List<Boolean>> checkElementsVisibility(List<WebElement> elements, boolean retry)
+    {
+        Optional<String> script = BatchVisibilityScript.SCRIPT;
+        if (script.isEmpty())
+        {
+            return Optional.empty();
+        }
+        try
+        {
+            List<Boolean> visibilities = javascriptActions.executeScript(script.get(), elements);
+            if (visibilities != null && visibilities.size() == elements.size())
+            {
+                return Optional.of(visibilities);
+            }
+            LOGGER.warn("Unexpected result of batch visibility check: {}", visibilities);
+        }
+        catch (StaleElementReferenceException e)
+        {
+            if (retrySearchIfStale && !retry)
+            {
+                throw e;
+            }
+            LOGGER.debug("Batch visibility check failed, falling back to per-element check", e);
+        }
+        catch (WebDriverException e)
+        {
+            LOGGER.warn("Batch visibility check failed, falling back to per-element check", e);
+        }
+        return Optional.empty();
+    }
+
     private boolean isElementVisible(WebElement element, boolean scrolled)
     {
         if (!element.isDisplayed())
@@ -203,4 +268,37 @@ public abstract class AbstractElementSearchAction
     {
         this.retrySearchIfStale = retrySearchIfStale;
     }
+
+    public void setBatchVisibilityCheck(boolean batchVisibilityCheck)
+    {
+        this.batchVisibilityCheck = batchVisibilityCheck;
+    }
+
+    private static final class BatchVisibilityScript
+    {
+        private static final Optional<String> SCRIPT = createScript();
+
+        private BatchVisibilityScript()
+        {
+        }
+
+        private static Optional<String> createScript()
+        {
+            try (InputStream atom = AbstractElementSearchAction.class.getResourceAsStream(IS_DISPLAYED_ATOM))
+            {
+                if (atom == null)
+                {
+                    LOGGER.warn("WebDriver visibility atom is not found, batch visibility check is disabled");
+                    return Optional.empty();
+                }
+                return Optional.of(String.format("var isDisplayed = (%s);%n%s",
+                        new String(atom.readAllBytes(), StandardCharsets.UTF_8),
+                        ResourceUtils.loadResource(AbstractElementSearchAction.class, "check-elements-visibility.js")));
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
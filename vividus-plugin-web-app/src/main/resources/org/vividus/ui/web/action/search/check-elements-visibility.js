@@ -0,0 +1,9 @@
+var elements = arguments[0];
+
+return elements.map(function(element) {
+    if (isDisplayed(element)) {
+        return true;
+    }
+    element.scrollIntoView(true);
+    return isDisplayed(element);
+});
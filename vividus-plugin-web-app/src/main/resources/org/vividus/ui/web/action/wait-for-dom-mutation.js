@@ -0,0 +1,32 @@
+var exit = arguments[arguments.length - 1];
+var timeout = arguments[0];
+var finished = false;
+var observer;
+var timer;
+
+function finish(changed) {
+    if (!finished) {
+        finished = true;
+        clearTimeout(timer);
+        document.removeEventListener('readystatechange', onReadyStateChange);
+        if (observer) {
+            observer.disconnect();
+        }
+        exit(changed);
+    }
+}
+
+function onReadyStateChange() {
+    finish(true);
+}
+
+timer = setTimeout(function() {
+    finish(false);
+}, timeout);
+document.addEventListener('readystatechange', onReadyStateChange);
+if (window.MutationObserver) {
+    observer = new MutationObserver(function() {
+        finish(true);
+    });
+    observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });
+}
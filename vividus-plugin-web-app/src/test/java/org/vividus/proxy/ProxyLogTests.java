@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -69,6 +70,38 @@ class ProxyLogTests
         assertNotEquals(oldHarLog, newHarLog);
     }
 
+    @Test
+    void testQueriesProcessNewEntries()
+    {
+        Har har = createHar();
+        ProxyLog proxyLog = new ProxyLog(har);
+        List<HarEntry> entries = har.getLog().getEntries();
+        entries.add(createHarEntry("https://host/api/1", HttpMethod.GET));
+        assertEquals(List.of("https://host/api/1"), proxyLog.getRequestUrls(".*/api/.*"));
+        entries.add(createHarEntry("https://host/page", HttpMethod.GET));
+        entries.add(createHarEntry("https://host/api/2", HttpMethod.POST));
+        assertEquals(List.of("https://host/api/1", "https://host/api/2"), proxyLog.getRequestUrls(".*/api/.*"));
+        assertEquals(List.of(entries.get(2)), proxyLog.getLogEntries(HttpMethod.POST, ".*/api/.*"));
+        proxyLog.clear();
+        assertTrue(proxyLog.getRequestUrls(".*/api/.*").isEmpty());
+    }
+
+    @Test
+    void testOnlyLatestEntriesAreRetained()
+    {
+        Har har = createHar();
+        ProxyLog proxyLog = new ProxyLog(har);
+        proxyLog.setMaxEntries(2);
+        List<HarEntry> entries = har.getLog().getEntries();
+        entries.add(createHarEntry("https://host/1", HttpMethod.GET));
+        assertEquals(List.of("https://host/1"), proxyLog.getRequestUrls(".*"));
+        entries.add(createHarEntry("https://host/2", HttpMethod.GET));
+        entries.add(createHarEntry("https://host/3", HttpMethod.GET));
+        assertEquals(List.of("https://host/2", "https://host/3"), proxyLog.getRequestUrls(".*"));
+        assertEquals(List.of("https://host/2", "https://host/3"), proxyLog.getRequestUrls());
+        assertEquals(2, har.getLog().getEntries().size());
+    }
+
     @Test
     void testGetRequestUrls()
     {
@@ -198,6 +231,25 @@ class ProxyLogTests
         assertEquals("Request URL is not found by pattern: " + TEXT, exception.getMessage());
     }
 
+    private static Har createHar()
+    {
+        HarLog harLog = new HarLog();
+        harLog.setEntries(new ArrayList<>());
+        Har har = new Har();
+        har.setLog(harLog);
+        return har;
+    }
+
+    private static HarEntry createHarEntry(String url, HttpMethod httpMethod)
+    {
+        HarRequest request = new HarRequest();
+        request.setUrl(url);
+        request.setMethod(httpMethod);
+        HarEntry harEntry = new HarEntry();
+        harEntry.setRequest(request);
+        return harEntry;
+    }
+
     private HarResponse mockGetResponse(String contentText, String contentMimeType)
     {
         HarContent content = Mockito.mock(HarContent.class);
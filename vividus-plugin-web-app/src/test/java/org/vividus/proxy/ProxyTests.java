@@ -18,9 +18,12 @@ package org.vividus.proxy;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -40,10 +43,17 @@ import com.browserup.bup.filters.RequestFilterAdapter;
 import com.browserup.bup.filters.ResponseFilter;
 import com.browserup.bup.filters.ResponseFilterAdapter;
 import com.browserup.harreader.model.Har;
+import com.browserup.harreader.model.HarEntry;
+import com.browserup.harreader.model.HarLog;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpRequest;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.littleshoot.proxy.HttpFilters;
 import org.littleshoot.proxy.HttpFiltersSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -191,6 +201,19 @@ class ProxyTests
         verify(browserMobProxy).getHar();
     }
 
+    @Test
+    void testGetLogIsReusedForSameHar()
+    {
+        configureProxy();
+        when(proxyServerFactory.createProxyServer()).thenReturn(browserMobProxy);
+        Har har = new Har();
+        when(browserMobProxy.getHar()).thenReturn(har).thenReturn(har).thenReturn(new Har());
+        proxy.start();
+        ProxyLog proxyLog = proxy.getLog();
+        assertSame(proxyLog, proxy.getLog());
+        assertNotSame(proxyLog, proxy.getLog());
+    }
+
     @Test
     void testGetLogWhenProxyIsNotStarted()
     {
@@ -200,6 +223,36 @@ class ProxyTests
         verifyNoInteractions(browserMobProxy);
     }
 
+    @Test
+    void shouldApplyLogRetentionOnCapturedRequests()
+    {
+        configureProxy();
+        ((Proxy) proxy).setLogMaxEntries(1);
+        when(proxyServerFactory.createProxyServer()).thenReturn(browserMobProxy);
+        Har har = new Har();
+        har.setLog(new HarLog());
+        List<HarEntry> entries = har.getLog().getEntries();
+        entries.add(new HarEntry());
+        entries.add(new HarEntry());
+        when(browserMobProxy.getHar()).thenReturn(har);
+        proxy.start();
+        ArgumentCaptor<HttpFiltersSource> sourceCaptor = ArgumentCaptor.forClass(HttpFiltersSource.class);
+        verify(browserMobProxy).addLastHttpFilterFactory(sourceCaptor.capture());
+        HttpRequest request = mock(HttpRequest.class);
+        HttpFilters filters = sourceCaptor.getValue().filterRequest(request, mock(ChannelHandlerContext.class));
+        assertNull(filters.clientToProxyRequest(request));
+        assertEquals(1, entries.size());
+    }
+
+    @Test
+    void shouldNotApplyLogRetentionIfNotLimited()
+    {
+        configureProxy();
+        when(proxyServerFactory.createProxyServer()).thenReturn(browserMobProxy);
+        proxy.start();
+        verify(browserMobProxy, never()).addLastHttpFilterFactory(any());
+    }
+
     @Test
     void testAddRequestFilter()
     {
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.selenium.screenshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.remote.BrowserType;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.vividus.selenium.BrowserCommands;
+
+import ru.yandex.qatools.ashot.shooting.ShootingStrategy;
+
+@ExtendWith(MockitoExtension.class)
+class NativeFullPageShootingStrategyTests
+{
+    private static final String DEVICE_PIXEL_RATIO_SCRIPT = "return window.devicePixelRatio";
+    private static final int WIDTH = 20;
+    private static final int HEIGHT = 40;
+
+    @Mock private ShootingStrategy fallbackStrategy;
+    @Mock private RemoteWebDriver webDriver;
+    @Mock private CommandExecutor commandExecutor;
+    @Mock private Capabilities capabilities;
+
+    @Test
+    void shouldCaptureFullPageWithDevTools() throws IOException
+    {
+        mockBrowser(BrowserType.CHROME);
+        when(webDriver.executeScript(DEVICE_PIXEL_RATIO_SCRIPT)).thenReturn(2L);
+        when(commandExecutor.execute(argThat(c -> c != null && BrowserCommands.EXECUTE_CDP_COMMAND.equals(c.getName())
+                && "Page.getLayoutMetrics".equals(c.getParameters().get("cmd")))))
+                .thenReturn(response(Map.of("contentSize", Map.of("width", WIDTH, "height", HEIGHT))));
+        when(commandExecutor.execute(argThat(c -> c != null && "Page.captureScreenshot".equals(
+                c.getParameters().get("cmd"))))).thenReturn(response(Map.of("data", encode(WIDTH, HEIGHT))));
+        BufferedImage screenshot = new NativeFullPageShootingStrategy(fallbackStrategy).getScreenshot(webDriver);
+        assertEquals(WIDTH, screenshot.getWidth());
+        assertEquals(HEIGHT, screenshot.getHeight());
+        verifyNoInteractions(fallbackStrategy);
+    }
+
+    @Test
+    void shouldCaptureFullPageInFirefoxAndScaleIt() throws IOException
+    {
+        mockBrowser(BrowserType.FIREFOX);
+        when(webDriver.executeScript(DEVICE_PIXEL_RATIO_SCRIPT)).thenReturn(2L);
+        when(commandExecutor.execute(argThat(c -> c != null && BrowserCommands.FULL_PAGE_SCREENSHOT.equals(
+                c.getName())))).thenReturn(response(encode(WIDTH * 2, HEIGHT * 2)));
+        BufferedImage screenshot = new NativeFullPageShootingStrategy(fallbackStrategy).getScreenshot(webDriver);
+        assertEquals(WIDTH, screenshot.getWidth());
+        assertEquals(HEIGHT, screenshot.getHeight());
+    }
+
+    @Test
+    void shouldFallBackIfCommandIsNotSupported() throws IOException
+    {
+        mockBrowser(BrowserType.FIREFOX);
+        when(commandExecutor.execute(argThat(c -> c != null && BrowserCommands.FULL_PAGE_SCREENSHOT.equals(
+                c.getName())))).thenThrow(new UnsupportedCommandException(BrowserCommands.FULL_PAGE_SCREENSHOT));
+        BufferedImage image = mock(BufferedImage.class);
+        when(fallbackStrategy.getScreenshot(webDriver)).thenReturn(image);
+        assertSame(image, new NativeFullPageShootingStrategy(fallbackStrategy).getScreenshot(webDriver));
+    }
+
+    @Test
+    void shouldFallBackForOtherBrowsers()
+    {
+        when(webDriver.getCapabilities()).thenReturn(capabilities);
+        when(capabilities.getBrowserName()).thenReturn(BrowserType.SAFARI);
+        BufferedImage image = mock(BufferedImage.class);
+        when(fallbackStrategy.getScreenshot(webDriver)).thenReturn(image);
+        assertSame(image, new NativeFullPageShootingStrategy(fallbackStrategy).getScreenshot(webDriver));
+    }
+
+    private void mockBrowser(String browserName)
+    {
+        when(webDriver.getCapabilities()).thenReturn(capabilities);
+        when(capabilities.getBrowserName()).thenReturn(browserName);
+        when(webDriver.getCommandExecutor()).thenReturn(commandExecutor);
+    }
+
+    private static Response response(Object value)
+    {
+        Response response = new Response();
+        response.setStatus(0);
+        response.setValue(value);
+        return response;
+    }
+
+    private static String encode(int width, int height) throws IOException
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", output);
+        return Base64.getEncoder().encodeToString(output.toByteArray());
+    }
+}
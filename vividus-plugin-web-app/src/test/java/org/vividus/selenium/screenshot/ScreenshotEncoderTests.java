@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.selenium.screenshot;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+class ScreenshotEncoderTests
+{
+    private static final int DEFAULT_COMPRESSION_LEVEL = 4;
+    private static final BufferedImage IMAGE = new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+
+    @Test
+    void shouldEncodeSynchronouslyIfNoWorkersConfigured() throws IOException
+    {
+        ScreenshotEncoder encoder = new ScreenshotEncoder(0, 1, DEFAULT_COMPRESSION_LEVEL);
+        CompletableFuture<byte[]> data = encoder.encode(IMAGE);
+        assertTrue(data.isDone());
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ImageIO.write(IMAGE, "png", expected);
+        assertArrayEquals(expected.toByteArray(), data.join());
+    }
+
+    @Test
+    void shouldEncodeInBackgroundAndAwaitPendingEncodingOnDestroy() throws IOException, InterruptedException
+    {
+        ScreenshotEncoder encoder = new ScreenshotEncoder(1, 1, 1);
+        CompletableFuture<byte[]> data = encoder.encode(IMAGE);
+        encoder.destroy();
+        assertTrue(data.isDone());
+        assertTrue(data.join().length > 0);
+    }
+
+    @Test
+    void shouldRejectInvalidCompressionLevel()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new ScreenshotEncoder(0, 1, 10));
+    }
+}
@@ -46,6 +46,8 @@ class ScreenshotShootingStrategyTests
             Arguments.of(ScreenshotShootingStrategy.SIMPLE,                  ViewportShootingStrategy.class,           true,  false,  null                      ),
             Arguments.of(ScreenshotShootingStrategy.VIEWPORT_PASTING,        AdjustingViewportPastingDecorator.class, false, false,  null                      ),
             Arguments.of(ScreenshotShootingStrategy.VIEWPORT_PASTING,        SimpleShootingStrategy.class,            true,  false,  null                      ),
+            Arguments.of(ScreenshotShootingStrategy.NATIVE_FULL_PAGE,        NativeFullPageShootingStrategy.class,    false, false,  null                      ),
+            Arguments.of(ScreenshotShootingStrategy.NATIVE_FULL_PAGE,        SimpleShootingStrategy.class,            true,  false,  null                      ),
             Arguments.of(ScreenshotShootingStrategy.DEVICE_DEPENDENT,        DebuggingViewportPastingDecorator.class, false, false,  IPAD_SIMULATOR            ),
             Arguments.of(ScreenshotShootingStrategy.DEVICE_DEPENDENT,        CuttingDecorator.class,                  true,  false,  IPAD_SIMULATOR            ),
             Arguments.of(ScreenshotShootingStrategy.DEVICE_DEPENDENT,        DebuggingViewportPastingDecorator.class, false, true,   IPAD_SIMULATOR            ),
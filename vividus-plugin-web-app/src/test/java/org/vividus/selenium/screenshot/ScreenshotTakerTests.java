@@ -60,6 +60,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -117,6 +118,9 @@ public class ScreenshotTakerTests
     @Mock
     private ScreenshotConfiguration screenshotConfiguration;
 
+    @Spy
+    private final ScreenshotEncoder screenshotEncoder = new ScreenshotEncoder(0, 1, 4);
+
     @InjectMocks
     private ScreenshotTaker screenshotTaker;
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ui.web.action;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.UnhandledAlertException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriver.TargetLocator;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.vividus.selenium.IWebDriverProvider;
+
+@ExtendWith(MockitoExtension.class)
+class DomMutationSleeperFactoryTests
+{
+    private static final String SCRIPT = "wait-for-dom-mutation.js";
+    private static final Duration DURATION = Duration.ofMillis(1);
+
+    @Mock
+    private IWebDriverProvider webDriverProvider;
+
+    @Mock
+    private IJavascriptActions javascriptActions;
+
+    @Mock
+    private WebDriver webDriver;
+
+    @Mock
+    private TargetLocator targetLocator;
+
+    @InjectMocks
+    private DomMutationSleeperFactory sleeperFactory;
+
+    @Test
+    void shouldWaitForDomMutationAndCheckAlertOncePerWait() throws InterruptedException
+    {
+        mockNoAlert();
+        Sleeper sleeper = sleeperFactory.get();
+        sleeper.sleep(DURATION);
+        sleeper.sleep(DURATION);
+        verify(targetLocator).alert();
+        verify(javascriptActions, times(2)).executeAsyncScriptFromResource(DomMutationSleeperFactory.class, SCRIPT,
+                DURATION.toMillis());
+    }
+
+    @Test
+    void shouldSleepForMinIntervalAfterDomMutation() throws InterruptedException
+    {
+        mockNoAlert();
+        Duration minInterval = Duration.ofMillis(100);
+        sleeperFactory.setMinInterval(minInterval);
+        Duration duration = Duration.ofSeconds(1);
+        long start = System.nanoTime();
+        sleeperFactory.get().sleep(duration);
+        long elapsed = System.nanoTime() - start;
+        verify(javascriptActions).executeAsyncScriptFromResource(DomMutationSleeperFactory.class, SCRIPT,
+                duration.toMillis());
+        assertThat(elapsed, greaterThanOrEqualTo(minInterval.toNanos()));
+        assertThat(elapsed, lessThan(duration.toNanos()));
+    }
+
+    @Test
+    void shouldNotFailIfScriptTimesOut() throws InterruptedException
+    {
+        mockNoAlert();
+        when(javascriptActions.executeAsyncScriptFromResource(DomMutationSleeperFactory.class, SCRIPT,
+                DURATION.toMillis())).thenThrow(new ScriptTimeoutException());
+        sleeperFactory.get().sleep(DURATION);
+    }
+
+    @Test
+    void shouldFallBackToPollingIfScriptFails() throws InterruptedException
+    {
+        mockNoAlert();
+        when(javascriptActions.executeAsyncScriptFromResource(DomMutationSleeperFactory.class, SCRIPT,
+                DURATION.toMillis())).thenThrow(new WebDriverException());
+        Sleeper sleeper = sleeperFactory.get();
+        sleeper.sleep(DURATION);
+        sleeper.sleep(DURATION);
+        verify(javascriptActions, times(2)).executeAsyncScriptFromResource(DomMutationSleeperFactory.class, SCRIPT,
+                DURATION.toMillis());
+    }
+
+    @Test
+    void shouldStopExecutingScriptIfAlertIsOpenedWhileWaiting() throws InterruptedException
+    {
+        mockNoAlert();
+        when(javascriptActions.executeAsyncScriptFromResource(DomMutationSleeperFactory.class, SCRIPT,
+                DURATION.toMillis())).thenThrow(new UnhandledAlertException("alert"));
+        Sleeper sleeper = sleeperFactory.get();
+        sleeper.sleep(DURATION);
+        sleeper.sleep(DURATION);
+        verify(javascriptActions).executeAsyncScriptFromResource(DomMutationSleeperFactory.class, SCRIPT,
+                DURATION.toMillis());
+    }
+
+    @Test
+    void shouldNotExecuteScriptIfAlertIsPresent() throws InterruptedException
+    {
+        mockAlertCheck();
+        sleeperFactory.get().sleep(DURATION);
+        verify(targetLocator).alert();
+        verifyNoInteractions(javascriptActions);
+    }
+
+    @Test
+    void shouldNotExecuteScriptIfAlertPresenceIsUnknown() throws InterruptedException
+    {
+        mockAlertCheck();
+        when(targetLocator.alert()).thenThrow(new WebDriverException());
+        sleeperFactory.get().sleep(DURATION);
+        verifyNoInteractions(javascriptActions);
+    }
+
+    @Test
+    void shouldNotUseBrowserIfWebDriverIsNotInitialized() throws InterruptedException
+    {
+        sleeperFactory.setEnabled(true);
+        sleeperFactory.get().sleep(DURATION);
+        verifyNoInteractions(javascriptActions);
+    }
+
+    @Test
+    void shouldCreateSystemSleeperIfDisabled()
+    {
+        assertSame(Sleeper.SYSTEM_SLEEPER, sleeperFactory.get());
+        verifyNoInteractions(webDriverProvider, javascriptActions);
+    }
+
+    private void mockNoAlert()
+    {
+        mockAlertCheck();
+        when(targetLocator.alert()).thenThrow(new NoAlertPresentException());
+    }
+
+    private void mockAlertCheck()
+    {
+        sleeperFactory.setEnabled(true);
+        when(webDriverProvider.isWebDriverInitialized()).thenReturn(true);
+        when(webDriverProvider.get()).thenReturn(webDriver);
+        when(webDriver.switchTo()).thenReturn(targetLocator);
+    }
+}
@@ -45,6 +45,17 @@ import org.vividus.util.ResourceUtils;
 class JavascriptActionsTests
 {
     private static final String SCROLL_TO_END_OF_PAGE = "scroll-to-end-of-page.js";
+    private static final String SCROLL_TO_END_OF_PAGE_KEY = "org/vividus/ui/web/action/" + SCROLL_TO_END_OF_PAGE;
+    private static final String NOT_PINNED = "vividus:script-is-not-pinned";
+    private static final String PINNED_SCROLL_TO_END_OF_PAGE = "var s = window.__vividusScripts; if (!s || !s['"
+            + SCROLL_TO_END_OF_PAGE_KEY + "']) { return '" + NOT_PINNED + "'; } return s['" + SCROLL_TO_END_OF_PAGE_KEY
+            + "'].apply(null, arguments);";
+    private static final String PIN_SCROLL_TO_END_OF_PAGE = "if (!window.__vividusScripts) {"
+            + " Object.defineProperty(window, '__vividusScripts', { value: {} }); } window.__vividusScripts['"
+            + SCROLL_TO_END_OF_PAGE_KEY + "'] = function() {\n"
+            + ResourceUtils.loadResource(JavascriptActions.class, SCROLL_TO_END_OF_PAGE) + "\n};"
+            + " return window.__vividusScripts['" + SCROLL_TO_END_OF_PAGE_KEY + "'].apply(null, arguments);";
+    private static final String ARG = "arg";
     private static final String TEXT = "text";
     private static final String BODY_INNER_TEXT = "return document.body.innerText";
     private static final String ELEMENT_INNER_TEXT = "return arguments[0].innerText";
@@ -105,6 +116,34 @@ class JavascriptActionsTests
                 .executeAsyncScript(ResourceUtils.loadResource(JavascriptActions.class, SCROLL_TO_END_OF_PAGE));
     }
 
+    @Test
+    void testExecuteScriptFromResourcePinsScriptOnlyOnce()
+    {
+        javascriptActions.setPinResourceScripts(true);
+        JavascriptExecutor javascriptExecutor = (JavascriptExecutor) webDriver;
+        when(javascriptExecutor.executeScript(PINNED_SCROLL_TO_END_OF_PAGE, ARG)).thenReturn(NOT_PINNED, TEXT);
+        when(javascriptExecutor.executeScript(PIN_SCROLL_TO_END_OF_PAGE, ARG)).thenReturn(TEXT);
+        assertEquals(TEXT, javascriptActions.executeScriptFromResource(JavascriptActions.class,
+                SCROLL_TO_END_OF_PAGE, ARG));
+        assertEquals(TEXT, javascriptActions.executeScriptFromResource(JavascriptActions.class,
+                SCROLL_TO_END_OF_PAGE, ARG));
+        verify(javascriptExecutor, times(2)).executeScript(PINNED_SCROLL_TO_END_OF_PAGE, ARG);
+        verify(javascriptExecutor).executeScript(PIN_SCROLL_TO_END_OF_PAGE, ARG);
+    }
+
+    @Test
+    void testExecuteAsyncScriptFromResourcePinsScriptAfterNavigation()
+    {
+        javascriptActions.setPinResourceScripts(true);
+        JavascriptExecutor javascriptExecutor = (JavascriptExecutor) webDriver;
+        String invocation = "var s = window.__vividusScripts; if (!s || !s['" + SCROLL_TO_END_OF_PAGE_KEY
+                + "']) { arguments[arguments.length - 1]('" + NOT_PINNED + "'); return; } s['"
+                + SCROLL_TO_END_OF_PAGE_KEY + "'].apply(null, arguments);";
+        when(javascriptExecutor.executeAsyncScript(invocation)).thenReturn(NOT_PINNED);
+        javascriptActions.executeAsyncScriptFromResource(JavascriptActions.class, SCROLL_TO_END_OF_PAGE);
+        verify(javascriptExecutor).executeAsyncScript(PIN_SCROLL_TO_END_OF_PAGE);
+    }
+
     @Test
     void testExecuteAsyncSript()
     {
@@ -22,6 +22,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -51,6 +53,7 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
@@ -328,6 +331,58 @@ class ElementSearchActionTests
         assertThat(logger.getLoggingEvents(), equalTo(List.of(info(TOTAL_NUMBER_OF_ELEMENTS, locator, 2))));
     }
 
+    @Test
+    void shouldFilterElementsByVisibilityInSingleScriptExecution()
+    {
+        elementSearchAction.setBatchVisibilityCheck(true);
+        WebElement element1 = mock(WebElement.class);
+        WebElement element2 = mock(WebElement.class);
+        List<WebElement> elementsList = List.of(element1, element2);
+        when(searchContext.findElements(locator)).thenReturn(elementsList);
+        when(javascriptActions.<List<Boolean>>executeScript(argThat(script -> script.contains("isDisplayed")),
+                eq(elementsList))).thenReturn(List.of(Boolean.FALSE, Boolean.TRUE));
+        List<WebElement> foundElements = elementSearchAction.findElements(searchContext, locator,
+                new SearchParameters().setWaitForElement(false));
+        assertEquals(List.of(element2), foundElements);
+        verifyNoInteractions(element1, element2);
+        assertThat(logger.getLoggingEvents(), equalTo(List.of(info(TOTAL_NUMBER_OF_ELEMENTS, locator, 2))));
+    }
+
+    @Test
+    void shouldFallBackToPerElementVisibilityCheckOnScriptError()
+    {
+        elementSearchAction.setBatchVisibilityCheck(true);
+        WebElement element1 = mock(WebElement.class);
+        WebElement element2 = mock(WebElement.class);
+        List<WebElement> elementsList = List.of(element1, element2);
+        when(searchContext.findElements(locator)).thenReturn(elementsList);
+        when(javascriptActions.executeScript(anyString(), eq(elementsList)))
+                .thenThrow(new JavascriptException(EXCEPTION));
+        when(element1.isDisplayed()).thenReturn(Boolean.TRUE);
+        when(element2.isDisplayed()).thenReturn(Boolean.FALSE);
+        List<WebElement> foundElements = elementSearchAction.findElements(searchContext, locator,
+                new SearchParameters().setWaitForElement(false));
+        assertEquals(List.of(element1), foundElements);
+        verify(javascriptActions).scrollIntoView(element2, true);
+    }
+
+    @Test
+    void shouldRetrySearchIfElementIsStaleOnBatchVisibilityCheck()
+    {
+        elementSearchAction.setBatchVisibilityCheck(true);
+        elementSearchAction.setRetrySearchIfStale(true);
+        WebElement element = mock(WebElement.class);
+        List<WebElement> elementsList = List.of(element);
+        when(searchContext.findElements(locator)).thenReturn(elementsList);
+        when(javascriptActions.executeScript(anyString(), eq(elementsList)))
+                .thenThrow(new StaleElementReferenceException(EXCEPTION))
+                .thenReturn(List.of(Boolean.TRUE));
+        List<WebElement> foundElements = elementSearchAction.findElements(searchContext, locator,
+                new SearchParameters().setWaitForElement(false));
+        assertEquals(elementsList, foundElements);
+        verify(searchContext, times(2)).findElements(locator);
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     void shouldFindAllElements()
@@ -19,13 +19,25 @@ package org.vividus.bdd.steps.xml;
 import static org.hamcrest.xml.HasXPath.hasXPath;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
 import java.util.Set;
 
+import javax.xml.stream.XMLStreamException;
+
 import org.jbehave.core.annotations.Then;
 import org.jbehave.core.annotations.When;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.vividus.bdd.context.IBddVariableContext;
+import org.vividus.bdd.steps.ComparisonRule;
 import org.vividus.bdd.variable.VariableScope;
 import org.vividus.softassert.ISoftAssert;
+import org.vividus.util.xml.StreamingXPath;
 import org.vividus.util.xml.XmlUtils;
 import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
@@ -36,8 +48,13 @@ import org.xmlunit.diff.ElementSelectors;
 
 public class XmlSteps
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(XmlSteps.class);
+
+    private static final String XPATH_ASSERTION_FORMAT = "XML has element with XPath: %s";
+
     private final ISoftAssert softAssert;
     private final IBddVariableContext bddVariableContext;
+    private long streamingThreshold;
 
     public XmlSteps(ISoftAssert softAssert, IBddVariableContext bddVariableContext)
     {
@@ -75,15 +92,134 @@ public class XmlSteps
     }
 
     /**
-     * Checks if xml contains element by XPath
+     * Checks if xml contains element by XPath. If the XML length exceeds <b>xml.streaming-threshold</b> property value
+     * and XPath selects elements by the location path (e.g. <code>//product/price</code>), the XML is read as a
+     * stream, otherwise the XML is parsed into DOM.
      * @param xml XML
      * @param xpath XPath
      */
     @Then("XML `$xml` contains element by xpath `$xpath`")
     public void doesElementExistByXpath(String xml, String xpath)
     {
-        Document doc = XmlUtils.convertToDocument(xml);
-        softAssert.assertThat("XML has element with XPath: " + xpath, doc, hasXPath(xpath));
+        String description = String.format(XPATH_ASSERTION_FORMAT, xpath);
+        Optional<StreamingXPath> streamingXPath = getStreamingXPath(xml.length(), xpath);
+        if (streamingXPath.isPresent())
+        {
+            softAssert.assertTrue(description, countElements(streamingXPath.get(), xml, 1) > 0);
+        }
+        else
+        {
+            Document doc = XmlUtils.convertToDocument(xml);
+            softAssert.assertThat(description, doc, hasXPath(xpath));
+        }
+    }
+
+    /**
+     * Checks if XML file contains element by XPath. If the file size exceeds <b>xml.streaming-threshold</b> property
+     * value and XPath selects elements by the location path (e.g. <code>//product/price</code>), the file is read as
+     * a stream, otherwise the file is loaded into memory.
+     * @param filePath Path to XML file
+     * @param xpath XPath
+     * @throws IOException if unable to read the file
+     */
+    @Then("XML file `$filePath` contains element by xpath `$xpath`")
+    public void doesElementExistByXpathInFile(String filePath, String xpath) throws IOException
+    {
+        softAssert.assertTrue(String.format(XPATH_ASSERTION_FORMAT, xpath),
+                countElements(Paths.get(filePath), xpath, 1) > 0);
+    }
+
+    /**
+     * Checks the number of elements found by XPath in XML. If the XML length exceeds <b>xml.streaming-threshold</b>
+     * property value and XPath selects elements by the location path (e.g. <code>//product/price</code>), the XML is
+     * read as a stream, otherwise the XML is parsed into DOM.
+     * @param xpath XPath
+     * @param xml XML
+     * @param comparisonRule The rule to compare values
+     * (<i>Possible values:<b> less than, less than or equal to, greater than, greater than or equal to,
+     * equal to</b></i>)
+     * @param quantity Expected number of elements
+     */
+    @Then("number of elements found by xpath `$xpath` in XML `$xml` is $comparisonRule `$quantity`")
+    public void doesElementNumberByXpathMatch(String xpath, String xml, ComparisonRule comparisonRule, int quantity)
+    {
+        int number = getStreamingXPath(xml.length(), xpath)
+                .map(streamingXPath -> countElements(streamingXPath, xml, Long.MAX_VALUE))
+                .orElseGet(() -> XmlUtils.countNodesByXpath(XmlUtils.convertToDocument(xml), xpath));
+        assertElementNumber(xpath, comparisonRule, quantity, number);
+    }
+
+    /**
+     * Checks the number of elements found by XPath in XML file. If the file size exceeds
+     * <b>xml.streaming-threshold</b> property value and XPath selects elements by the location path
+     * (e.g. <code>//product/price</code>), the file is read as a stream, otherwise the file is loaded into memory.
+     * @param xpath XPath
+     * @param filePath Path to XML file
+     * @param comparisonRule The rule to compare values
+     * (<i>Possible values:<b> less than, less than or equal to, greater than, greater than or equal to,
+     * equal to</b></i>)
+     * @param quantity Expected number of elements
+     * @throws IOException if unable to read the file
+     */
+    @Then("number of elements found by xpath `$xpath` in XML file `$filePath` is $comparisonRule `$quantity`")
+    public void doesElementNumberByXpathInFileMatch(String xpath, String filePath, ComparisonRule comparisonRule,
+            int quantity) throws IOException
+    {
+        int number = countElements(Paths.get(filePath), xpath, Long.MAX_VALUE);
+        assertElementNumber(xpath, comparisonRule, quantity, number);
+    }
+
+    private void assertElementNumber(String xpath, ComparisonRule comparisonRule, int quantity, int number)
+    {
+        softAssert.assertThat(String.format("Number of elements found by XPath '%s'", xpath), number,
+                comparisonRule.getComparisonRule(quantity));
+    }
+
+    private int countElements(Path xmlFile, String xpath, long limit) throws IOException
+    {
+        Optional<StreamingXPath> streamingXPath = getStreamingXPath(Files.size(xmlFile), xpath);
+        try (InputStream xml = Files.newInputStream(xmlFile))
+        {
+            if (streamingXPath.isPresent())
+            {
+                try
+                {
+                    return Math.toIntExact(streamingXPath.get().count(xml, limit));
+                }
+                catch (XMLStreamException e)
+                {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+            }
+            return XmlUtils.countNodesByXpath(XmlUtils.convertToDocument(xml), xpath);
+        }
+    }
+
+    private static int countElements(StreamingXPath streamingXPath, String xml, long limit)
+    {
+        try
+        {
+            return Math.toIntExact(streamingXPath.count(new StringReader(xml), limit));
+        }
+        catch (XMLStreamException e)
+        {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private Optional<StreamingXPath> getStreamingXPath(long documentSize, String xpath)
+    {
+        if (documentSize <= streamingThreshold)
+        {
+            return Optional.empty();
+        }
+        Optional<StreamingXPath> streamingXPath = StreamingXPath.compile(xpath);
+        if (streamingXPath.isEmpty())
+        {
+            LOGGER.warn("XPath '{}' is not supported by streaming evaluation, the document of {} bytes is loaded into"
+                    + " memory", xpath, documentSize);
+        }
+        return streamingXPath;
     }
 
     /**
@@ -129,4 +265,27 @@ public class XmlSteps
             softAssert.recordFailedAssertion(e);
         }
     }
+
+    /**
+     * Validates XML file against XSD, the file is read as a stream, so it's never loaded into memory entirely
+     * @param filePath Path to XML file
+     * @param xsd XSD
+     */
+    @Then("XML file `$filePath` is valid against XSD `$xsd`")
+    public void validateXmlFileAgainstXsd(String filePath, String xsd)
+    {
+        try (InputStream xml = Files.newInputStream(Paths.get(filePath)))
+        {
+            XmlUtils.validateXmlAgainstXsd(xml, xsd);
+        }
+        catch (SAXException | IOException e)
+        {
+            softAssert.recordFailedAssertion(e);
+        }
+    }
+
+    public void setStreamingThreshold(long streamingThreshold)
+    {
+        this.streamingThreshold = streamingThreshold;
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.util.xml;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Streaming evaluator of the subset of XPath expressions selecting elements by absolute location path, e.g.
+ * <code>/catalog/product</code>, <code>//product/price</code> or <code>/catalog//*</code>. Only the child
+ * (<code>/</code>) and the descendant (<code>//</code>) axes, unprefixed element names and the <code>*</code>
+ * wildcard are supported. The document is read via StAX, so it's never loaded into memory entirely.
+ */
+public final class StreamingXPath
+{
+    private static final String NAME_TEST = "(\\*|[A-Za-z_][\\w.\\-]*)";
+    private static final Pattern EXPRESSION = Pattern.compile("(/{1,2}" + NAME_TEST + ")+");
+    private static final Pattern STEP = Pattern.compile("(/{1,2})" + NAME_TEST);
+    private static final String WILDCARD = "*";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newFactory();
+
+    static
+    {
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private final List<Step> steps;
+
+    private StreamingXPath(List<Step> steps)
+    {
+        this.steps = steps;
+    }
+
+    /**
+     * Compiles XPath expression if it's supported by the streaming evaluation
+     * @param xpath XPath expression
+     * @return compiled expression or empty optional if the expression is not supported
+     */
+    public static Optional<StreamingXPath> compile(String xpath)
+    {
+        String expression = xpath.strip();
+        if (!EXPRESSION.matcher(expression).matches())
+        {
+            return Optional.empty();
+        }
+        List<Step> steps = new ArrayList<>();
+        Matcher matcher = STEP.matcher(expression);
+        while (matcher.find())
+        {
+            steps.add(new Step(matcher.group(1).length() > 1, matcher.group(2)));
+        }
+        return Optional.of(new StreamingXPath(steps));
+    }
+
+    /**
+     * Counts the elements matching the expression
+     * @param xml XML document
+     * @param limit the number of matches to stop reading the document at
+     * @return number of matching elements, but not greater than the limit
+     * @throws XMLStreamException if the document is not well-formed
+     */
+    public long count(InputStream xml, long limit) throws XMLStreamException
+    {
+        return count(XML_INPUT_FACTORY.createXMLStreamReader(xml), limit);
+    }
+
+    /**
+     * Counts the elements matching the expression
+     * @param xml XML document
+     * @param limit the number of matches to stop reading the document at
+     * @return number of matching elements, but not greater than the limit
+     * @throws XMLStreamException if the document is not well-formed
+     */
+    public long count(Reader xml, long limit) throws XMLStreamException
+    {
+        return count(XML_INPUT_FACTORY.createXMLStreamReader(xml), limit);
+    }
+
+    private long count(XMLStreamReader reader, long limit) throws XMLStreamException
+    {
+        try
+        {
+            // Every set contains the indices of the steps to match by the children of the corresponding element
+            Deque<BitSet> states = new ArrayDeque<>();
+            BitSet documentState = new BitSet(steps.size() + 1);
+            documentState.set(0);
+            states.push(documentState);
+            long matches = 0;
+            while (reader.hasNext())
+            {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT)
+                {
+                    BitSet state = match(states.peek(), reader.getNamespaceURI(), reader.getLocalName());
+                    if (state.get(steps.size()) && ++matches >= limit)
+                    {
+                        break;
+                    }
+                    states.push(state);
+                }
+                else if (event == XMLStreamConstants.END_ELEMENT)
+                {
+                    states.pop();
+                }
+            }
+            return matches;
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+
+    private BitSet match(BitSet parentState, String namespaceUri, String localName)
+    {
+        boolean noNamespace = namespaceUri == null || XMLConstants.NULL_NS_URI.equals(namespaceUri);
+        BitSet state = new BitSet(steps.size() + 1);
+        for (int i = parentState.nextSetBit(0); i >= 0 && i < steps.size(); i = parentState.nextSetBit(i + 1))
+        {
+            Step step = steps.get(i);
+            if (step.descendant)
+            {
+                state.set(i);
+            }
+            if (WILDCARD.equals(step.name) || noNamespace && step.name.equals(localName))
+            {
+                state.set(i + 1);
+            }
+        }
+        return state;
+    }
+
+    private static final class Step
+    {
+        private final boolean descendant;
+        private final String name;
+
+        private Step(boolean descendant, String name)
+        {
+            this.descendant = descendant;
+            this.name = name;
+        }
+    }
+}
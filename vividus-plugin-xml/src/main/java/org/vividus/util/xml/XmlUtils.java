@@ -17,10 +17,15 @@
 package org.vividus.util.xml;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -30,17 +35,24 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
+import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import org.apache.commons.pool2.BasePooledObjectFactory;
 import org.apache.commons.pool2.PooledObject;
 import org.apache.commons.pool2.impl.DefaultPooledObject;
@@ -56,8 +68,22 @@ public final class XmlUtils
     private static final String INDENTATION_LEVEL = "4";
     private static final String YES = "yes";
 
-    private static final UnsafeGenericObjectPool<XPathFactory> XPATH_FACTORY = new UnsafeGenericObjectPool<>(
-            XPathFactory::newInstance);
+    private static final int MAX_COMPILED_STYLESHEETS = 100;
+    private static final int MAX_COMPILED_SCHEMAS = 100;
+    private static final int MAX_COMPILED_XPATHS_PER_THREAD = 500;
+
+    /**
+     * Compiled XSLT stylesheets and XSD schemas are thread-safe, so they are shared across all threads, while compiled
+     * XPath expressions are not thread-safe and are cached per thread.
+     */
+    private static final Cache<String, Templates> TEMPLATES = CacheBuilder.newBuilder()
+            .maximumSize(MAX_COMPILED_STYLESHEETS)
+            .build();
+    private static final Cache<String, Schema> SCHEMAS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_COMPILED_SCHEMAS)
+            .build();
+    private static final ThreadLocal<XPathExpressions> XPATH_EXPRESSIONS = ThreadLocal.withInitial(
+            XPathExpressions::new);
     private static final UnsafeGenericObjectPool<TransformerFactory> TRANSFORMER_FACTORY =
             new UnsafeGenericObjectPool<>(TransformerFactory::newInstance);
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
@@ -95,12 +121,22 @@ public final class XmlUtils
     }
 
     public static Document convertToDocument(String xml)
+    {
+        return convertToDocument(createInputSource(xml));
+    }
+
+    public static Document convertToDocument(InputStream xml)
+    {
+        return convertToDocument(new InputSource(xml));
+    }
+
+    private static Document convertToDocument(InputSource xml)
     {
         return DOCUMENT_BUILDER.apply(documentBuilder ->
         {
             try
             {
-                return documentBuilder.parse(createInputSource(xml));
+                return documentBuilder.parse(xml);
             }
             catch (SAXException | IOException e)
             {
@@ -117,49 +153,97 @@ public final class XmlUtils
      */
     public static Optional<String> getXmlByXpath(String xml, String xpath)
     {
-        return XPATH_FACTORY.apply(xPathFactory -> {
-            try
-            {
-                InputSource source = createInputSource(xml);
-                NodeList nodeList = (NodeList) xPathFactory.newXPath().evaluate(xpath, source, XPathConstants.NODESET);
-                Node singleNode = nodeList.item(0);
-                Properties outputProperties = new Properties();
-                outputProperties.setProperty(OutputKeys.OMIT_XML_DECLARATION, YES);
-                return transform(new DOMSource(singleNode), outputProperties);
-            }
-            catch (XPathExpressionException e)
-            {
-                throw new IllegalStateException(e.getMessage(), e);
-            }
-        });
+        try
+        {
+            InputSource source = createInputSource(xml);
+            NodeList nodeList = (NodeList) XPATH_EXPRESSIONS.get().compile(xpath).evaluate(source,
+                    XPathConstants.NODESET);
+            Node singleNode = nodeList.item(0);
+            Properties outputProperties = new Properties();
+            outputProperties.setProperty(OutputKeys.OMIT_XML_DECLARATION, YES);
+            return transform(new DOMSource(singleNode), outputProperties);
+        }
+        catch (XPathExpressionException e)
+        {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Counts nodes found by XPath in XML document
+     * @param document XML document
+     * @param xpath xpath
+     * @return number of found nodes
+     */
+    public static int countNodesByXpath(Document document, String xpath)
+    {
+        try
+        {
+            return ((NodeList) XPATH_EXPRESSIONS.get().compile(xpath).evaluate(document, XPathConstants.NODESET))
+                    .getLength();
+        }
+        catch (XPathExpressionException e)
+        {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
     }
 
     public static void validateXmlAgainstXsd(String xml, String xsd) throws SAXException, IOException
     {
-        SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
-                .newSchema(createStreamSource(xsd))
-                .newValidator()
-                .validate(createStreamSource(xml));
+        validateXmlAgainstXsd(createStreamSource(xml), xsd);
+    }
+
+    /**
+     * Validates XML against XSD, the XML is read as a stream, so it's never loaded into memory entirely
+     * @param xml XML
+     * @param xsd XSD
+     * @throws SAXException if the XML is not valid against XSD
+     * @throws IOException if unable to read the XML
+     */
+    public static void validateXmlAgainstXsd(InputStream xml, String xsd) throws SAXException, IOException
+    {
+        validateXmlAgainstXsd(new StreamSource(xml), xsd);
+    }
+
+    private static void validateXmlAgainstXsd(Source xml, String xsd) throws SAXException, IOException
+    {
+        Schema schema = getCompiled(SCHEMAS, xsd, SAXException.class,
+            () -> SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(createStreamSource(xsd)));
+        schema.newValidator().validate(xml);
     }
 
     public static void transform(String xml, String xslt, Consumer<String> transformedXmlConsumer,
             Consumer<TransformerException> transformerExceptionConsumer)
     {
-        StreamSource xmlSource = createStreamSource(xml);
-        StreamSource xsltSource = createStreamSource(xslt);
-        TRANSFORMER_FACTORY.accept(transformerFactory ->
+        try
         {
-            try
-            {
-                Transformer transformer = transformerFactory.newTransformer(xsltSource);
-                String transformedXml = transform(xmlSource, transformer);
-                transformedXmlConsumer.accept(transformedXml);
-            }
-            catch (TransformerException e)
+            Templates templates = getCompiled(TEMPLATES, xslt, TransformerException.class,
+                () -> TransformerFactory.newInstance().newTemplates(createStreamSource(xslt)));
+            String transformedXml = transform(createStreamSource(xml), templates.newTransformer());
+            transformedXmlConsumer.accept(transformedXml);
+        }
+        catch (TransformerException e)
+        {
+            transformerExceptionConsumer.accept(e);
+        }
+    }
+
+    private static <T, E extends Exception> T getCompiled(Cache<String, T> cache, String source,
+            Class<E> exceptionType, Callable<T> compiler) throws E
+    {
+        try
+        {
+            return cache.get(source, compiler);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (exceptionType.isInstance(cause))
             {
-                transformerExceptionConsumer.accept(e);
+                throw exceptionType.cast(cause);
             }
-        });
+            throw new IllegalStateException(cause);
+        }
     }
 
     /**
@@ -223,4 +307,35 @@ public final class XmlUtils
     {
         return sourceFactory.apply(new StringReader(str));
     }
+
+    @SuppressWarnings("serial")
+    private static final class XPathExpressions extends LinkedHashMap<String, XPathExpression>
+    {
+        private static final int INITIAL_CAPACITY = 16;
+        private static final float LOAD_FACTOR = 0.75f;
+
+        private final transient XPath xPath = XPathFactory.newInstance().newXPath();
+
+        private XPathExpressions()
+        {
+            super(INITIAL_CAPACITY, LOAD_FACTOR, true);
+        }
+
+        private XPathExpression compile(String expression) throws XPathExpressionException
+        {
+            XPathExpression compiledExpression = get(expression);
+            if (compiledExpression == null)
+            {
+                compiledExpression = xPath.compile(expression);
+                put(expression, compiledExpression);
+            }
+            return compiledExpression;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest)
+        {
+            return size() > MAX_COMPILED_XPATHS_PER_THREAD;
+        }
+    }
 }
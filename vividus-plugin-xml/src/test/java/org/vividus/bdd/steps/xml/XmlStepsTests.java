@@ -16,10 +16,17 @@
 
 package org.vividus.bdd.steps.xml;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Set;
 
 import javax.xml.transform.TransformerException;
@@ -27,10 +34,15 @@ import javax.xml.transform.TransformerException;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.vividus.bdd.context.IBddVariableContext;
+import org.vividus.bdd.steps.ComparisonRule;
 import org.vividus.bdd.variable.VariableScope;
 import org.vividus.softassert.ISoftAssert;
 import org.vividus.util.ResourceUtils;
@@ -43,6 +55,9 @@ class XmlStepsTests
 {
     private static final String XML = "<test>data</test>";
     private static final String XPATH = "//test/text()";
+    private static final String ELEMENT_ASSERTION = "XML has element with XPath: /test";
+    private static final String FEED = "<feed><data>1</data><data>2</data></feed>";
+    private static final String FEED_XPATH = "/feed/data";
 
     @Mock
     private IBddVariableContext bddVariableContext;
@@ -70,6 +85,57 @@ class XmlStepsTests
         softAssert.assertThat(eq("XML has element with XPath: " + XPATH), eq(doc), any(Matcher.class));
     }
 
+    @Test
+    void shouldValidateXmlElementExistenceByXpathUsingStreaming()
+    {
+        xmlValidationSteps.setStreamingThreshold(0);
+        xmlValidationSteps.doesElementExistByXpath(XML, "/test");
+        verify(softAssert).assertTrue(ELEMENT_ASSERTION, true);
+    }
+
+    @Test
+    void shouldValidateXmlFileElementExistenceByXpath(@TempDir Path tempDir) throws IOException
+    {
+        xmlValidationSteps.doesElementExistByXpathInFile(createXmlFile(tempDir), "/test");
+        verify(softAssert).assertTrue(ELEMENT_ASSERTION, true);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0,               //data",
+        "0,               //data/text()",
+        "9223372036854775807, //data"
+    })
+    void shouldCountElementsByXpath(long streamingThreshold, String xpath)
+    {
+        xmlValidationSteps.setStreamingThreshold(streamingThreshold);
+        xmlValidationSteps.doesElementNumberByXpathMatch(xpath, FEED, ComparisonRule.EQUAL_TO, 2);
+        verify(softAssert).assertThat(eq("Number of elements found by XPath '" + xpath + "'"), eq(2),
+                argThat(matcher -> matcher.matches(2)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, Long.MAX_VALUE })
+    void shouldCountElementsByXpathInFile(long streamingThreshold, @TempDir Path tempDir) throws IOException
+    {
+        xmlValidationSteps.setStreamingThreshold(streamingThreshold);
+        Path file = tempDir.resolve("feed.xml");
+        Files.writeString(file, FEED);
+        xmlValidationSteps.doesElementNumberByXpathInFileMatch(FEED_XPATH, file.toString(),
+                ComparisonRule.GREATER_THAN, 1);
+        verify(softAssert).assertThat(eq("Number of elements found by XPath '" + FEED_XPATH + "'"), eq(2),
+                argThat(matcher -> matcher.matches(2)));
+    }
+
+    @Test
+    void shouldFailOnMalformedXmlUsingStreaming()
+    {
+        xmlValidationSteps.setStreamingThreshold(0);
+        assertThrows(IllegalStateException.class,
+            () -> xmlValidationSteps.doesElementNumberByXpathMatch(FEED_XPATH, "<feed><data>", ComparisonRule.EQUAL_TO,
+                    0));
+    }
+
     @Test
     void shouldCompareXmls()
     {
@@ -98,6 +164,20 @@ class XmlStepsTests
         verify(softAssert).recordFailedAssertion(any(SAXException.class));
     }
 
+    @Test
+    void shouldValidateXmlFileAgainstXsd(@TempDir Path tempDir)
+    {
+        xmlValidationSteps.validateXmlFileAgainstXsd(createXmlFile(tempDir), loadXsd());
+        verifyNoInteractions(softAssert);
+    }
+
+    @Test
+    void shouldProcessMissingFileOnXsdValidation(@TempDir Path tempDir)
+    {
+        xmlValidationSteps.validateXmlFileAgainstXsd(tempDir.resolve("missing.xml").toString(), loadXsd());
+        verify(softAssert).recordFailedAssertion(any(IOException.class));
+    }
+
     @Test
     void shouldSaveTransformedXmlToVariable()
     {
@@ -114,6 +194,18 @@ class XmlStepsTests
         verify(softAssert).recordFailedAssertion(any(TransformerException.class));
     }
 
+    private static String createXmlFile(Path directory)
+    {
+        try
+        {
+            return Files.writeString(directory.resolve("test.xml"), XML).toString();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private String loadXsd()
     {
         return loadResource("test.xsd");
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.util.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class StreamingXPathTests
+{
+    private static final String XML = "<catalog><product><price>1</price><variant><price>2</price></variant></product>"
+            + "<product xmlns=\"urn:other\"><price>3</price></product><product/></catalog>";
+
+    @ParameterizedTest
+    @CsvSource({
+        "/catalog/product,       2",
+        "//price,                2",
+        "/catalog/product/price, 1",
+        "//product//price,       2",
+        "/catalog//*,            7",
+        "//*,                    8",
+        "/product,               0"
+    })
+    void shouldCountElements(String xpath, long expected) throws XMLStreamException
+    {
+        StreamingXPath streamingXPath = StreamingXPath.compile(xpath).get();
+        assertEquals(expected, streamingXPath.count(new StringReader(XML), Long.MAX_VALUE));
+    }
+
+    @Test
+    void shouldStopAtLimit() throws XMLStreamException
+    {
+        StreamingXPath streamingXPath = StreamingXPath.compile("//price").get();
+        assertEquals(1, streamingXPath.count(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8)), 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "product", "/catalog/product[1]", "//price/text()", "/catalog/x:product", "//@id" })
+    void shouldNotSupportExpression(String xpath)
+    {
+        assertTrue(StreamingXPath.compile(xpath).isEmpty());
+    }
+
+    @Test
+    void shouldFailOnMalformedXml()
+    {
+        StreamingXPath streamingXPath = StreamingXPath.compile("//price").get();
+        assertThrows(XMLStreamException.class,
+            () -> streamingXPath.count(new StringReader("<catalog><price></catalog>"), Long.MAX_VALUE));
+    }
+}
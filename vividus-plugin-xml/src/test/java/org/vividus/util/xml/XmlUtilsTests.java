@@ -22,7 +22,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -45,6 +47,14 @@ class XmlUtilsTests
             + "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">"
             + "  <xs:element name=\"test\" type=\"xs:string\"/>"
             + "</xs:schema>";
+    private static final String XSLT =
+            "<xsl:stylesheet xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\" version=\"1.0\">"
+            + "  <xsl:output method=\"xml\" omit-xml-declaration=\"yes\" />"
+            + "  <xsl:template match=\"test\">"
+            + "        <xsl:copy>"
+            + "           <xsl:text>xslt test</xsl:text>"
+            + "        </xsl:copy>"
+            + "    </xsl:template>" + "</xsl:stylesheet>";
 
     @Test
     void shouldReturnXmlByXpath()
@@ -52,6 +62,14 @@ class XmlUtilsTests
         assertEquals(Optional.of("value1"), XmlUtils.getXmlByXpath(XML, "//data/text()"));
     }
 
+    @Test
+    void shouldReuseCompiledXpath()
+    {
+        String xpath = "//data[2]/text()";
+        assertEquals(Optional.of("value2"), XmlUtils.getXmlByXpath(XML, xpath));
+        assertEquals(Optional.of("value3"), XmlUtils.getXmlByXpath("<test><data/><data>value3</data></test>", xpath));
+    }
+
     @Test
     void shouldThrowExceptionInCaseOfInvalidXpath()
     {
@@ -64,6 +82,20 @@ class XmlUtilsTests
         assertThat(XmlUtils.convertToDocument(XML), instanceOf(Document.class));
     }
 
+    @Test
+    void shouldConvertXmlStreamToDocument()
+    {
+        Document document = XmlUtils.convertToDocument(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(2, XmlUtils.countNodesByXpath(document, "//data"));
+    }
+
+    @Test
+    void shouldThrowExceptionInCaseOfInvalidXpathOnCounting()
+    {
+        Document document = XmlUtils.convertToDocument(XML);
+        assertThrows(IllegalStateException.class, () -> XmlUtils.countNodesByXpath(document, "<invalidXpath>"));
+    }
+
     @Test
     void shouldThrowExceptionInCaseOfInvalidXmlOnConversion()
     {
@@ -82,23 +114,45 @@ class XmlUtilsTests
         assertThrows(SAXException.class, () -> XmlUtils.validateXmlAgainstXsd(XML, XSD));
     }
 
+    @Test
+    void shouldValidateXmlStreamAgainstXsd() throws IOException, SAXException
+    {
+        XmlUtils.validateXmlAgainstXsd(new ByteArrayInputStream("<test>value</test>".getBytes(StandardCharsets.UTF_8)),
+                XSD);
+    }
+
+    @Test
+    void shouldReuseCompiledXsd() throws IOException, SAXException
+    {
+        XmlUtils.validateXmlAgainstXsd("<test>value</test>", XSD);
+        XmlUtils.validateXmlAgainstXsd("<test>another value</test>", XSD);
+        assertThrows(SAXException.class, () -> XmlUtils.validateXmlAgainstXsd(XML, XSD));
+    }
+
+    @Test
+    void shouldThrowExceptionOnValidationAgainstInvalidXsd()
+    {
+        for (int i = 0; i < 2; i++)
+        {
+            assertThrows(SAXException.class, () -> XmlUtils.validateXmlAgainstXsd(XML, "<xs:schema/>"));
+        }
+    }
+
     @Test
     void shouldTransformXmlSuccessfully()
     {
-        String xslt = "<xsl:stylesheet xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\" version=\"1.0\">"
-                + "  <xsl:output method=\"xml\" omit-xml-declaration=\"yes\" />"
-                + "  <xsl:template match=\"test\">"
-                + "        <xsl:copy>"
-                + "           <xsl:text>xslt test</xsl:text>"
-                + "        </xsl:copy>"
-                + "    </xsl:template>" + "</xsl:stylesheet>";
-        XmlUtils.transform(XML, xslt, xml -> assertEquals("<test>xslt test</test>", xml), Assertions::fail);
+        XmlUtils.transform(XML, XSLT, xml -> assertEquals("<test>xslt test</test>", xml), Assertions::fail);
+        XmlUtils.transform("<test/>", XSLT, xml -> assertEquals("<test>xslt test</test>", xml), Assertions::fail);
     }
 
     @Test
     void shouldProvideExceptionThrownOnXmlTransformation()
     {
-        XmlUtils.transform(XML, "<xsl />", xml -> fail(), e -> assertThat(e, instanceOf(TransformerException.class)));
+        for (int i = 0; i < 2; i++)
+        {
+            XmlUtils.transform(XML, "<xsl />", xml -> fail(),
+                e -> assertThat(e, instanceOf(TransformerException.class)));
+        }
     }
 
     static Stream<Arguments> checkXmlFormatting()
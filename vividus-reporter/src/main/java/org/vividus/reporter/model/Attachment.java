@@ -17,6 +17,7 @@
 package org.vividus.reporter.model;
 
 import java.net.URLConnection;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.common.io.Files;
 
@@ -24,15 +25,13 @@ import org.apache.commons.lang3.ArrayUtils;
 
 public class Attachment
 {
-    private final byte[] content;
+    private final CompletableFuture<byte[]> content;
     private final String title;
     private final String contentType;
 
     public Attachment(byte[] content, String title, String contentType)
     {
-        this.content = ArrayUtils.clone(content);
-        this.title = title;
-        this.contentType = contentType;
+        this(CompletableFuture.completedFuture(ArrayUtils.clone(content)), title, contentType);
     }
 
     public Attachment(byte[] content, String fileName)
@@ -40,6 +39,24 @@ public class Attachment
         this(content, Files.getNameWithoutExtension(fileName), probeContentType(fileName));
     }
 
+    /**
+     * Creates attachment which content is still being produced (e.g. encoded in background), reporters are able to
+     * register such attachment immediately and store its content once it's available.
+     * @param content future content of the attachment
+     * @param fileName attachment file name used to build title and detect content type
+     */
+    public Attachment(CompletableFuture<byte[]> content, String fileName)
+    {
+        this(content, Files.getNameWithoutExtension(fileName), probeContentType(fileName));
+    }
+
+    private Attachment(CompletableFuture<byte[]> content, String title, String contentType)
+    {
+        this.content = content;
+        this.title = title;
+        this.contentType = contentType;
+    }
+
     private static String probeContentType(String fileName)
     {
         return fileName.endsWith(".json") ? "application/json" : URLConnection.guessContentTypeFromName(fileName);
@@ -47,7 +64,17 @@ public class Attachment
 
     public byte[] getContent()
     {
-        return ArrayUtils.clone(content);
+        return ArrayUtils.clone(content.join());
+    }
+
+    public CompletableFuture<byte[]> getAsyncContent()
+    {
+        return content.thenApply(ArrayUtils::clone);
+    }
+
+    public boolean isContentAvailable()
+    {
+        return content.isDone();
     }
 
     public String getTitle()
@@ -18,8 +18,11 @@ package org.vividus.reporter.model;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -64,4 +67,18 @@ class AttachmentTests
     {
         assertEquals(expectedContentType, new Attachment(CONTENT, fileName).getContentType());
     }
+
+    @Test
+    void testDeferredContent()
+    {
+        CompletableFuture<byte[]> content = new CompletableFuture<>();
+        Attachment deferred = new Attachment(content, "screenshot.png");
+        CompletableFuture<byte[]> asyncContent = deferred.getAsyncContent();
+        assertFalse(deferred.isContentAvailable());
+        assertEquals("image/png", deferred.getContentType());
+        content.complete(CONTENT);
+        assertTrue(deferred.isContentAvailable());
+        assertArrayEquals(CONTENT, asyncContent.join());
+        assertArrayEquals(CONTENT, deferred.getContent());
+    }
 }
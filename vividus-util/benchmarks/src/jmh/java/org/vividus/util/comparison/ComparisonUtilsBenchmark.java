@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.util.comparison;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.vividus.util.comparison.ComparisonUtils.EntryComparisonResult;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ComparisonUtilsBenchmark
+{
+    private static final int COLUMNS_COUNT = 10;
+
+    @Param({ "1000", "200000" })
+    private int rowsCount;
+
+    private List<Map<String, Object>> table1;
+    private List<Map<String, Object>> table2;
+
+    @Setup
+    public void setUp()
+    {
+        table1 = createTable(rowsCount);
+        table2 = createTable(rowsCount);
+    }
+
+    @Benchmark
+    public List<List<EntryComparisonResult>> compareListsOfMaps()
+    {
+        return ComparisonUtils.compareListsOfMaps(table1, table2);
+    }
+
+    private static List<Map<String, Object>> createTable(int rowsCount)
+    {
+        return IntStream.range(0, rowsCount).mapToObj(row -> {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (int column = 0; column < COLUMNS_COUNT; column++)
+            {
+                map.put("column" + column, column % 2 == 0 ? row : "value" + row);
+            }
+            return map;
+        }).collect(Collectors.toList());
+    }
+}
@@ -75,6 +75,16 @@ public final class ResourceUtils
         return loadResource(clazz, resourceName, IOUtils::toByteArray);
     }
 
+    /**
+     * Searches for resource from the classpath root and return URL if it's found, otherwise throws exception
+     * @param resourceName Resource name
+     * @return resource URL
+     */
+    public static URL findResource(String resourceName)
+    {
+        return findResource(ResourceUtils.class, ensureRootPath(resourceName));
+    }
+
     /**
      * Searches for resource and return URL if it's found, otherwise throws exception
      * @param clazz Class to search resource relatively
@@ -18,28 +18,40 @@ package org.vividus.util.comparison;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.BooleanSupplier;
-import java.util.function.Function;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 
 public final class ComparisonUtils
 {
+    private static final int PARALLEL_COMPARISON_THRESHOLD = 10_000;
+
     private ComparisonUtils()
     {
     }
 
     public static List<EntryComparisonResult> compareMaps(Map<?, ?> var1Map, Map<?, ?> var2Map)
     {
-        return Stream.concat(var1Map.keySet().stream(), var2Map.keySet().stream())
-                .distinct()
-                .map(k -> new EntryComparisonResult(k, convertForConsistency(var1Map.get(k)),
-                        convertForConsistency(var2Map.get(k))))
-                .collect(Collectors.toList());
+        List<EntryComparisonResult> results = new ArrayList<>(Math.max(var1Map.size(), var2Map.size()));
+        for (Map.Entry<?, ?> entry : var1Map.entrySet())
+        {
+            Object key = entry.getKey();
+            results.add(new EntryComparisonResult(key, convertForConsistency(entry.getValue()),
+                    convertForConsistency(var2Map.get(key))));
+        }
+        for (Map.Entry<?, ?> entry : var2Map.entrySet())
+        {
+            Object key = entry.getKey();
+            if (!var1Map.containsKey(key))
+            {
+                results.add(new EntryComparisonResult(key, null, convertForConsistency(entry.getValue())));
+            }
+        }
+        return results;
     }
 
     public static List<EntryComparisonResult> checkMapContainsSubMap(Map<?, ?> map, Map<?, ?> subMap)
@@ -50,35 +62,47 @@ public final class ComparisonUtils
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Compares two lists of maps row by row: the rows with the same index are compared with each other, the rows
+     * missing in one of the lists are compared with an empty map. Large lists are compared in parallel, the order of
+     * the results always matches the order of the rows.
+     * @param variable1 The first list of maps
+     * @param variable2 The second list of maps
+     * @return The list of comparison results per row
+     */
     @SuppressWarnings("unchecked")
     public static List<List<EntryComparisonResult>> compareListsOfMaps(Object variable1, Object variable2)
     {
-        List<List<EntryComparisonResult>> results = new ArrayList<>();
-        List<Map<?, ?>> listOfMaps1 = new ArrayList<>((List<Map<?, ?>>) variable1);
-        List<Map<?, ?>> listOfMaps2 = new ArrayList<>((List<Map<?, ?>>) variable2);
-        Function<List<Map<?, ?>>, Map<?, ?>> removeFirstFunction = lom -> lom.remove(0);
-        compareTables(() -> isNotEmptyList(listOfMaps1) && isNotEmptyList(listOfMaps2), listOfMaps1, listOfMaps2,
-                results, removeFirstFunction, removeFirstFunction);
-        compareTables(() -> isNotEmptyList(listOfMaps1), listOfMaps1, listOfMaps2, results, removeFirstFunction,
-            lom -> Collections.emptyMap());
-        compareTables(() -> isNotEmptyList(listOfMaps2), listOfMaps1, listOfMaps2, results,
-            lom -> Collections.emptyMap(), removeFirstFunction);
-        return results;
+        List<Map<?, ?>> listOfMaps1 = asRandomAccessList((List<Map<?, ?>>) variable1);
+        List<Map<?, ?>> listOfMaps2 = asRandomAccessList((List<Map<?, ?>>) variable2);
+        int size1 = listOfMaps1.size();
+        int size2 = listOfMaps2.size();
+        int rowsCount = Math.max(size1, size2);
+        IntFunction<List<EntryComparisonResult>> rowComparator = i -> compareMaps(getRow(listOfMaps1, size1, i),
+                getRow(listOfMaps2, size2, i));
+        if (rowsCount < PARALLEL_COMPARISON_THRESHOLD)
+        {
+            List<List<EntryComparisonResult>> results = new ArrayList<>(rowsCount);
+            for (int i = 0; i < rowsCount; i++)
+            {
+                results.add(rowComparator.apply(i));
+            }
+            return results;
+        }
+        return IntStream.range(0, rowsCount)
+                .parallel()
+                .mapToObj(rowComparator)
+                .collect(Collectors.toCollection(() -> new ArrayList<>(rowsCount)));
     }
 
-    private static boolean isNotEmptyList(List<?> list)
+    private static <T> List<T> asRandomAccessList(List<T> list)
     {
-        return !list.isEmpty();
+        return list instanceof RandomAccess ? list : new ArrayList<>(list);
     }
 
-    private static void compareTables(BooleanSupplier condition, List<Map<?, ?>> table1, List<Map<?, ?>> table2,
-            List<List<EntryComparisonResult>> results, Function<List<Map<?, ?>>, Map<?, ?>> tableRowProvider1,
-            Function<List<Map<?, ?>>, Map<?, ?>> tableRowProvider2)
+    private static Map<?, ?> getRow(List<Map<?, ?>> table, int size, int index)
     {
-        while (condition.getAsBoolean())
-        {
-            results.add(compareMaps(tableRowProvider1.apply(table1), tableRowProvider2.apply(table2)));
-        }
+        return index < size ? table.get(index) : Map.of();
     }
 
     private static Object convertForConsistency(Object object)
@@ -88,6 +88,12 @@ public class ResourceUtilsTests
         return input.replaceAll("\r\n|\n", System.lineSeparator());
     }
 
+    @Test
+    public void testResourceSearchFromRootIsSuccessful()
+    {
+        assertEquals(ResourceUtils.class.getResource("/" + RESOURCE_NAME), ResourceUtils.findResource(RESOURCE_NAME));
+    }
+
     @Test
     public void testFileLoadingIsSuccessful()
     {
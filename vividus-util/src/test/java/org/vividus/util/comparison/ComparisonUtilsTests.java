@@ -23,9 +23,11 @@ import static org.hamcrest.Matchers.is;
 import java.math.BigDecimal;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.hamcrest.collection.IsIterableWithSize;
 import org.junit.jupiter.api.Assertions;
@@ -164,6 +166,46 @@ class ComparisonUtilsTests
         assertThat(firstRowResult, IsIterableWithSize.iterableWithSize(2));
     }
 
+    @Test
+    void shouldCompareTablesOfDifferentSizes()
+    {
+        List<List<EntryComparisonResult>> result = ComparisonUtils.compareListsOfMaps(
+                List.of(Map.of(FIRST_COLUMN, 1), Map.of(FIRST_COLUMN, 2)), List.of(Map.of(FIRST_COLUMN, 1)));
+        assertThat(result, IsIterableWithSize.iterableWithSize(2));
+        EntryComparisonResult result1 = result.get(0).get(0);
+        EntryComparisonResult result2 = result.get(1).get(0);
+        Assertions.assertAll(COMPARISON_RESULT,
+            () -> Assertions.assertTrue(result1.isPassed()),
+            () -> Assertions.assertFalse(result2.isPassed()),
+            () -> Assertions.assertEquals(FIRST_COLUMN, result2.getKey()),
+            () -> Assertions.assertEquals(BigDecimal.valueOf(2), result2.getLeft()),
+            () -> Assertions.assertNull(result2.getRight()));
+    }
+
+    @Test
+    void shouldCompareLargeTablesPreservingRowsOrder()
+    {
+        int rowsCount = 20_000;
+        List<Map<String, Integer>> table1 = IntStream.range(0, rowsCount)
+                .mapToObj(i -> Map.of(FIRST_COLUMN, i))
+                .collect(Collectors.toCollection(LinkedList::new));
+        List<Map<String, Integer>> table2 = IntStream.range(0, rowsCount + 1)
+                .mapToObj(i -> Map.of(FIRST_COLUMN, i))
+                .collect(Collectors.toList());
+        List<List<EntryComparisonResult>> result = ComparisonUtils.compareListsOfMaps(table1, table2);
+        assertThat(result, IsIterableWithSize.iterableWithSize(rowsCount + 1));
+        for (int i = 0; i < rowsCount; i++)
+        {
+            EntryComparisonResult rowResult = result.get(i).get(0);
+            Assertions.assertTrue(rowResult.isPassed());
+            Assertions.assertEquals(BigDecimal.valueOf(i), rowResult.getLeft());
+        }
+        EntryComparisonResult lastRowResult = result.get(rowsCount).get(0);
+        Assertions.assertFalse(lastRowResult.isPassed());
+        Assertions.assertNull(lastRowResult.getLeft());
+        Assertions.assertEquals(BigDecimal.valueOf(rowsCount), lastRowResult.getRight());
+    }
+
     private <K, V> Map<K, V> mapOf(K k, V v)
     {
         Map<K, V> map = new HashMap<>();